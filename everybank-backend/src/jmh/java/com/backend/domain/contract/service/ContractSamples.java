@@ -0,0 +1,119 @@
+package com.backend.domain.contract.service;
+
+import com.backend.domain.contract.domain.ContractCondition;
+import com.backend.domain.contract.domain.DepositContract;
+import com.backend.domain.contract.domain.SavingContract;
+import com.backend.domain.contract.repository.InterestAccrualRepository;
+import com.backend.domain.product.domain.DepositProductOption;
+import com.backend.domain.product.domain.SavingProductOption;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.Random;
+
+// 벤치마크용 계약 표본 (고정 시드 - 실행마다 같은 분포)
+// - 저축기간: 6개월 15%, 12개월 45%, 24개월 25%, 36개월 15%
+// - 약정이율: 2.00% ~ 4.50% (0.05 단위), 단리 70% / 복리 30%
+// - 기준일: 계약일 ~ 만기일 + 30일 사이 균등
+final class ContractSamples {
+
+    static final int SIZE = 1 << 12;
+    static final int MASK = SIZE - 1;
+
+    static final LocalDate BASE_DATE = LocalDate.of(2025, 6, 15);
+    private static final long SEED = 42L;
+
+    final LocalDate[] contractDates = new LocalDate[SIZE];
+    final LocalDate[] maturityDates = new LocalDate[SIZE];
+    final LocalDate[] currentDates = new LocalDate[SIZE];
+    final BigDecimal[] rates = new BigDecimal[SIZE];
+    final char[] rateTypes = new char[SIZE];
+    final int[] terms = new int[SIZE];
+    final int[] paymentCounts = new int[SIZE];
+    final long[] monthlyPayments = new long[SIZE];
+    final long[] principals = new long[SIZE];
+    final long[] holdingDays = new long[SIZE];
+
+    final DepositContract[] depositContracts = new DepositContract[SIZE];
+    final SavingContract[] savingContracts = new SavingContract[SIZE];
+
+    ContractSamples() {
+        Random random = new Random(SEED);
+
+        for (int i = 0; i < SIZE; i++) {
+            int term = randomTerm(random);
+            LocalDate contractDate = BASE_DATE.minusDays(random.nextInt(3 * 365));
+            LocalDate maturityDate = contractDate.plusMonths(term);
+            long span = maturityDate.toEpochDay() - contractDate.toEpochDay() + 30;
+            LocalDate currentDate = contractDate.plusDays(random.nextInt((int) span + 1));
+
+            contractDates[i] = contractDate;
+            maturityDates[i] = maturityDate;
+            currentDates[i] = currentDate;
+            rates[i] = BigDecimal.valueOf(200 + 5 * random.nextInt(51), 2);
+            rateTypes[i] = random.nextInt(10) < 7 ? 'S' : 'M';
+            terms[i] = term;
+            paymentCounts[i] = (int) Math.min(term, Math.max(0, contractDate.until(currentDate).toTotalMonths()));
+            monthlyPayments[i] = 10_000L * (1 + random.nextInt(100));
+            principals[i] = 1_000_000L * (1 + random.nextInt(100));
+            holdingDays[i] = currentDate.toEpochDay() - contractDate.toEpochDay();
+
+            depositContracts[i] = DepositContract.builder()
+                    .contractId((long) i)
+                    .contractDate(contractDate)
+                    .maturityDate(maturityDate)
+                    .payment(principals[i])
+                    .contractCondition(ContractCondition.IN_PROGRESS)
+                    .depositProductOption(DepositProductOption.builder()
+                            .saveTerm(term)
+                            .interestRate2(rates[i])
+                            .interestRateType(rateTypes[i])
+                            .build())
+                    .build();
+
+            savingContracts[i] = SavingContract.builder()
+                    .contractId((long) i)
+                    .contractDate(contractDate)
+                    .maturityDate(maturityDate)
+                    .monthlyPayment(monthlyPayments[i])
+                    .currentPaymentCount(paymentCounts[i])
+                    .contractCondition(ContractCondition.IN_PROGRESS)
+                    .savingProductOption(SavingProductOption.builder()
+                            .saveTerm(term)
+                            .interestRate2(rates[i])
+                            .interestRateType(rateTypes[i])
+                            .build())
+                    .build();
+        }
+    }
+
+    private static int randomTerm(Random random) {
+        int p = random.nextInt(100);
+        if (p < 15) return 6;
+        if (p < 60) return 12;
+        if (p < 85) return 24;
+        return 36;
+    }
+
+    // DB 없이 쓰는 계산 빈 (스프링 컨텍스트 없이 직접 조립)
+    static ContractInterestCalculator calculator() {
+        CompoundFactorCache compoundFactorCache = new CompoundFactorCache(() -> 36);
+        return new ContractInterestCalculator(new SavingInterestEngine(compoundFactorCache), compoundFactorCache);
+    }
+
+    // 적립 테이블이 비어 있는 상태 (항상 직접 계산 경로)
+    static InterestAccrualService emptyAccrualService(ContractInterestCalculator calculator) {
+        InterestAccrualRepository repository = (InterestAccrualRepository) Proxy.newProxyInstance(
+                InterestAccrualRepository.class.getClassLoader(),
+                new Class<?>[]{InterestAccrualRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getReturnType() == Optional.class) {
+                        return Optional.empty();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        return new InterestAccrualService(repository, calculator);
+    }
+}
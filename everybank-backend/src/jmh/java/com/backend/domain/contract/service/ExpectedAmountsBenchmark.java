@@ -0,0 +1,36 @@
+package com.backend.domain.contract.service;
+
+import com.backend.domain.contract.dto.ContractDetailResponseDto;
+import org.openjdk.jmh.annotations.*;
+
+// 계약 상세 예상금액 계산 처리량/할당량 (이자 적립 테이블이 비어 직접 계산하는 경우)
+// ./gradlew jmh -PjmhIncludes=ExpectedAmountsBenchmark
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ExpectedAmountsBenchmark {
+
+    private ContractSamples samples;
+    private ContractExpectedAmountCalculator expectedAmountCalculator;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        samples = new ContractSamples();
+        InterestAccrualService interestAccrualService = ContractSamples.emptyAccrualService(ContractSamples.calculator());
+        expectedAmountCalculator = new ContractExpectedAmountCalculator(interestAccrualService);
+    }
+
+    private int next() {
+        return cursor++ & ContractSamples.MASK;
+    }
+
+    @Benchmark
+    public ContractDetailResponseDto.ExpectedAmountsDto depositExpectedAmounts() {
+        return expectedAmountCalculator.calculateDepositExpectedAmounts(samples.depositContracts[next()]);
+    }
+
+    @Benchmark
+    public ContractDetailResponseDto.ExpectedAmountsDto savingExpectedAmounts() {
+        return expectedAmountCalculator.calculateSavingExpectedAmounts(samples.savingContracts[next()]);
+    }
+}
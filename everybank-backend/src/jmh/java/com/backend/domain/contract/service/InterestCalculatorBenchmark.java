@@ -0,0 +1,80 @@
+package com.backend.domain.contract.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// 이자 계산 메서드 처리량/할당량 (./gradlew jmh -PjmhIncludes=InterestCalculatorBenchmark)
+// - legacySavingInterestLoop: 회차별 반복 계산 (SavingInterestEngine 도입 전 기준선)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class InterestCalculatorBenchmark {
+
+    private ContractSamples samples;
+    private ContractInterestCalculator calculator;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        samples = new ContractSamples();
+        calculator = ContractSamples.calculator();
+    }
+
+    private int next() {
+        return cursor++ & ContractSamples.MASK;
+    }
+
+    @Benchmark
+    public long savingInterestByActualPayments() {
+        int i = next();
+        return calculator.calculateSavingInterestByActualPayments(samples.monthlyPayments[i], samples.rates[i],
+                samples.rateTypes[i], samples.contractDates[i], samples.currentDates[i], samples.maturityDates[i],
+                samples.paymentCounts[i]);
+    }
+
+    @Benchmark
+    public long legacySavingInterestLoop() {
+        int i = next();
+        return legacySavingInterest(samples.monthlyPayments[i], samples.rates[i], samples.rateTypes[i],
+                samples.contractDates[i], samples.currentDates[i], samples.maturityDates[i], samples.paymentCounts[i]);
+    }
+
+    @Benchmark
+    public long depositInterestByDays() {
+        int i = next();
+        return calculator.calculateDepositInterestByDays(samples.principals[i], samples.rates[i],
+                samples.contractDates[i].until(samples.currentDates[i]).getDays(), samples.rateTypes[i]);
+    }
+
+    @Benchmark
+    public BigDecimal earlyTerminationRate() {
+        int i = next();
+        return calculator.calculateEarlyTerminationRate(samples.rates[i], samples.holdingDays[i]);
+    }
+
+    // SavingInterestEngine 도입 전 회차별 계산 (비교 기준)
+    private static long legacySavingInterest(long monthlyPayment, BigDecimal yearlyRate, char rateType,
+                                             LocalDate contractDate, LocalDate currentDate, LocalDate maturityDate,
+                                             int currentPaymentCount) {
+        double rate = yearlyRate.doubleValue() / 100.0;
+        double dailyRate = rate / 365.0;
+        long totalInterest = 0;
+
+        for (int i = 1; i <= currentPaymentCount; i++) {
+            LocalDate paymentDate = contractDate.plusMonths(i);
+            LocalDate endDate = currentDate.isBefore(maturityDate) ? currentDate : maturityDate;
+            long daysFromPayment = paymentDate.until(endDate).getDays();
+
+            if (daysFromPayment <= 0) continue;
+
+            if (rateType == 'S') {
+                totalInterest += Math.round(monthlyPayment * dailyRate * daysFromPayment);
+            } else {
+                double compound = Math.pow(1 + dailyRate, daysFromPayment);
+                totalInterest += Math.round(monthlyPayment * (compound - 1));
+            }
+        }
+        return totalInterest;
+    }
+}
@@ -13,7 +13,7 @@ import com.backend.domain.product.repository.SavingProductOptionRepository;
 import com.backend.domain.product.repository.SavingProductRepository;
 import com.backend.domain.transaction.domain.Transaction;
 import com.backend.domain.transaction.domain.TransactionType;
-import com.backend.domain.transaction.repository.TransactionRepository;
+import com.backend.domain.transaction.repository.TransactionJournal;
 import com.backend.domain.user.domain.User;
 import com.backend.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -33,10 +33,13 @@ import java.util.List;
 @Order(2)
 public class TestDataConfig implements CommandLineRunner {
 
+    // 입출금계좌 월 순입금 (월급 600만원 - 적금 50만원)
+    private static final long CHECKING_MONTHLY_NET = 6000000L - 500000L;
+
     private final UserRepository userRepository;
     private final AccountRepository accountRepository;
     private final SavingContractRepository savingContractRepository;
-    private final TransactionRepository transactionRepository;
+    private final TransactionJournal transactionJournal;
     private final SavingProductRepository savingProductRepository;
     private final SavingProductOptionRepository savingProductOptionRepository;
     private final PasswordEncoder passwordEncoder;
@@ -107,7 +110,7 @@ public class TestDataConfig implements CommandLineRunner {
         Account account = Account.builder()
                 .userId(userId)
                 .companyCode("0010001") // KB국민은행
-                .currentBalance(10000000L) // 1천만원 (충분한 잔액)
+                .currentBalance(CHECKING_MONTHLY_NET * 24) // 24개월 (월급 - 적금 납입) 누적 = 1억 3200만원
                 .accountType(AccountType.CHECK)
                 .accountState(AccountState.ACTIVE)
                 .lastTransactionDate(LocalDateTime.now().minusDays(1))
@@ -177,8 +180,11 @@ public class TestDataConfig implements CommandLineRunner {
                     .toAccountId(savingAccount.getId())
                     .createdAt(paymentTime)
                     .currentBalance(500000L * (i + 1)) // 적금 계좌 잔액 누적
+                    .fromBalance(CHECKING_MONTHLY_NET * (i + 1)) // 같은 날 9시 월급 입금 후 출금
+                    .toBalance(500000L * (i + 1))
                     .build();
-            transactionRepository.save(tx);
+            // 원장 분개/계좌별 통계/outbox 도 함께 기록되도록 저널로 기록
+            transactionJournal.append(tx);
         }
 
         log.info("💰 적금 납입 내역 생성 완료: 월 50만원 × 24회 = 총 {}원", 500000L * 24);
@@ -199,9 +205,10 @@ public class TestDataConfig implements CommandLineRunner {
                     .fromAccountId(null) // 외부에서
                     .toAccountId(checkingAccount.getId())
                     .createdAt(depositTime)
-                    .currentBalance(checkingAccount.getCurrentBalance())
+                    .currentBalance(CHECKING_MONTHLY_NET * i + 6000000L)
+                    .toBalance(CHECKING_MONTHLY_NET * i + 6000000L)
                     .build();
-            transactionRepository.save(tx);
+            transactionJournal.append(tx);
         }
 
         log.info("💸 입출금계좌 입금 내역 생성 완료: 월급 + 보너스");
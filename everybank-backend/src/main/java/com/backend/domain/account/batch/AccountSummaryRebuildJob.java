@@ -0,0 +1,157 @@
+package com.backend.domain.account.batch;
+
+import com.backend.domain.account.repository.AccountJdbcRepository;
+import com.backend.domain.account.service.AccountService;
+import com.backend.domain.account.service.AccountSummaryStore;
+import com.backend.global.batch.BatchExecutorConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 계좌 요약 전체 재생성 (원본 테이블 → Redis)
+// - 기존 요약을 모두 지운 뒤 계좌를 가진 사용자를 keyset 청크로 읽어 워커 풀에서 병렬 재생성
+// - 기동 시 실행: ddl-auto 로 DB 가 새로 만들어지면 Redis 에 남은 이전 요약이 맞지 않으므로 테스트 데이터 생성 후 다시 만듦
+// - 실행 중 들어온 이벤트는 세대 비교로 이벤트 쪽 결과가 우선함
+@Slf4j
+@Component
+@Order(3)
+public class AccountSummaryRebuildJob implements CommandLineRunner {
+
+    private final AccountJdbcRepository accountJdbcRepository;
+    private final AccountSummaryStore accountSummaryStore;
+    private final AccountService accountService;
+    private final ThreadPoolTaskExecutor batchWorkerExecutor;
+    private final int chunkSize;
+    private final boolean enabled;
+    private final boolean rebuildOnStartup;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public AccountSummaryRebuildJob(AccountJdbcRepository accountJdbcRepository,
+                                    AccountSummaryStore accountSummaryStore,
+                                    AccountService accountService,
+                                    @Qualifier(BatchExecutorConfig.BATCH_WORKER_EXECUTOR) ThreadPoolTaskExecutor batchWorkerExecutor,
+                                    @Value("${everybank.account-summary.rebuild-chunk-size:500}") int chunkSize,
+                                    @Value("${everybank.account-summary.enabled:true}") boolean enabled,
+                                    @Value("${everybank.account-summary.rebuild-on-startup:true}") boolean rebuildOnStartup) {
+        this.accountJdbcRepository = accountJdbcRepository;
+        this.accountSummaryStore = accountSummaryStore;
+        this.accountService = accountService;
+        this.batchWorkerExecutor = batchWorkerExecutor;
+        this.chunkSize = chunkSize;
+        this.enabled = enabled;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (!enabled || !rebuildOnStartup) {
+            return;
+        }
+        try {
+            run();
+        } catch (RuntimeException e) {
+            // Redis 장애로 기동이 막히지 않도록 로그만 남김 (요약은 조회 시 원본에서 만들어짐)
+            log.error("기동 시 계좌 요약 재생성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    public AccountSummaryRebuildResult run() {
+        if (!enabled) {
+            throw new IllegalStateException("계좌 요약이 비활성화되어 있습니다 (everybank.account-summary.enabled).");
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("계좌 요약 재생성 배치가 이미 실행 중입니다.");
+        }
+
+        try {
+            return execute();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private AccountSummaryRebuildResult execute() {
+        log.info("계좌 요약 재생성 시작 - 청크 크기: {}", chunkSize);
+        long startTime = System.nanoTime();
+
+        // 1. 기존 요약 삭제 (원본에 없는 사용자의 요약까지 제거)
+        long cleared = accountSummaryStore.clear();
+
+        // 2. 사용자 청크 단위 병렬 재생성
+        AtomicLong rebuilt = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        long users = 0;
+        int chunks = 0;
+        long lastUserId = 0;
+
+        while (true) {
+            List<Long> userIds = accountJdbcRepository.findUserIdsAfter(lastUserId, chunkSize);
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            lastUserId = userIds.get(userIds.size() - 1);
+            users += userIds.size();
+            int chunkNo = ++chunks;
+
+            futures.add(CompletableFuture.runAsync(
+                    () -> processChunk(chunkNo, userIds, rebuilt, failed), batchWorkerExecutor));
+
+            if (userIds.size() < chunkSize) {
+                break;
+            }
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        long elapsedMs = (System.nanoTime() - startTime) / 1_000_000;
+        AccountSummaryRebuildResult result = AccountSummaryRebuildResult.builder()
+                .cleared(cleared)
+                .chunks(chunks)
+                .users(users)
+                .rebuilt(rebuilt.get())
+                .failed(failed.get())
+                .elapsedMs(elapsedMs)
+                .usersPerSecond(throughput(users, elapsedMs))
+                .build();
+
+        log.info("계좌 요약 재생성 완료 - 삭제: {}, 청크: {}, 사용자: {}, 재생성: {}, 실패: {}, {}ms ({}명/s)",
+                cleared, chunks, users, result.getRebuilt(), result.getFailed(),
+                elapsedMs, String.format("%.1f", result.getUsersPerSecond()));
+        return result;
+    }
+
+    private void processChunk(int chunkNo, List<Long> userIds, AtomicLong rebuilt, AtomicLong failed) {
+        long chunkStart = System.nanoTime();
+        for (Long userId : userIds) {
+            try {
+                accountService.rebuildSummary(userId, accountSummaryStore.generation(userId));
+                rebuilt.incrementAndGet();
+            } catch (RuntimeException e) {
+                // 요약이 없는 사용자는 다음 조회 때 원본에서 만들어짐
+                failed.incrementAndGet();
+                log.warn("계좌 요약 재생성 실패 - 사용자: {}: {}", userId, e.getMessage());
+            }
+        }
+
+        long chunkMs = (System.nanoTime() - chunkStart) / 1_000_000;
+        log.debug("계좌 요약 청크 #{} - 사용자 {}~{}, {}ms", chunkNo,
+                userIds.get(0), userIds.get(userIds.size() - 1), chunkMs);
+    }
+
+    private double throughput(long count, long elapsedMs) {
+        return elapsedMs > 0 ? count * 1000.0 / elapsedMs : count;
+    }
+}
@@ -0,0 +1,17 @@
+package com.backend.domain.account.batch;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 계좌 요약 재생성 배치 실행 결과
+@Getter
+@Builder
+public class AccountSummaryRebuildResult {
+    private long cleared;             // 시작 시 삭제한 기존 요약 수
+    private int chunks;
+    private long users;
+    private long rebuilt;
+    private long failed;
+    private long elapsedMs;
+    private double usersPerSecond;
+}
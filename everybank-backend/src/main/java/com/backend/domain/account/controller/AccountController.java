@@ -6,20 +6,34 @@ import com.backend.domain.account.dto.CheckingBalanceDto;
 import com.backend.domain.account.dto.MyAccountListInfoDto;
 import com.backend.domain.account.service.AccountService;
 import com.backend.domain.transaction.dto.*;
+import com.backend.domain.transaction.service.AccountStatementService;
+import com.backend.domain.transaction.service.TransactionExportService;
 import com.backend.global.common.BaseResponse;
 import com.backend.global.common.code.SuccessCode;
+import com.backend.global.idempotency.IdempotencyStore;
 import com.backend.global.security.SecurityUser;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.YearMonth;
+import java.util.List;
 
 @RestController
 @RequestMapping("/my_account")
 @RequiredArgsConstructor
 public class AccountController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final AccountService accountService;
+    private final IdempotencyStore idempotencyStore;
+    private final TransactionExportService transactionExportService;
+    private final AccountStatementService accountStatementService;
 
     @GetMapping("")
     public ResponseEntity<BaseResponse<MyAccountListInfoDto>> getMyAccounts(@AuthenticationPrincipal SecurityUser securityUser) {
@@ -42,8 +56,11 @@ public class AccountController {
     @PostMapping("/deposit")
     public ResponseEntity<BaseResponse<TransactionResponseDto>> externalDeposit(
             @RequestBody ExternalDepositRequestDto requestDto,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @AuthenticationPrincipal SecurityUser securityUser) {
-        TransactionResponseDto transaction = accountService.externalDeposit(requestDto, securityUser);
+        TransactionResponseDto transaction = idempotencyStore.execute(
+                securityUser.getId(), "deposit", idempotencyKey, requestDto, TransactionResponseDto.class,
+                () -> accountService.externalDeposit(requestDto, securityUser));
         return BaseResponse.success(SuccessCode.CREATE_SUCCESS, transaction);
     }
 
@@ -51,8 +68,11 @@ public class AccountController {
     @PostMapping("/withdraw")
     public ResponseEntity<BaseResponse<TransactionResponseDto>> externalWithdraw(
             @RequestBody ExternalWithdrawRequestDto requestDto,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @AuthenticationPrincipal SecurityUser securityUser) {
-        TransactionResponseDto transaction = accountService.externalWithdraw(requestDto, securityUser);
+        TransactionResponseDto transaction = idempotencyStore.execute(
+                securityUser.getId(), "withdraw", idempotencyKey, requestDto, TransactionResponseDto.class,
+                () -> accountService.externalWithdraw(requestDto, securityUser));
         return BaseResponse.success(SuccessCode.CREATE_SUCCESS, transaction);
     }
 
@@ -60,17 +80,35 @@ public class AccountController {
     @PostMapping("/payment")
     public ResponseEntity<BaseResponse<TransactionResponseDto>> paymentToProduct(
             @RequestBody PaymentRequestDto requestDto,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @AuthenticationPrincipal SecurityUser securityUser) {
-        TransactionResponseDto transaction = accountService.paymentToProduct(requestDto, securityUser);
+        TransactionResponseDto transaction = idempotencyStore.execute(
+                securityUser.getId(), "payment", idempotencyKey, requestDto, TransactionResponseDto.class,
+                () -> accountService.paymentToProduct(requestDto, securityUser));
         return BaseResponse.success(SuccessCode.CREATE_SUCCESS, transaction);
     }
 
+    // 입출금계좌 → 여러 적금계좌 (일괄 납입)
+    @PostMapping("/payments/batch")
+    public ResponseEntity<BaseResponse<BatchPaymentResponseDto>> batchPaymentToProducts(
+            @RequestBody List<PaymentRequestDto> requestDtos,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @AuthenticationPrincipal SecurityUser securityUser) {
+        BatchPaymentResponseDto result = idempotencyStore.execute(
+                securityUser.getId(), "payments/batch", idempotencyKey, requestDtos, BatchPaymentResponseDto.class,
+                () -> accountService.batchPaymentToProducts(requestDtos, securityUser));
+        return BaseResponse.success(SuccessCode.CREATE_SUCCESS, result);
+    }
+
     // 금융상품 → 입출금계좌 (환급)
     @PostMapping("/refund")
     public ResponseEntity<BaseResponse<TransactionResponseDto>> refundFromProduct(
             @RequestBody RefundRequestDto requestDto,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @AuthenticationPrincipal SecurityUser securityUser) {
-        TransactionResponseDto transaction = accountService.refundFromProduct(requestDto, securityUser);
+        TransactionResponseDto transaction = idempotencyStore.execute(
+                securityUser.getId(), "refund", idempotencyKey, requestDto, TransactionResponseDto.class,
+                () -> accountService.refundFromProduct(requestDto, securityUser));
         return BaseResponse.success(SuccessCode.CREATE_SUCCESS, transaction);
     }
 
@@ -81,4 +119,32 @@ public class AccountController {
         return BaseResponse.success(SuccessCode.SELECT_SUCCESS, balance);
     }
 
-}
\ No newline at end of file
+    // 월 명세서 조회 (month: yyyy-MM, accountId 미지정 시 입출금계좌)
+    @GetMapping("/statements/{month}")
+    public ResponseEntity<BaseResponse<AccountStatementResponseDto>> getStatement(
+            @PathVariable YearMonth month,
+            @RequestParam(required = false) Integer accountId,
+            @AuthenticationPrincipal SecurityUser securityUser) {
+        AccountStatementResponseDto statement = accountStatementService.getStatement(securityUser.getId(), accountId, month);
+        return BaseResponse.success(SuccessCode.SELECT_SUCCESS, statement);
+    }
+
+    // 거래내역 내보내기 (format: csv / ndjson, accountId 미지정 시 입출금계좌)
+    // 응답 본문에 행 단위로 바로 기록하므로 기간과 관계없이 메모리 사용량 일정
+    @GetMapping("/transactions/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) Integer accountId,
+            @AuthenticationPrincipal SecurityUser securityUser) {
+        TransactionExportFormat exportFormat = TransactionExportFormat.parse(format);
+        Integer exportAccountId = transactionExportService.resolveAccountId(securityUser.getId(), accountId);
+
+        Long userId = securityUser.getId();
+        StreamingResponseBody body = output -> transactionExportService.export(userId, exportAccountId, exportFormat, output);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"transactions-" + exportAccountId + "." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+}
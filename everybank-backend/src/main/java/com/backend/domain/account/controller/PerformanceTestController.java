@@ -1,15 +1,33 @@
 package com.backend.domain.account.controller;
 
+import com.backend.domain.account.batch.AccountSummaryRebuildJob;
+import com.backend.domain.account.batch.AccountSummaryRebuildResult;
+import com.backend.domain.account.service.AccountService;
+import com.backend.domain.contract.batch.AutoDebitJob;
+import com.backend.domain.contract.batch.AutoDebitResult;
+import com.backend.domain.contract.batch.InterestAccrualJob;
+import com.backend.domain.contract.batch.InterestAccrualResult;
+import com.backend.domain.contract.batch.MaturitySettlementJob;
+import com.backend.domain.contract.batch.MaturitySettlementResult;
 import com.backend.domain.contract.service.ContractDetailService;
+import com.backend.domain.transaction.batch.LedgerOutboxRelay;
+import com.backend.domain.transaction.batch.LedgerOutboxRelayResult;
+import com.backend.domain.transaction.batch.LedgerReconciliationJob;
+import com.backend.domain.transaction.batch.LedgerReconciliationResult;
+import com.backend.domain.transaction.batch.MonthlyStatementJob;
+import com.backend.domain.transaction.batch.MonthlyStatementResult;
+import com.backend.domain.transaction.batch.TransactionPartitionMaintainer;
+import com.backend.global.concurrency.AccountLaneExecutor;
 import com.backend.global.security.SecurityUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -18,6 +36,16 @@ import java.util.Map;
 public class PerformanceTestController {
 
     private final ContractDetailService contractDetailService;
+    private final AccountLaneExecutor accountLaneExecutor;
+    private final AccountService accountService;
+    private final AutoDebitJob autoDebitJob;
+    private final MaturitySettlementJob maturitySettlementJob;
+    private final InterestAccrualJob interestAccrualJob;
+    private final TransactionPartitionMaintainer transactionPartitionMaintainer;
+    private final MonthlyStatementJob monthlyStatementJob;
+    private final LedgerReconciliationJob ledgerReconciliationJob;
+    private final AccountSummaryRebuildJob accountSummaryRebuildJob;
+    private final LedgerOutboxRelay ledgerOutboxRelay;
 
     @GetMapping("/performance/{accountId}")
     public ResponseEntity<Map<String, Object>> testPerformance(
@@ -28,4 +56,75 @@ public class PerformanceTestController {
 
         return ResponseEntity.ok(result);
     }
+
+    // /my_account 대시보드 조회 방식 비교 (배치 조회 vs 단일 프로젝션)
+    @GetMapping("/dashboard")
+    public ResponseEntity<Map<String, Object>> testDashboardPerformance(
+            @AuthenticationPrincipal SecurityUser securityUser) {
+        return ResponseEntity.ok(accountService.compareDashboardPerformance(securityUser.getId()));
+    }
+
+    // 적금 자동이체 배치 수동 실행 (기준일 미지정 시 오늘)
+    @PostMapping("/auto-debit")
+    public ResponseEntity<AutoDebitResult> runAutoDebit(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDate) {
+        return ResponseEntity.ok(autoDebitJob.run(dueDate != null ? dueDate : LocalDate.now()));
+    }
+
+    // 만기정산 배치 수동 실행 (같은 기준일로 다시 호출하면 미완료 파티션만 재개)
+    @PostMapping("/maturity-settlement")
+    public ResponseEntity<MaturitySettlementResult> runMaturitySettlement(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate runDate) {
+        return ResponseEntity.ok(maturitySettlementJob.run(runDate != null ? runDate : LocalDate.now()));
+    }
+
+    // 이자 적립 배치 수동 실행 (이미 적립된 계약은 건너뜀)
+    @PostMapping("/interest-accrual")
+    public ResponseEntity<InterestAccrualResult> runInterestAccrual(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate accrualDate) {
+        return ResponseEntity.ok(interestAccrualJob.run(accrualDate != null ? accrualDate : LocalDate.now()));
+    }
+
+    // 월 명세서 마감 배치 수동 실행 (month: yyyy-MM, 미지정 시 지난 달, 이미 마감된 계좌는 건너뜀)
+    @PostMapping("/monthly-statement")
+    public ResponseEntity<MonthlyStatementResult> runMonthlyStatement(@RequestParam(required = false) YearMonth month) {
+        return ResponseEntity.ok(monthlyStatementJob.run(month != null ? month : YearMonth.now().minusMonths(1)));
+    }
+
+    // 잔액-원장 대사 수동 실행 (incremental=false 면 전체 계좌, 불일치 상세는 reconciliation_drift)
+    @PostMapping("/reconciliation")
+    public ResponseEntity<LedgerReconciliationResult> runReconciliation(
+            @RequestParam(defaultValue = "true") boolean incremental) {
+        return ResponseEntity.ok(ledgerReconciliationJob.run(incremental));
+    }
+
+    // 계좌 요약(read model) 전체 재생성 (기존 요약 삭제 후 원본 테이블에서 병렬 재생성)
+    @PostMapping("/account-summary/rebuild")
+    public ResponseEntity<AccountSummaryRebuildResult> rebuildAccountSummary() {
+        return ResponseEntity.ok(accountSummaryRebuildJob.run());
+    }
+
+    // 거래내역 outbox 릴레이 수동 실행 (스케줄 릴레이가 실행 중이면 예외)
+    @PostMapping("/ledger-outbox/relay")
+    public ResponseEntity<LedgerOutboxRelayResult> relayLedgerOutbox() {
+        return ResponseEntity.ok(ledgerOutboxRelay.run());
+    }
+
+    // 거래내역 미래 파티션 생성 (새로 만든 파티션 이름 반환)
+    @PostMapping("/transaction-partitions")
+    public ResponseEntity<List<String>> ensureTransactionPartitions() {
+        return ResponseEntity.ok(transactionPartitionMaintainer.ensurePartitions());
+    }
+
+    // 거래내역 월 파티션 보관용 분리 (month: yyyy-MM)
+    @PostMapping("/transaction-partitions/detach")
+    public ResponseEntity<Map<String, Object>> detachTransactionPartition(@RequestParam YearMonth month) {
+        return ResponseEntity.ok(Map.of("detached", transactionPartitionMaintainer.detach(month)));
+    }
+
+    // 계좌 실행 레인 대기열 현황
+    @GetMapping("/lanes")
+    public ResponseEntity<AccountLaneExecutor.LaneStats> laneStats() {
+        return ResponseEntity.ok(accountLaneExecutor.getLaneStats());
+    }
 }
\ No newline at end of file
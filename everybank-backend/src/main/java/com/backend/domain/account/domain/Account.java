@@ -13,14 +13,18 @@ import java.time.LocalDateTime;
 
 @Data
 @Entity
-@Table(name = "account")
+@Table(name = "account", indexes = {
+        @Index(name = "idx_account_user_type_state", columnList = "user_id, account_type, account_state")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Account {
+    // 시퀀스 블록(pooled-lo) 발급 - int 컬럼이라 시간순 ID(53bit)는 쓸 수 없음
+    // 시간순 ID로 바꾸려면 account.id 와 거래내역의 from/to_account_id 를 bigint 로 먼저 넓혀야 함
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_seq")
-    @SequenceGenerator(name = "account_seq", sequenceName = "account_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "account_seq", sequenceName = "account_id_seq", allocationSize = 50)
     @Column(name = "id")
     private int id;
 
@@ -47,5 +51,10 @@ public class Account {
     @Column(name = "account_state", length = 20, nullable = false)
     private AccountState accountState;
 
+    // 잔액이 바뀔 때마다 1 증가 (잔액 캐시가 오래된 값으로 덮어쓰지 않도록 비교에 사용)
+    @Column(name = "balance_version", nullable = false)
+    @Builder.Default
+    private Long balanceVersion = 0L;
+
 
 }
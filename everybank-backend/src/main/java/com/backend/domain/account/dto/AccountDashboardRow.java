@@ -0,0 +1,65 @@
+package com.backend.domain.account.dto;
+
+import com.backend.domain.account.domain.Account;
+import com.backend.domain.account.domain.AccountState;
+import com.backend.domain.account.domain.AccountType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// /my_account 대시보드 한 줄 (계좌 + 은행명 + 계약/상품 정보를 쿼리 한 번으로 조회)
+@Data
+@AllArgsConstructor
+public class AccountDashboardRow {
+    private Integer accountId;
+    private String companyCode;
+    private String bankName;
+    private Long currentBalance;
+    private AccountType accountType;
+    private AccountState accountState;
+    private LocalDateTime lastTransactionDate;
+    private Long balanceVersion;
+
+    // 예금/적금 공통 (입출금계좌는 null)
+    private String productName;
+    private LocalDate contractDate;
+    private LocalDate endDate;
+
+    // 예금 전용
+    private Long depositPayment;
+
+    // 적금 전용
+    private Long monthlyPayment;
+    private Integer currentPaymentCount;
+    private Integer saveTerm;
+
+    public Account toAccount() {
+        return Account.builder()
+                .id(accountId)
+                .companyCode(companyCode)
+                .currentBalance(currentBalance)
+                .accountType(accountType)
+                .accountState(accountState)
+                .lastTransactionDate(lastTransactionDate)
+                .balanceVersion(balanceVersion)
+                .build();
+    }
+
+    // 계약 정보가 없으면 null
+    public ContractInfo toContractInfo() {
+        if (contractDate == null) {
+            return null;
+        }
+        return ContractInfo.builder()
+                .productName(productName)
+                .contractDate(contractDate)
+                .endDate(endDate)
+                .totalAmount(depositPayment)
+                .monthlyPayment(monthlyPayment)
+                .currentPaymentCount(currentPaymentCount)
+                .totalPaymentCount(saveTerm)
+                .build();
+    }
+}
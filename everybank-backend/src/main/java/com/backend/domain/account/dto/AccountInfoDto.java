@@ -1,11 +1,15 @@
 package com.backend.domain.account.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class AccountInfoDto {
     private int accountId;
     private String accountName;      // 계좌명
@@ -0,0 +1,15 @@
+package com.backend.domain.account.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 계좌 요약(read model) 한 계좌분 - 잔액/최근 거래일시는 balanceVersion 기준으로 따로 갱신됨
+@Getter
+@Builder
+public class AccountSummaryEntry {
+    private AccountInfoDto info;
+    private Long balanceVersion;
+    private LocalDateTime lastTransactionDate;
+}
@@ -0,0 +1,16 @@
+package com.backend.domain.account.dto;
+
+// 잔액 UPDATE ... RETURNING 결과
+public interface BalanceChange {
+    Integer getAccountId();
+
+    Long getUserId();
+
+    Long getCurrentBalance();
+
+    Long getBalanceVersion();
+
+    String getAccountType();
+
+    String getCompanyCode();
+}
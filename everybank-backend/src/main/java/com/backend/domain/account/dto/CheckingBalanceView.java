@@ -0,0 +1,17 @@
+package com.backend.domain.account.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// 캐시에 보관하는 입출금계좌 잔액 (version 이 큰 값만 반영)
+@Data
+@Builder
+public class CheckingBalanceView {
+    private Integer accountId;
+    private Long currentBalance;
+    private Long balanceVersion;
+    private String companyCode;
+    private LocalDateTime lastTransactionDate;
+}
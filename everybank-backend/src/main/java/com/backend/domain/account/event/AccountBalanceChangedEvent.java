@@ -0,0 +1,17 @@
+package com.backend.domain.account.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 계좌 잔액 변경 (커밋 후 계좌 요약의 해당 계좌 잔액만 갱신)
+@Getter
+@Builder
+public class AccountBalanceChangedEvent {
+    private Long userId;
+    private Integer accountId;
+    private Long currentBalance;
+    private Long balanceVersion;
+    private LocalDateTime lastTransactionDate;
+}
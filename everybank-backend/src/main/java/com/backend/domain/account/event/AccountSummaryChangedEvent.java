@@ -0,0 +1,24 @@
+package com.backend.domain.account.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+// 계좌 개설/해지, 계약 정보(납입 횟수 등) 변경 (커밋 후 요약 무효화, 다음 조회 때 재생성)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class AccountSummaryChangedEvent {
+    private final Collection<Long> userIds;
+
+    public static AccountSummaryChangedEvent of(Long userId) {
+        return new AccountSummaryChangedEvent(List.of(userId));
+    }
+
+    public static AccountSummaryChangedEvent ofBatch(Set<Long> userIds) {
+        return new AccountSummaryChangedEvent(userIds);
+    }
+}
@@ -0,0 +1,85 @@
+package com.backend.domain.account.repository;
+
+import com.backend.domain.account.dto.CheckingBalanceView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// 여러 계좌 잔액을 SQL 한 문장으로 갱신하는 JDBC 전용 저장소
+// - 계좌 ID/금액 배열을 unnest 로 펼쳐 UPDATE ... FROM 한 번에 처리
+@Repository
+@RequiredArgsConstructor
+public class AccountJdbcRepository {
+
+    private static final String CREDIT_SQL = "UPDATE account a " +
+            "SET current_balance = a.current_balance + d.amount, last_transaction_date = ?, " +
+            "balance_version = a.balance_version + 1 " +
+            "FROM unnest(?, ?) AS d(id, amount) " +
+            "WHERE a.id = d.id AND a.account_state = 'ACTIVE' " +
+            "RETURNING a.id, a.current_balance, a.balance_version, a.company_code";
+
+    private static final String DEBIT_SQL = "UPDATE account a " +
+            "SET current_balance = a.current_balance - d.amount, last_transaction_date = ?, " +
+            "balance_version = a.balance_version + 1 " +
+            "FROM unnest(?, ?) AS d(id, amount) " +
+            "WHERE a.id = d.id AND a.account_state = 'ACTIVE' AND a.current_balance >= d.amount " +
+            "RETURNING a.id, a.current_balance, a.balance_version, a.company_code";
+
+    private static final String LOCK_BALANCES_SQL = "SELECT id, current_balance FROM account " +
+            "WHERE id = ANY(?) AND account_state = 'ACTIVE' " +
+            "ORDER BY id FOR UPDATE";
+
+    // 계좌를 가진 사용자 ID keyset 조회 (idx_account_user_type_state 의 user_id 선두 컬럼 사용)
+    private static final String USER_IDS_AFTER_SQL = "SELECT DISTINCT user_id FROM account " +
+            "WHERE user_id > ? ORDER BY user_id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 계좌별 입금액만큼 잔액 증가 (갱신된 계좌의 잔액/버전 반환)
+    public List<CheckingBalanceView> creditAllWithBalances(Map<Integer, Long> amountsByAccountId, LocalDateTime now) {
+        return applyDeltas(CREDIT_SQL, amountsByAccountId, now);
+    }
+
+    // 계좌별 출금액만큼 잔액 차감 (잔액이 충분한 계좌만 갱신, 갱신된 계좌의 잔액/버전 반환)
+    public List<CheckingBalanceView> debitAll(Map<Integer, Long> amountsByAccountId, LocalDateTime now) {
+        return applyDeltas(DEBIT_SQL, amountsByAccountId, now);
+    }
+
+    // 활성 계좌 잔액 조회 + 행 잠금 (계좌 ID 순으로 잠가 교착 방지)
+    public Map<Integer, Long> lockBalances(Collection<Integer> accountIds) {
+        Map<Integer, Long> balances = new HashMap<>();
+        jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(LOCK_BALANCES_SQL);
+            ps.setArray(1, con.createArrayOf("int4", accountIds.toArray(new Integer[0])));
+            return ps;
+        }, rs -> {
+            balances.put(rs.getInt("id"), rs.getLong("current_balance"));
+        });
+        return balances;
+    }
+
+    // 계좌 요약 재생성 배치용 사용자 ID 청크
+    public List<Long> findUserIdsAfter(long lastUserId, int limit) {
+        return jdbcTemplate.queryForList(USER_IDS_AFTER_SQL, Long.class, lastUserId, limit);
+    }
+
+    private List<CheckingBalanceView> applyDeltas(String sql, Map<Integer, Long> amountsByAccountId, LocalDateTime now) {
+        return jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(sql);
+            ps.setTimestamp(1, Timestamp.valueOf(now));
+            ps.setArray(2, con.createArrayOf("int4", amountsByAccountId.keySet().toArray(new Integer[0])));
+            ps.setArray(3, con.createArrayOf("int8", amountsByAccountId.values().toArray(new Long[0])));
+            return ps;
+        }, (rs, rowNum) -> CheckingBalanceView.builder()
+                .accountId(rs.getInt("id"))
+                .currentBalance(rs.getLong("current_balance"))
+                .balanceVersion(rs.getLong("balance_version"))
+                .companyCode(rs.getString("company_code"))
+                .lastTransactionDate(now)
+                .build());
+    }
+}
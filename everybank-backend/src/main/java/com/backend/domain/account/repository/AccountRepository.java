@@ -1,22 +1,84 @@
 package com.backend.domain.account.repository;
 
 import com.backend.domain.account.domain.Account;
+import com.backend.domain.account.domain.AccountState;
+import com.backend.domain.account.domain.AccountType;
+import com.backend.domain.account.dto.AccountDashboardRow;
+import com.backend.domain.account.dto.BalanceChange;
 import io.lettuce.core.dynamic.annotation.Param;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import javax.swing.text.html.Option;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
 
+    // 잔액 UPDATE 결과 컬럼 (BalanceChange 프로젝션)
+    String BALANCE_CHANGE_RETURNING = "RETURNING id AS \"accountId\", user_id AS \"userId\", current_balance AS \"currentBalance\", " +
+            "balance_version AS \"balanceVersion\", account_type AS \"accountType\", company_code AS \"companyCode\"";
+
     Optional<List<Account>> findByUserId(Long userId);
 
+    // 사용자 계좌 중 타입/상태가 일치하는 한 건 (idx_account_user_type_state 사용)
+    Optional<Account> findFirstByUserIdAndAccountTypeAndAccountState(Long userId, AccountType accountType, AccountState accountState);
+
+    boolean existsByUserIdAndAccountTypeAndAccountState(Long userId, AccountType accountType, AccountState accountState);
+
     @Query("select a from Account a " +
             "where a.userId = :userId " +
             "and a.accountState = 'ACTIVE'")
     Optional<List<Account>> findActiveAccounts(@Param("userId") Long userId);
+
+    // 계좌 행 잠금 조회 (해지처럼 상태를 확인한 뒤 행 전체를 갱신하는 경우 - 만기정산과 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.id = :accountId")
+    Optional<Account> findByIdForUpdate(@Param("accountId") Long accountId);
+
+    // 대시보드용 단일 쿼리 (계좌 + 은행명 + 예금/적금 계약 + 상품명 + 저축기간)
+    @Query("select new com.backend.domain.account.dto.AccountDashboardRow(" +
+            "a.id, a.companyCode, fc.companyName, a.currentBalance, a.accountType, a.accountState, a.lastTransactionDate, a.balanceVersion, " +
+            "coalesce(dp.productName, sp.productName), " +
+            "coalesce(dc.contractDate, sc.contractDate), " +
+            "coalesce(dc.maturityDate, sc.maturityDate), " +
+            "dc.payment, sc.monthlyPayment, sc.currentPaymentCount, spo.saveTerm) " +
+            "from Account a " +
+            "left join FinCompany fc on fc.companyCode = a.companyCode " +
+            "left join DepositContract dc on dc.accountId = a.id " +
+            "and a.accountType = com.backend.domain.account.domain.AccountType.DEPOSIT " +
+            "left join dc.depositProduct dp " +
+            "left join SavingContract sc on sc.accountId = a.id " +
+            "and a.accountType = com.backend.domain.account.domain.AccountType.SAVING " +
+            "left join sc.savingProduct sp " +
+            "left join sc.savingProductOption spo " +
+            "where a.userId = :userId " +
+            "and a.accountState = 'ACTIVE' " +
+            "order by a.id")
+    List<AccountDashboardRow> findDashboardRows(@Param("userId") Long userId);
+
+    // 잔액 원자적 차감 (잔액이 충분한 경우에만 UPDATE, 갱신 후 잔액/버전 반환)
+    @Query(value = "UPDATE account " +
+            "SET current_balance = current_balance - :amount, last_transaction_date = :now, " +
+            "balance_version = balance_version + 1 " +
+            "WHERE id = :accountId AND account_state = 'ACTIVE' AND current_balance >= :amount " +
+            BALANCE_CHANGE_RETURNING, nativeQuery = true)
+    Optional<BalanceChange> debitBalance(@Param("accountId") Integer accountId,
+                                @Param("amount") Long amount,
+                                @Param("now") LocalDateTime now);
+
+    // 잔액 원자적 증가 (갱신 후 잔액/버전 반환)
+    @Query(value = "UPDATE account " +
+            "SET current_balance = current_balance + :amount, last_transaction_date = :now, " +
+            "balance_version = balance_version + 1 " +
+            "WHERE id = :accountId AND account_state = 'ACTIVE' " +
+            BALANCE_CHANGE_RETURNING, nativeQuery = true)
+    Optional<BalanceChange> creditBalance(@Param("accountId") Integer accountId,
+                                 @Param("amount") Long amount,
+                                 @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,83 @@
+package com.backend.domain.account.service;
+
+import com.backend.domain.account.domain.Account;
+import com.backend.domain.account.domain.AccountState;
+import com.backend.domain.account.domain.AccountType;
+import com.backend.domain.account.dto.BalanceChange;
+import com.backend.domain.account.dto.CheckingBalanceView;
+import com.backend.domain.account.event.AccountBalanceChangedEvent;
+import com.backend.domain.account.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.NoSuchElementException;
+
+// 계좌 잔액 증감 전용 서비스 (엔티티 조회 없이 조건부 UPDATE 한 번으로 처리)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountBalanceService {
+
+    private final AccountRepository accountRepository;
+    private final CheckingAccountResolver checkingAccountResolver;
+    private final CheckingBalanceCache checkingBalanceCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 잔액 차감 - 잔액 부족/비활성 계좌면 예외, 성공 시 갱신 후 잔액 반환
+    public Long debit(Integer accountId, Long amount) {
+        LocalDateTime now = LocalDateTime.now();
+        BalanceChange change = accountRepository.debitBalance(accountId, amount, now)
+                .orElseThrow(() -> debitFailure(accountId));
+        return applied(change, now);
+    }
+
+    // 잔액 증가 - 비활성 계좌면 예외, 성공 시 갱신 후 잔액 반환
+    public Long credit(Integer accountId, Long amount) {
+        LocalDateTime now = LocalDateTime.now();
+        BalanceChange change = accountRepository.creditBalance(accountId, amount, now)
+                .orElseThrow(() -> {
+                    checkingAccountResolver.evictAccount(accountId);
+                    return new IllegalArgumentException("입금할 수 없는 계좌입니다: " + accountId);
+                });
+        return applied(change, now);
+    }
+
+    // 입출금계좌 잔액은 커밋 후 캐시에 반영 (write-through), 계좌 요약은 커밋 후 이벤트로 반영
+    private Long applied(BalanceChange change, LocalDateTime now) {
+        eventPublisher.publishEvent(AccountBalanceChangedEvent.builder()
+                .userId(change.getUserId())
+                .accountId(change.getAccountId())
+                .currentBalance(change.getCurrentBalance())
+                .balanceVersion(change.getBalanceVersion())
+                .lastTransactionDate(now)
+                .build());
+
+        if (AccountType.CHECK.name().equals(change.getAccountType())) {
+            checkingBalanceCache.putAfterCommit(CheckingBalanceView.builder()
+                    .accountId(change.getAccountId())
+                    .currentBalance(change.getCurrentBalance())
+                    .balanceVersion(change.getBalanceVersion())
+                    .companyCode(change.getCompanyCode())
+                    .lastTransactionDate(now)
+                    .build());
+        }
+        return change.getCurrentBalance();
+    }
+
+    // 차감 실패 원인 확인 (실패한 경우에만 계좌를 다시 조회)
+    private RuntimeException debitFailure(Integer accountId) {
+        Account account = accountRepository.findById(Long.valueOf(accountId))
+                .orElseThrow(() -> new NoSuchElementException("계좌를 찾을 수 없습니다: " + accountId));
+
+        if (account.getAccountState() != AccountState.ACTIVE) {
+            checkingAccountResolver.evictAccount(accountId);
+            return new IllegalArgumentException("활성 상태의 계좌만 출금 가능합니다: " + accountId);
+        }
+
+        log.warn("잔액 차감 실패 - 계좌ID: {}, 현재 잔액: {}원", accountId, account.getCurrentBalance());
+        return new IllegalArgumentException("잔액이 부족합니다. 현재 잔액: " + account.getCurrentBalance() + "원");
+    }
+}
@@ -4,31 +4,43 @@ import com.backend.domain.account.domain.Account;
 import com.backend.domain.account.domain.AccountState;
 import com.backend.domain.account.domain.AccountType;
 import com.backend.domain.account.dto.*;
+import com.backend.domain.account.event.AccountSummaryChangedEvent;
 import com.backend.domain.company.domain.FinCompany;
 import com.backend.domain.company.repository.FinCompanyRepository;
+import com.backend.domain.company.service.CompanyNameCache;
 import com.backend.domain.contract.domain.DepositContract;
 import com.backend.domain.contract.domain.SavingContract;
 import com.backend.domain.contract.repository.DepositContractRepository;
+import com.backend.domain.contract.repository.SavingContractJdbcRepository;
 import com.backend.domain.contract.repository.SavingContractRepository;
+import com.backend.domain.contract.service.InterestAccrualService;
+import com.backend.domain.transaction.dto.BatchPaymentResponseDto;
 import com.backend.domain.transaction.dto.ExternalDepositRequestDto;
 import com.backend.domain.transaction.dto.ExternalWithdrawRequestDto;
 import com.backend.domain.transaction.dto.PaymentRequestDto;
 import com.backend.domain.transaction.dto.RefundRequestDto;
 import com.backend.domain.transaction.dto.TransactionResponseDto;
+import com.backend.domain.account.repository.AccountJdbcRepository;
 import com.backend.domain.account.repository.AccountRepository;
 import com.backend.domain.transaction.domain.Transaction;
 import com.backend.domain.transaction.domain.TransactionType;
-import com.backend.domain.transaction.repository.TransactionRepository;
+import com.backend.domain.transaction.repository.TransactionJournal;
+import com.backend.global.concurrency.AccountLaneExecutor;
 import com.backend.global.security.SecurityUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -36,22 +48,117 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AccountService {
 
+    private static final int MAX_BATCH_PAYMENT_SIZE = 50;
+
     private final AccountRepository accountRepository;
+    private final AccountJdbcRepository accountJdbcRepository;
+    private final SavingContractJdbcRepository savingContractJdbcRepository;
     private final FinCompanyRepository finCompanyRepository;
     private final DepositContractRepository depositContractRepository;
     private final SavingContractRepository savingContractRepository;
-    private final TransactionRepository transactionRepository;
-
+    private final InterestAccrualService interestAccrualService;
+    private final TransactionJournal transactionJournal;
+    private final AccountBalanceService accountBalanceService;
+    private final AccountLaneExecutor accountLaneExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final CheckingAccountResolver checkingAccountResolver;
+    private final CheckingBalanceCache checkingBalanceCache;
+    private final CompanyNameCache companyNameCache;
+    private final AccountSummaryStore accountSummaryStore;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // true: 대시보드를 단일 프로젝션 쿼리로 조회, false: 계좌 조회 후 배치 조회
+    @Value("${everybank.dashboard.projection-enabled:true}")
+    private boolean dashboardProjectionEnabled;
+
+    // true: /my_account, /check_balance 를 사용자별 계좌 요약(Redis 해시 하나)으로 응답
+    @Value("${everybank.account-summary.enabled:true}")
+    private boolean accountSummaryEnabled;
+
+    @Transactional(readOnly = true)
     public MyAccountListInfoDto getMyAccounts(Long userId) {
+        List<AccountInfoDto> accountInfoList;
+        if (accountSummaryEnabled) {
+            accountInfoList = loadSummary(userId).stream()
+                    .map(this::toAccountInfo)
+                    .collect(Collectors.toList());
+        } else {
+            accountInfoList = dashboardProjectionEnabled
+                    ? loadAccountInfosByProjection(userId)
+                    : loadAccountInfos(userId);
+        }
+
+        return MyAccountListInfoDto.builder()
+                .count(accountInfoList.size())
+                .accountList(accountInfoList)
+                .build();
+    }
+
+    // 계좌 요약 조회 - 없으면(첫 조회, 무효화 후) 원본 테이블에서 만들어 저장
+    private List<AccountSummaryEntry> loadSummary(Long userId) {
+        return accountSummaryStore.find(userId)
+                .orElseGet(() -> rebuildSummary(userId, accountSummaryStore.generation(userId)));
+    }
+
+    // 계좌 요약 재생성 (대시보드 프로젝션 쿼리 1회)
+    // 읽는 동안 구조 변경으로 generation 이 바뀌었으면 저장하지 않고 결과만 반환
+    // 요약에 저장될 값이라 별도 쓰기 트랜잭션으로 primary 에서 읽음 (조회 API 의 읽기 전용 트랜잭션 → replica 지연 반영 방지)
+    public List<AccountSummaryEntry> rebuildSummary(Long userId, long generation) {
+        List<AccountSummaryEntry> entries = primaryTransactionTemplate().execute(status -> loadSummaryEntries(userId));
+
+        accountSummaryStore.write(userId, generation, entries);
+        return entries;
+    }
+
+    private TransactionTemplate primaryTransactionTemplate() {
+        TransactionTemplate template = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setReadOnly(false);
+        return template;
+    }
+
+    private List<AccountSummaryEntry> loadSummaryEntries(Long userId) {
+        return accountRepository.findDashboardRows(userId)
+                .stream()
+                .map(row -> AccountSummaryEntry.builder()
+                        .info(buildEnhancedAccountInfoDto(row.toAccount(),
+                                row.getBankName() != null ? row.getBankName() : "알 수 없음",
+                                row.toContractInfo()))
+                        .balanceVersion(row.getBalanceVersion())
+                        .lastTransactionDate(row.getLastTransactionDate())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    // 입출금계좌 시작일은 최근 거래일시 기준이라 잔액 이벤트로 갱신된 값으로 다시 계산
+    private AccountInfoDto toAccountInfo(AccountSummaryEntry entry) {
+        AccountInfoDto info = entry.getInfo();
+        if (AccountType.CHECK.name().equals(info.getAccountType())) {
+            info.setStartDate(entry.getLastTransactionDate() != null
+                    ? entry.getLastTransactionDate().toLocalDate().format(DateTimeFormatter.ofPattern("yyyy.MM.dd"))
+                    : "");
+        }
+        return info;
+    }
+
+    // 대시보드 조회 - 계좌/은행명/계약/상품 정보를 쿼리 한 번으로 조회
+    private List<AccountInfoDto> loadAccountInfosByProjection(Long userId) {
+        return accountRepository.findDashboardRows(userId)
+                .stream()
+                .map(row -> buildEnhancedAccountInfoDto(row.toAccount(),
+                        row.getBankName() != null ? row.getBankName() : "알 수 없음",
+                        row.toContractInfo()))
+                .collect(Collectors.toList());
+    }
+
+    // 대시보드 조회 - 계좌 조회 후 은행명/계약 정보 배치 조회
+    private List<AccountInfoDto> loadAccountInfos(Long userId) {
         // 1. 사용자의 모든 계좌 조회
         List<Account> accounts = accountRepository.findActiveAccounts(userId)
                 .orElse(List.of());
 
         if (accounts.isEmpty()) {
-            return MyAccountListInfoDto.builder()
-                    .count(0)
-                    .accountList(List.of())
-                    .build();
+            return List.of();
         }
 
         // 2. 필요한 데이터 배치 조회
@@ -59,14 +166,34 @@ public class AccountService {
         Map<Integer, ContractInfo> contractInfos = loadEnhancedContractInfos(accounts);
 
         // 3. DTO 변환
-        List<AccountInfoDto> accountInfoList = accounts.stream()
-                .map(account -> buildEnhancedAccountInfoDto(account, bankNames, contractInfos))
+        return accounts.stream()
+                .map(account -> buildEnhancedAccountInfoDto(account,
+                        bankNames.getOrDefault(account.getCompanyCode(), "알 수 없음"),
+                        contractInfos.get(account.getId())))
                 .collect(Collectors.toList());
+    }
 
-        return MyAccountListInfoDto.builder()
-                .count(accountInfoList.size())
-                .accountList(accountInfoList)
-                .build();
+    // 대시보드 조회 방식별 응답 시간 비교
+    @Transactional(readOnly = true)
+    public Map<String, Object> compareDashboardPerformance(Long userId) {
+        long batchStartTime = System.nanoTime();
+        List<AccountInfoDto> batchResult = loadAccountInfos(userId);
+        long batchTimeMs = (System.nanoTime() - batchStartTime) / 1_000_000;
+
+        long projectionStartTime = System.nanoTime();
+        List<AccountInfoDto> projectionResult = loadAccountInfosByProjection(userId);
+        long projectionTimeMs = (System.nanoTime() - projectionStartTime) / 1_000_000;
+
+        log.info("대시보드 조회 비교 - 배치 조회: {}ms, 프로젝션: {}ms, 계좌 수: {}",
+                batchTimeMs, projectionTimeMs, projectionResult.size());
+
+        return Map.of(
+                "batch_time_ms", batchTimeMs,
+                "projection_time_ms", projectionTimeMs,
+                "account_count", projectionResult.size(),
+                "same_result", batchResult.equals(projectionResult),
+                "projection_enabled", dashboardProjectionEnabled
+        );
     }
 
     // 향상된 계약 정보 배치 조회 (적금/예금 상세정보 포함)
@@ -119,11 +246,7 @@ public class AccountService {
     }
 
     // 향상된 DTO 빌더 (적금/예금 정보 포함)
-    private AccountInfoDto buildEnhancedAccountInfoDto(Account account,
-                                                       Map<String, String> bankNames,
-                                                       Map<Integer, ContractInfo> contractInfos) {
-
-        String bankName = bankNames.getOrDefault(account.getCompanyCode(), "알 수 없음");
+    private AccountInfoDto buildEnhancedAccountInfoDto(Account account, String bankName, ContractInfo contractInfo) {
 
         // 기본 정보 설정
         AccountInfoDto.AccountInfoDtoBuilder builder = AccountInfoDto.builder()
@@ -144,7 +267,6 @@ public class AccountService {
 
         } else {
             // 예금/적금 계좌 정보
-            ContractInfo contractInfo = contractInfos.get(account.getId());
             if (contractInfo != null) {
                 builder.productName(contractInfo.getProductName())
                         .startDate(contractInfo.getContractDate()
@@ -217,13 +339,7 @@ public class AccountService {
         log.info("입출금계좌 등록 요청 - 사용자: {}, 은행: {}", securityUser.getId(), requestDto.getBankName());
 
         // 중요: 사용자당 입출금계좌는 1개만 허용
-        boolean hasCheckingAccount = accountRepository.findByUserId(securityUser.getId())
-                .orElse(List.of())
-                .stream()
-                .anyMatch(account -> account.getAccountType() == AccountType.CHECK &&
-                        account.getAccountState() == AccountState.ACTIVE);
-
-        if (hasCheckingAccount) {
+        if (checkingAccountResolver.hasCheckingAccount(securityUser.getId())) {
             throw new IllegalArgumentException("이미 입출금계좌를 보유하고 있습니다. 사용자당 입출금계좌는 1개만 개설 가능합니다.");
         }
 
@@ -241,6 +357,8 @@ public class AccountService {
                 .build();
 
         Account savedAccount = accountRepository.save(checkingAccount);
+        checkingAccountResolver.evict(securityUser.getId());
+        eventPublisher.publishEvent(AccountSummaryChangedEvent.of(securityUser.getId()));
         log.info("입출금계좌 등록 완료 - 계좌ID: {}", savedAccount.getId());
 
         return CheckingAccountResponseDto.builder()
@@ -255,7 +373,6 @@ public class AccountService {
     }
 
     // 외부 → 입출금계좌 (외부입금)
-    @Transactional
     public TransactionResponseDto externalDeposit(ExternalDepositRequestDto requestDto, SecurityUser securityUser) {
         log.info("외부입금 요청 - 사용자: {}, 금액: {}", securityUser.getId(), requestDto.getAmount());
 
@@ -265,31 +382,34 @@ public class AccountService {
         }
 
         // 2. 사용자의 입출금계좌 찾기
-        Account checkingAccount = findUserCheckingAccount(securityUser.getId());
+        Integer checkingAccountId = checkingAccountResolver.resolveId(securityUser.getId());
+
+        // 3. 입출금계좌 레인에서 입금 처리
+        return executeInLane(checkingAccountId, () -> applyExternalDeposit(checkingAccountId, requestDto.getAmount()));
+    }
 
-        // 3. 잔액 업데이트
-        checkingAccount.setCurrentBalance(checkingAccount.getCurrentBalance() + requestDto.getAmount());
-        checkingAccount.setLastTransactionDate(LocalDateTime.now());
-        accountRepository.save(checkingAccount);
+    private TransactionResponseDto applyExternalDeposit(Integer checkingAccountId, Long amount) {
+        // 1. 잔액 업데이트 (조건부 UPDATE 한 번으로 증가 후 잔액 반환)
+        Long balance = accountBalanceService.credit(checkingAccountId, amount);
 
-        // 4. 거래내역 저장
+        // 2. 거래내역 저장
         Transaction transaction = Transaction.builder()
                 .transactionType(TransactionType.DEPOSIT)
-                .amount(requestDto.getAmount())
+                .amount(amount)
                 .fromAccountId(null) // 외부
-                .toAccountId(checkingAccount.getId())
-                .currentBalance(checkingAccount.getCurrentBalance())
+                .toAccountId(checkingAccountId)
+                .currentBalance(balance)
+                .toBalance(balance)
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        Transaction savedTransaction = transactionRepository.save(transaction);
-        log.info("외부입금 완료 - 거래ID: {}, 입출금계좌 잔액: {}", savedTransaction.getTransactionId(), checkingAccount.getCurrentBalance());
+        Transaction savedTransaction = transactionJournal.append(transaction);
+        log.info("외부입금 완료 - 거래ID: {}, 입출금계좌 잔액: {}", savedTransaction.getTransactionId(), balance);
 
-        return buildTransactionResponse(savedTransaction, checkingAccount.getCurrentBalance());
+        return buildTransactionResponse(savedTransaction, balance);
     }
 
     // 입출금계좌 → 외부 (외부출금)
-    @Transactional
     public TransactionResponseDto externalWithdraw(ExternalWithdrawRequestDto requestDto, SecurityUser securityUser) {
         log.info("외부출금 요청 - 사용자: {}, 금액: {}", securityUser.getId(), requestDto.getAmount());
 
@@ -299,36 +419,34 @@ public class AccountService {
         }
 
         // 2. 사용자의 입출금계좌 찾기
-        Account checkingAccount = findUserCheckingAccount(securityUser.getId());
+        Integer checkingAccountId = checkingAccountResolver.resolveId(securityUser.getId());
 
-        // 3. 잔액 검증
-        if (checkingAccount.getCurrentBalance() < requestDto.getAmount()) {
-            throw new IllegalArgumentException("잔액이 부족합니다. 현재 잔액: " + checkingAccount.getCurrentBalance() + "원");
-        }
+        // 3. 입출금계좌 레인에서 출금 처리
+        return executeInLane(checkingAccountId, () -> applyExternalWithdraw(checkingAccountId, requestDto.getAmount()));
+    }
 
-        // 4. 잔액 업데이트
-        checkingAccount.setCurrentBalance(checkingAccount.getCurrentBalance() - requestDto.getAmount());
-        checkingAccount.setLastTransactionDate(LocalDateTime.now());
-        accountRepository.save(checkingAccount);
+    private TransactionResponseDto applyExternalWithdraw(Integer checkingAccountId, Long amount) {
+        // 1. 잔액 검증 + 차감 (잔액이 충분할 때만 UPDATE 되므로 동시 출금에도 음수 잔액이 생기지 않음)
+        Long balance = accountBalanceService.debit(checkingAccountId, amount);
 
-        // 5. 거래내역 저장
+        // 2. 거래내역 저장
         Transaction transaction = Transaction.builder()
                 .transactionType(TransactionType.WITHDRAWAL)
-                .amount(requestDto.getAmount())
-                .fromAccountId(checkingAccount.getId())
+                .amount(amount)
+                .fromAccountId(checkingAccountId)
                 .toAccountId(null) // 외부
-                .currentBalance(checkingAccount.getCurrentBalance())
+                .currentBalance(balance)
+                .fromBalance(balance)
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        Transaction savedTransaction = transactionRepository.save(transaction);
-        log.info("외부출금 완료 - 거래ID: {}, 입출금계좌 잔액: {}", savedTransaction.getTransactionId(), checkingAccount.getCurrentBalance());
+        Transaction savedTransaction = transactionJournal.append(transaction);
+        log.info("외부출금 완료 - 거래ID: {}, 입출금계좌 잔액: {}", savedTransaction.getTransactionId(), balance);
 
-        return buildTransactionResponse(savedTransaction, checkingAccount.getCurrentBalance());
+        return buildTransactionResponse(savedTransaction, balance);
     }
 
     // 입출금계좌 → 금융상품 (납입)
-    @Transactional
     public TransactionResponseDto paymentToProduct(PaymentRequestDto requestDto, SecurityUser securityUser) {
         log.info("납입 요청 - 사용자: {}, 상품계좌: {}, 금액: {}",
                 securityUser.getId(), requestDto.getToAccountId(), requestDto.getAmount());
@@ -339,8 +457,13 @@ public class AccountService {
         }
 
         // 2. 사용자의 입출금계좌 찾기
-        Account checkingAccount = findUserCheckingAccount(securityUser.getId());
+        Integer checkingAccountId = checkingAccountResolver.resolveId(securityUser.getId());
 
+        // 3. 입출금계좌 레인에서 납입 처리
+        return executeInLane(checkingAccountId, () -> applyPayment(checkingAccountId, requestDto, securityUser));
+    }
+
+    private TransactionResponseDto applyPayment(Integer checkingAccountId, PaymentRequestDto requestDto, SecurityUser securityUser) {
         // 3. 상품계좌 찾기 및 검증
         Account productAccount = accountRepository.findById(Long.valueOf(requestDto.getToAccountId()))
                 .orElseThrow(() -> new NoSuchElementException("상품계좌를 찾을 수 없습니다: " + requestDto.getToAccountId()));
@@ -365,15 +488,10 @@ public class AccountService {
             throw new IllegalArgumentException("활성 상태의 상품계좌만 납입 가능합니다.");
         }
 
-        // 7. 입출금계좌 잔액 검증
-        if (checkingAccount.getCurrentBalance() < requestDto.getAmount()) {
-            throw new IllegalArgumentException("잔액이 부족합니다. 현재 잔액: " + checkingAccount.getCurrentBalance() + "원");
-        }
-
-        // 8. 적금인 경우에만 계속 진행
+        // 7. 적금인 경우에만 계속 진행 (잔액 검증은 차감 UPDATE에서 함께 처리)
         if (productAccount.getAccountType() == AccountType.SAVING) {
             // 적금 납입 로직
-            return processSavingPayment(checkingAccount, productAccount, requestDto.getAmount());
+            return processSavingPayment(checkingAccountId, productAccount, requestDto.getAmount());
         }
 
         throw new IllegalArgumentException("지원하지 않는 계좌 타입입니다: " + productAccount.getAccountType());
@@ -381,19 +499,13 @@ public class AccountService {
 
     // 적금 납입 처리 (분리된 메서드)
     @Transactional
-    public TransactionResponseDto processSavingPayment(Account checkingAccount, Account savingAccount, Long amount) {
+    public TransactionResponseDto processSavingPayment(Integer checkingAccountId, Account savingAccount, Long amount) {
         log.info("적금 납입 처리 - 입출금계좌: {}, 적금계좌: {}, 금액: {}원",
-                checkingAccount.getId(), savingAccount.getId(), amount);
-
-        // 1. 계좌 잔액 업데이트
-        checkingAccount.setCurrentBalance(checkingAccount.getCurrentBalance() - amount);
-        checkingAccount.setLastTransactionDate(LocalDateTime.now());
+                checkingAccountId, savingAccount.getId(), amount);
 
-        savingAccount.setCurrentBalance(savingAccount.getCurrentBalance() + amount);
-        savingAccount.setLastTransactionDate(LocalDateTime.now());
-
-        accountRepository.save(checkingAccount);
-        accountRepository.save(savingAccount);
+        // 1. 계좌 잔액 업데이트 (입출금계좌 차감 → 적금계좌 증가)
+        Long checkingBalance = accountBalanceService.debit(checkingAccountId, amount);
+        Long savingBalance = accountBalanceService.credit(savingAccount.getId(), amount);
 
         // 2. 적금 계약 정보 업데이트 (납입 횟수 증가)
         SavingContract savingContract = savingContractRepository.findByAccountId(savingAccount.getId())
@@ -403,6 +515,7 @@ public class AccountService {
         savingContract.setCurrentPaymentCount(savingContract.getCurrentPaymentCount() + 1);
         savingContract.setLatestPaymentDate(LocalDate.now());
         savingContractRepository.save(savingContract);
+        eventPublisher.publishEvent(AccountSummaryChangedEvent.of(savingAccount.getUserId()));
 
         log.info("적금 납입 완료 - 계약ID: {}, 납입 횟수: {}/{}회, 납입액: {}원",
                 savingContract.getContractId(),
@@ -414,31 +527,149 @@ public class AccountService {
         Transaction transaction = Transaction.builder()
                 .transactionType(TransactionType.PAYMENT)
                 .amount(amount)
-                .fromAccountId(checkingAccount.getId())
+                .fromAccountId(checkingAccountId)
                 .toAccountId(savingAccount.getId())
-                .currentBalance(checkingAccount.getCurrentBalance())
+                .currentBalance(checkingBalance)
+                .fromBalance(checkingBalance)
+                .toBalance(savingBalance)
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        Transaction savedTransaction = transactionRepository.save(transaction);
+        Transaction savedTransaction = transactionJournal.append(transaction);
         log.info("적금 납입 거래내역 저장 완료 - 거래ID: {}, 입출금계좌 잔액: {}원",
-                savedTransaction.getTransactionId(), checkingAccount.getCurrentBalance());
+                savedTransaction.getTransactionId(), checkingBalance);
+
+        return buildTransactionResponse(savedTransaction, checkingBalance);
+    }
+
 
-        return buildTransactionResponse(savedTransaction, checkingAccount.getCurrentBalance());
+    // 입출금계좌 → 여러 적금계좌 (일괄 납입)
+    public BatchPaymentResponseDto batchPaymentToProducts(List<PaymentRequestDto> requestDtos, SecurityUser securityUser) {
+        log.info("일괄 납입 요청 - 사용자: {}, 건수: {}", securityUser.getId(), requestDtos == null ? 0 : requestDtos.size());
+
+        // 1. 요청 검증
+        if (requestDtos == null || requestDtos.isEmpty()) {
+            throw new IllegalArgumentException("납입 요청이 없습니다.");
+        }
+        if (requestDtos.size() > MAX_BATCH_PAYMENT_SIZE) {
+            throw new IllegalArgumentException("일괄 납입은 최대 " + MAX_BATCH_PAYMENT_SIZE + "건까지 가능합니다.");
+        }
+
+        Map<Integer, Long> amountsByAccountId = new LinkedHashMap<>();
+        for (PaymentRequestDto requestDto : requestDtos) {
+            if (requestDto.getToAccountId() == null) {
+                throw new IllegalArgumentException("납입할 상품계좌가 지정되지 않았습니다.");
+            }
+            if (requestDto.getAmount() == null || requestDto.getAmount() <= 0) {
+                throw new IllegalArgumentException("납입액은 0원보다 커야 합니다.");
+            }
+            if (amountsByAccountId.putIfAbsent(requestDto.getToAccountId(), requestDto.getAmount()) != null) {
+                throw new IllegalArgumentException("같은 상품계좌에 중복 납입할 수 없습니다: " + requestDto.getToAccountId());
+            }
+        }
+
+        // 2. 사용자의 입출금계좌 찾기
+        Integer checkingAccountId = checkingAccountResolver.resolveId(securityUser.getId());
+
+        // 3. 입출금계좌 레인에서 한 트랜잭션으로 처리
+        return executeInLane(checkingAccountId,
+                () -> applyBatchPayment(checkingAccountId, amountsByAccountId, securityUser));
     }
 
+    private BatchPaymentResponseDto applyBatchPayment(Integer checkingAccountId, Map<Integer, Long> amountsByAccountId,
+                                                      SecurityUser securityUser) {
+        // 1. 상품계좌 일괄 조회 및 검증 (쿼리 1회)
+        List<Long> accountIds = amountsByAccountId.keySet().stream().map(Long::valueOf).toList();
+        Map<Integer, Account> productAccounts = accountRepository.findAllById(accountIds)
+                .stream()
+                .collect(Collectors.toMap(Account::getId, account -> account));
+
+        for (Integer accountId : amountsByAccountId.keySet()) {
+            Account productAccount = productAccounts.get(accountId);
+            if (productAccount == null) {
+                throw new NoSuchElementException("상품계좌를 찾을 수 없습니다: " + accountId);
+            }
+            if (!productAccount.getUserId().equals(securityUser.getId())) {
+                throw new IllegalArgumentException("본인의 상품계좌만 납입 가능합니다.");
+            }
+            if (productAccount.getAccountType() != AccountType.SAVING) {
+                throw new IllegalArgumentException("적금계좌만 일괄 납입할 수 있습니다: " + accountId);
+            }
+            if (productAccount.getAccountState() != AccountState.ACTIVE) {
+                throw new IllegalArgumentException("활성 상태의 상품계좌만 납입 가능합니다.");
+            }
+        }
+
+        // 2. 입출금계좌 한 번에 차감 (합계 기준)
+        long totalAmount = amountsByAccountId.values().stream().mapToLong(Long::longValue).sum();
+        Long checkingBalance = accountBalanceService.debit(checkingAccountId, totalAmount);
+
+        // 3. 적금계좌 잔액 + 계약 납입 횟수 JDBC 배치 갱신
+        LocalDateTime now = LocalDateTime.now();
+        Map<Integer, Long> savingBalances = accountJdbcRepository.creditAllWithBalances(amountsByAccountId, now)
+                .stream()
+                .collect(Collectors.toMap(CheckingBalanceView::getAccountId, CheckingBalanceView::getCurrentBalance));
+        if (savingBalances.size() != amountsByAccountId.size()) {
+            List<Integer> notCredited = amountsByAccountId.keySet().stream()
+                    .filter(accountId -> !savingBalances.containsKey(accountId))
+                    .sorted()
+                    .toList();
+            throw new IllegalArgumentException("입금할 수 없는 계좌입니다: " + notCredited);
+        }
+
+        List<Integer> noContract = savingContractJdbcRepository.recordPayments(
+                new ArrayList<>(amountsByAccountId.keySet()), now.toLocalDate());
+        if (!noContract.isEmpty()) {
+            throw new NoSuchElementException("적금 계약을 찾을 수 없습니다: " + noContract);
+        }
+        eventPublisher.publishEvent(AccountSummaryChangedEvent.of(securityUser.getId()));
+
+        // 4. 거래내역 저장 (커밋 직전에 한 번의 배치 INSERT)
+        // 각 거래의 잔액은 요청 순서대로 차감한 입출금계좌 잔액
+        long runningBalance = checkingBalance + totalAmount;
+        List<TransactionResponseDto> transactions = new ArrayList<>(amountsByAccountId.size());
+        for (Map.Entry<Integer, Long> entry : amountsByAccountId.entrySet()) {
+            runningBalance -= entry.getValue();
+
+            Transaction transaction = transactionJournal.append(Transaction.builder()
+                    .transactionType(TransactionType.PAYMENT)
+                    .amount(entry.getValue())
+                    .fromAccountId(checkingAccountId)
+                    .toAccountId(entry.getKey())
+                    .currentBalance(runningBalance)
+                    .fromBalance(runningBalance)
+                    .toBalance(savingBalances.get(entry.getKey()))
+                    .createdAt(now)
+                    .build());
+            transactions.add(buildTransactionResponse(transaction, runningBalance));
+        }
+
+        log.info("일괄 납입 완료 - 입출금계좌: {}, 건수: {}, 합계: {}원, 잔액: {}원",
+                checkingAccountId, transactions.size(), totalAmount, checkingBalance);
+
+        return BatchPaymentResponseDto.builder()
+                .count(transactions.size())
+                .totalAmount(totalAmount)
+                .checkingAccountBalance(checkingBalance)
+                .transactions(transactions)
+                .build();
+    }
 
     // 금융상품 → 입출금계좌 (환급) - 전액 자동 환급
-    @Transactional
     public TransactionResponseDto refundFromProduct(RefundRequestDto requestDto, SecurityUser securityUser) {
         log.info("전액 환급 요청 - 사용자: {}, 상품계좌: {}, 환급액: {}",
                 securityUser.getId(), requestDto.getFromAccountId(), requestDto.getTotalAmount());
 
         // 1. 사용자의 입출금계좌 찾기
-        Account checkingAccount = findUserCheckingAccount(securityUser.getId());
+        Integer checkingAccountId = checkingAccountResolver.resolveId(securityUser.getId());
+
+        // 입출금계좌 레인에서 환급 처리
+        return executeInLane(checkingAccountId, () -> applyRefund(checkingAccountId, requestDto, securityUser));
+    }
 
-        // 2. 상품계좌 찾기 및 검증
-        Account productAccount = accountRepository.findById(Long.valueOf(requestDto.getFromAccountId()))
+    private TransactionResponseDto applyRefund(Integer checkingAccountId, RefundRequestDto requestDto, SecurityUser securityUser) {
+        // 2. 상품계좌 찾기 및 검증 (행 잠금 - 만기정산이 먼저 해지했으면 커밋된 EXPIRED 상태를 읽어 아래에서 거절)
+        Account productAccount = accountRepository.findByIdForUpdate(Long.valueOf(requestDto.getFromAccountId()))
                 .orElseThrow(() -> new NoSuchElementException("상품계좌를 찾을 수 없습니다: " + requestDto.getFromAccountId()));
 
         // 3. 본인 계좌 검증
@@ -457,13 +688,23 @@ public class AccountService {
             throw new IllegalArgumentException("이미 해지된 상품계좌입니다.");
         }
 
-        // 6. 환급할 전액 확인
-        Long refundAmount = requestDto.getTotalAmount();
+        // 6. 환급액 서버 계산 (잠근 상품계좌 잔액 + 오늘 해지 기준 이자) - 요청 금액과 다르면 거절
+        long productBalance = productAccount.getCurrentBalance();
+        long interest = refundInterestOf(productAccount, LocalDate.now());
+        if (interest < 0) {
+            log.error("환급 이자 계산 오류 - 상품계좌: {}, 이자: {}원", productAccount.getId(), interest);
+            throw new IllegalStateException("환급 이자 계산 결과가 올바르지 않습니다: " + interest + "원");
+        }
+        long refundAmount = productBalance + interest;
         if (refundAmount <= 0) {
-            throw new IllegalArgumentException("환급할 금액이 없습니다. 상품계좌 잔액: " + refundAmount + "원");
+            throw new IllegalArgumentException("환급할 금액이 없습니다. 상품계좌 잔액: " + productBalance + "원");
+        }
+        if (!Objects.equals(requestDto.getTotalAmount(), refundAmount)) {
+            throw new IllegalArgumentException("환급 금액이 정산 금액과 다릅니다. 요청: "
+                    + requestDto.getTotalAmount() + "원, 정산: " + refundAmount + "원");
         }
 
-        log.info("전액 환급 처리 - 상품계좌 잔액: {}원", refundAmount);
+        log.info("전액 환급 처리 - 상품계좌 잔액: {}원, 이자: {}원, 환급액: {}원", productBalance, interest, refundAmount);
 
         // 7. 만기/중도해지 처리
         if (LocalDate.now().isBefore(productAccount.getMaturityDate())) {
@@ -476,41 +717,61 @@ public class AccountService {
 
         // 8. 계좌 잔액 업데이트 (상품계좌 → 입출금계좌 전액 이동)
         productAccount.setCurrentBalance(0L); // 상품계좌 잔액 0으로
+        productAccount.setBalanceVersion(productAccount.getBalanceVersion() + 1);
         productAccount.setLastTransactionDate(LocalDateTime.now());
-
-        checkingAccount.setCurrentBalance(checkingAccount.getCurrentBalance() + refundAmount);
-        checkingAccount.setLastTransactionDate(LocalDateTime.now());
-
         accountRepository.save(productAccount);
-        accountRepository.save(checkingAccount);
+        eventPublisher.publishEvent(AccountSummaryChangedEvent.of(securityUser.getId()));
+
+        Long checkingBalance = accountBalanceService.credit(checkingAccountId, refundAmount);
+
+        // 9. 거래내역 저장 (이자는 이자 지급으로 상품계좌에 먼저 기록)
+        if (interest > 0) {
+            transactionJournal.append(Transaction.builder()
+                    .transactionType(TransactionType.INTEREST)
+                    .amount(interest)
+                    .toAccountId(requestDto.getFromAccountId())
+                    .currentBalance(refundAmount)
+                    .toBalance(refundAmount)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
 
-        // 9. 거래내역 저장
         Transaction transaction = Transaction.builder()
                 .transactionType(TransactionType.TRANSFER)
                 .amount(refundAmount) // 상품계좌의 전액
                 .fromAccountId(requestDto.getFromAccountId())
-                .toAccountId(checkingAccount.getId())
-                .currentBalance(checkingAccount.getCurrentBalance())
+                .toAccountId(checkingAccountId)
+                .currentBalance(checkingBalance)
+                .fromBalance(0L) // 전액 환급이라 상품계좌 잔액 0
+                .toBalance(checkingBalance)
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        Transaction savedTransaction = transactionRepository.save(transaction);
+        Transaction savedTransaction = transactionJournal.append(transaction);
         log.info("전액 환급 완료 - 거래ID: {}, 상품: {}, 환급액: {}원, 입출금계좌 잔액: {}원",
                 savedTransaction.getTransactionId(), productAccount.getAccountType(),
-                refundAmount, checkingAccount.getCurrentBalance());
+                refundAmount, checkingBalance);
 
-        return buildTransactionResponse(savedTransaction, checkingAccount.getCurrentBalance());
+        return buildTransactionResponse(savedTransaction, checkingBalance);
     }
 
-    // 사용자의 입출금계좌 찾기 (헬퍼 메서드)
-    private Account findUserCheckingAccount(Long userId) {
-        return accountRepository.findByUserId(userId)
-                .orElse(List.of())
-                .stream()
-                .filter(account -> account.getAccountType() == AccountType.CHECK &&
-                        account.getAccountState() == AccountState.ACTIVE)
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("입출금계좌가 없습니다. 먼저 입출금계좌를 개설해주세요."));
+    // 환급 시점 이자 (만기정산 조회와 같은 규칙 - 일별 적립분 우선, 없으면 직접 계산)
+    private long refundInterestOf(Account productAccount, LocalDate asOf) {
+        if (productAccount.getAccountType() == AccountType.DEPOSIT) {
+            DepositContract contract = depositContractRepository.findByAccountId(productAccount.getId())
+                    .orElseThrow(() -> new NoSuchElementException("예금 계약을 찾을 수 없습니다: " + productAccount.getId()));
+            return interestAccrualService.getDepositInterest(contract, asOf).getInterest();
+        }
+        SavingContract contract = savingContractRepository.findByAccountId(productAccount.getId())
+                .orElseThrow(() -> new NoSuchElementException("적금 계약을 찾을 수 없습니다: " + productAccount.getId()));
+        return interestAccrualService.getSavingInterest(contract, asOf).getInterest();
+    }
+
+    // 입출금계좌 레인에서 트랜잭션 단위로 실행 (헬퍼 메서드)
+    // 같은 입출금계좌의 잔액 변경은 순서대로 실행되어 row 락 경합이 생기지 않음 (트랜잭션은 레인 진입 후 시작)
+    private <T> T executeInLane(Integer checkingAccountId, Supplier<T> work) {
+        return accountLaneExecutor.execute(checkingAccountId,
+                () -> transactionTemplate.execute(status -> work.get()));
     }
 
     // Transaction 응답 빌더 (헬퍼 메서드)
@@ -529,31 +790,70 @@ public class AccountService {
     public CheckingBalanceDto getCheckingBalance(Long userId) {
         log.info("입출금계좌 잔액 조회 - 사용자: {}", userId);
 
-        // 1. 사용자의 입출금계좌 찾기
-        Account checkingAccount = findUserCheckingAccount(userId);
+        // 0. 계좌 요약에 입출금계좌가 있으면 그대로 응답 (없으면 아래에서 계좌 없음 처리)
+        if (accountSummaryEnabled) {
+            Optional<CheckingBalanceDto> summarized = loadSummary(userId).stream()
+                    .filter(entry -> AccountType.CHECK.name().equals(entry.getInfo().getAccountType()))
+                    .findFirst()
+                    .map(this::toCheckingBalance);
+            if (summarized.isPresent()) {
+                return summarized.get();
+            }
+        }
+
+        // 1. 사용자의 입출금계좌 찾기 (캐시)
+        Integer checkingAccountId = checkingAccountResolver.resolveId(userId);
+
+        // 2. 잔액 조회 (캐시에 없을 때만 DB 조회 후 캐시에 채움)
+        CheckingBalanceView balance = checkingBalanceCache.get(checkingAccountId)
+                .orElseGet(() -> loadCheckingBalance(userId));
 
-        // 2. 은행명 조회
-        String bankName = finCompanyRepository.findFinCompanyByCompanyCode(
-                checkingAccount.getCompanyCode()).getCompanyName();
+        // 3. 은행명 조회 (캐시)
+        String bankName = companyNameCache.getCompanyName(balance.getCompanyCode());
 
-        // 3. 최근 거래일시 포맷팅
-        String lastTransactionDate = checkingAccount.getLastTransactionDate() != null
-                ? checkingAccount.getLastTransactionDate()
+        // 4. 최근 거래일시 포맷팅
+        String lastTransactionDate = balance.getLastTransactionDate() != null
+                ? balance.getLastTransactionDate()
                 .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
                 : "";
 
-        // 4. DTO 생성
+        // 5. DTO 생성
         CheckingBalanceDto balanceDto = CheckingBalanceDto.builder()
-                .accountId(checkingAccount.getId())
-                .currentBalance(checkingAccount.getCurrentBalance())
+                .accountId(balance.getAccountId())
+                .currentBalance(balance.getCurrentBalance())
                 .bankName(bankName)
                 .lastTransactionDate(lastTransactionDate)
                 .build();
 
         log.info("입출금계좌 잔액 조회 완료 - 계좌ID: {}, 잔액: {}원",
-                checkingAccount.getId(), checkingAccount.getCurrentBalance());
+                balance.getAccountId(), balance.getCurrentBalance());
 
         return balanceDto;
     }
 
+    // 캐시 미스 시 DB 에서 읽어 캐시에 채움 (더 최신 버전이 이미 있으면 캐시 값 유지)
+    private CheckingBalanceView loadCheckingBalance(Long userId) {
+        Account checkingAccount = checkingAccountResolver.resolve(userId);
+        CheckingBalanceView balance = CheckingBalanceView.builder()
+                .accountId(checkingAccount.getId())
+                .currentBalance(checkingAccount.getCurrentBalance())
+                .balanceVersion(checkingAccount.getBalanceVersion())
+                .companyCode(checkingAccount.getCompanyCode())
+                .lastTransactionDate(checkingAccount.getLastTransactionDate())
+                .build();
+        checkingBalanceCache.put(balance);
+        return balance;
+    }
+
+    private CheckingBalanceDto toCheckingBalance(AccountSummaryEntry entry) {
+        return CheckingBalanceDto.builder()
+                .accountId(entry.getInfo().getAccountId())
+                .currentBalance(entry.getInfo().getBalance())
+                .bankName(entry.getInfo().getBank())
+                .lastTransactionDate(entry.getLastTransactionDate() != null
+                        ? entry.getLastTransactionDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
+                        : "")
+                .build();
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.backend.domain.account.service;
+
+import com.backend.domain.account.event.AccountBalanceChangedEvent;
+import com.backend.domain.account.event.AccountSummaryChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 계좌 요약 갱신 (AccountService/ContractService 이벤트를 커밋 후 반영, 롤백된 변경은 반영되지 않음)
+// - 잔액 변경: Redis 잔액 필드만 갱신 (DB 조회 없음)
+// - 구조 변경: 세대 증가로 진행 중인 재생성 무효화만 하고 다음 조회 때 재생성
+//   (커밋 직후 리스너는 요청 스레드에서 돌므로 DB 조회를 하지 않음 → 커넥션 추가 점유 없음)
+// 트랜잭션 밖에서 발행된 이벤트(fallbackExecution)는 즉시 반영
+@Component
+@RequiredArgsConstructor
+public class AccountSummaryProjector {
+
+    private final AccountSummaryStore accountSummaryStore;
+
+    @Value("${everybank.account-summary.enabled:true}")
+    private boolean accountSummaryEnabled;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBalanceChanged(AccountBalanceChangedEvent event) {
+        if (!accountSummaryEnabled) {
+            return;
+        }
+        accountSummaryStore.patchBalance(event.getUserId(), event.getAccountId(), event.getCurrentBalance(),
+                event.getBalanceVersion(), event.getLastTransactionDate());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSummaryChanged(AccountSummaryChangedEvent event) {
+        if (!accountSummaryEnabled) {
+            return;
+        }
+
+        for (Long userId : event.getUserIds()) {
+            accountSummaryStore.invalidate(userId);
+        }
+    }
+}
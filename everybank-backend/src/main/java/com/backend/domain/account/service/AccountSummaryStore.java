@@ -0,0 +1,232 @@
+package com.backend.domain.account.service;
+
+import com.backend.domain.account.dto.AccountInfoDto;
+import com.backend.domain.account.dto.AccountSummaryEntry;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// 사용자별 계좌 요약 read model (Redis 해시 account:summary:{userId})
+// - a:{계좌ID} 계좌 정보 JSON, b:/t:/v:{계좌ID} 잔액/최근 거래일시/balance_version
+// - ready 가 있을 때만 완성된 요약으로 보고, 없으면 원본 테이블에서 다시 만듦
+// - gen: 계좌 개설/해지 등 구조 변경마다 1 증가 → 그 전에 읽기 시작한 재생성 결과는 버려짐
+// - 잔액은 balance_version 이 더 큰 값만 반영 (재생성과 잔액 이벤트의 도착 순서와 무관)
+// - a: 없이 b:/t:/v: 만 있는 계좌는 조회 결과에 포함되지 않음 (다음 재생성 때 정보와 합쳐지거나 정리됨)
+@Slf4j
+@Component
+public class AccountSummaryStore {
+
+    private static final String KEY_PREFIX = "account:summary:";
+
+    // 구조 변경 - 세대 증가 + 미완성 표시 (진행 중인 재생성 결과 무효화)
+    private static final RedisScript<Long> INVALIDATE = new DefaultRedisScript<>(
+            "local gen = redis.call('HINCRBY', KEYS[1], 'gen', 1) " +
+            "redis.call('HDEL', KEYS[1], 'ready') " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return gen",
+            Long.class);
+
+    // 전체 요약 저장 - 읽기 시작할 때의 세대와 같을 때만 저장 (1: 저장, 0: 무시)
+    // ARGV: 세대, TTL, (계좌ID, JSON, version, 잔액, 최근 거래일시) 반복
+    private static final RedisScript<Long> WRITE_IF_SAME_GENERATION = new DefaultRedisScript<>(
+            "local gen = redis.call('HGET', KEYS[1], 'gen') or '0' " +
+            "if gen ~= ARGV[1] then return 0 end " +
+            "local keep = {} " +
+            "for i = 3, #ARGV, 5 do " +
+            "  local id = ARGV[i] " +
+            "  keep[id] = true " +
+            "  redis.call('HSET', KEYS[1], 'a:' .. id, ARGV[i + 1]) " +
+            "  local current = redis.call('HGET', KEYS[1], 'v:' .. id) " +
+            "  if not current or tonumber(current) < tonumber(ARGV[i + 2]) then " +
+            "    redis.call('HSET', KEYS[1], 'v:' .. id, ARGV[i + 2], 'b:' .. id, ARGV[i + 3], 't:' .. id, ARGV[i + 4]) " +
+            "  end " +
+            "end " +
+            "for _, field in ipairs(redis.call('HKEYS', KEYS[1])) do " +
+            "  local id = string.match(field, '^[abtv]:(.+)$') " +
+            "  if id and not keep[id] then redis.call('HDEL', KEYS[1], field) end " +
+            "end " +
+            "redis.call('HSET', KEYS[1], 'ready', '1') " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1",
+            Long.class);
+
+    // 잔액 갱신 - version 이 더 클 때만 반영 (1: 반영, 0: 무시)
+    // ready 가 없어도(재생성 중) 기록 → 재생성 결과가 이보다 오래된 replica/스냅샷 값이어도 WRITE 에서 덮어쓰지 않음
+    // ARGV: 계좌ID, version, 잔액, 최근 거래일시, TTL
+    private static final RedisScript<Long> PATCH_BALANCE_IF_NEWER = new DefaultRedisScript<>(
+            "local current = redis.call('HGET', KEYS[1], 'v:' .. ARGV[1]) " +
+            "if current and tonumber(current) >= tonumber(ARGV[2]) then return 0 end " +
+            "redis.call('HSET', KEYS[1], 'v:' .. ARGV[1], ARGV[2], 'b:' .. ARGV[1], ARGV[3], 't:' .. ARGV[1], ARGV[4]) " +
+            "if redis.call('TTL', KEYS[1]) < 0 then redis.call('EXPIRE', KEYS[1], ARGV[5]) end " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public AccountSummaryStore(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                               @Value("${everybank.account-summary.ttl-hours:24}") long ttlHours) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    // 완성된 요약 조회 (계좌 ID 순, 없거나 Redis 오류면 empty)
+    public Optional<List<AccountSummaryEntry>> find(Long userId) {
+        try {
+            Map<Object, Object> hash = redisTemplate.opsForHash().entries(key(userId));
+            if (!hash.containsKey("ready")) {
+                return Optional.empty();
+            }
+            return Optional.of(fromHash(hash));
+        } catch (DataAccessException | IllegalStateException | NumberFormatException e) {
+            log.warn("계좌 요약 조회 실패 - 사용자: {}: {}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // 재생성 전에 현재 세대 확인 (Redis 오류면 -1 → 저장되지 않음)
+    public long generation(Long userId) {
+        try {
+            Object gen = redisTemplate.opsForHash().get(key(userId), "gen");
+            return gen != null ? Long.parseLong((String) gen) : 0L;
+        } catch (DataAccessException e) {
+            log.warn("계좌 요약 세대 조회 실패 - 사용자: {}: {}", userId, e.getMessage());
+            return -1L;
+        }
+    }
+
+    // 구조 변경 반영 - 증가한 세대 반환 (Redis 오류면 -1)
+    public long invalidate(Long userId) {
+        try {
+            Long gen = redisTemplate.execute(INVALIDATE, List.of(key(userId)), String.valueOf(ttl.toSeconds()));
+            return gen != null ? gen : -1L;
+        } catch (DataAccessException e) {
+            log.warn("계좌 요약 무효화 실패 - 사용자: {}: {}", userId, e.getMessage());
+            return -1L;
+        }
+    }
+
+    public boolean write(Long userId, long generation, List<AccountSummaryEntry> entries) {
+        if (generation < 0) {
+            return false;
+        }
+
+        List<String> args = new ArrayList<>(2 + entries.size() * 5);
+        args.add(String.valueOf(generation));
+        args.add(String.valueOf(ttl.toSeconds()));
+        for (AccountSummaryEntry entry : entries) {
+            AccountInfoDto info = entry.getInfo();
+            args.add(String.valueOf(info.getAccountId()));
+            args.add(toJson(info));
+            args.add(String.valueOf(entry.getBalanceVersion()));
+            args.add(String.valueOf(info.getBalance()));
+            args.add(entry.getLastTransactionDate() != null ? entry.getLastTransactionDate().toString() : "");
+        }
+
+        try {
+            Long written = redisTemplate.execute(WRITE_IF_SAME_GENERATION, List.of(key(userId)), args.toArray());
+            return written != null && written == 1L;
+        } catch (DataAccessException e) {
+            log.warn("계좌 요약 저장 실패 - 사용자: {}: {}", userId, e.getMessage());
+            return false;
+        }
+    }
+
+    public void patchBalance(Long userId, Integer accountId, Long balance, Long balanceVersion,
+                             LocalDateTime lastTransactionDate) {
+        try {
+            redisTemplate.execute(PATCH_BALANCE_IF_NEWER, List.of(key(userId)),
+                    String.valueOf(accountId),
+                    String.valueOf(balanceVersion),
+                    String.valueOf(balance),
+                    lastTransactionDate != null ? lastTransactionDate.toString() : "",
+                    String.valueOf(ttl.toSeconds()));
+        } catch (DataAccessException e) {
+            // 잔액이 뒤처진 요약이 남지 않도록 무효화 (다음 조회 때 다시 만듦)
+            log.warn("계좌 요약 잔액 갱신 실패 - 사용자: {}, 계좌ID: {}: {}", userId, accountId, e.getMessage());
+            invalidate(userId);
+        }
+    }
+
+    // 전체 요약 삭제 (재생성 배치 시작 시 - 원본에 없는 사용자의 요약까지 제거), 삭제한 키 수 반환
+    public long clear() {
+        long deleted = 0;
+        List<String> keys = new ArrayList<>(1000);
+        try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build())) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == 1000) {
+                    deleted += unlink(keys);
+                }
+            }
+        }
+        return deleted + unlink(keys);
+    }
+
+    private long unlink(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long unlinked = redisTemplate.unlink(keys);
+        keys.clear();
+        return unlinked != null ? unlinked : 0;
+    }
+
+    private List<AccountSummaryEntry> fromHash(Map<Object, Object> hash) {
+        List<AccountSummaryEntry> entries = new ArrayList<>();
+        for (Map.Entry<Object, Object> field : hash.entrySet()) {
+            String name = (String) field.getKey();
+            if (!name.startsWith("a:")) {
+                continue;
+            }
+
+            String accountId = name.substring(2);
+            AccountInfoDto info = fromJson((String) field.getValue());
+            info.setBalance(Long.valueOf((String) hash.get("b:" + accountId)));
+            String lastTransactionDate = (String) hash.get("t:" + accountId);
+
+            entries.add(AccountSummaryEntry.builder()
+                    .info(info)
+                    .balanceVersion(Long.valueOf((String) hash.get("v:" + accountId)))
+                    .lastTransactionDate(lastTransactionDate == null || lastTransactionDate.isEmpty()
+                            ? null : LocalDateTime.parse(lastTransactionDate))
+                    .build());
+        }
+        entries.sort(Comparator.comparingInt(entry -> entry.getInfo().getAccountId()));
+        return entries;
+    }
+
+    private String toJson(AccountInfoDto info) {
+        try {
+            return objectMapper.writeValueAsString(info);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("계좌 요약 직렬화 실패 - 계좌ID: " + info.getAccountId(), e);
+        }
+    }
+
+    private AccountInfoDto fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, AccountInfoDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("계좌 요약 역직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
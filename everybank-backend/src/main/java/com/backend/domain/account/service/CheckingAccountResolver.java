@@ -0,0 +1,92 @@
+package com.backend.domain.account.service;
+
+import com.backend.domain.account.domain.Account;
+import com.backend.domain.account.domain.AccountState;
+import com.backend.domain.account.domain.AccountType;
+import com.backend.domain.account.repository.AccountRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// 사용자 → 입출금계좌 조회
+// - (user_id, account_type, account_state) 인덱스로 활성 입출금계좌 한 건만 조회
+// - 찾은 계좌 ID는 사용자별로 캐시 (계좌 개설/해지 시 무효화)
+@Slf4j
+@Component
+public class CheckingAccountResolver {
+
+    private static final String NO_CHECKING_ACCOUNT = "입출금계좌가 없습니다. 먼저 입출금계좌를 개설해주세요.";
+
+    private final AccountRepository accountRepository;
+    private final Cache<Long, Integer> checkingAccountIds;
+
+    public CheckingAccountResolver(AccountRepository accountRepository,
+                                   @Value("${everybank.checking-account-cache.max-size:100000}") long maxSize,
+                                   @Value("${everybank.checking-account-cache.ttl-minutes:30}") long ttlMinutes) {
+        this.accountRepository = accountRepository;
+        this.checkingAccountIds = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    // 입출금계좌 ID만 필요한 경우 (캐시 적중 시 DB 조회 없음)
+    // 잔액 UPDATE 가 계좌 상태를 함께 확인하므로 해지된 계좌 ID가 남아 있어도 잘못 처리되지 않음
+    public Integer resolveId(Long userId) {
+        Integer cached = checkingAccountIds.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+        return load(userId).getId();
+    }
+
+    // 입출금계좌 엔티티가 필요한 경우 (잔액/은행 정보 조회)
+    public Account resolve(Long userId) {
+        Integer cached = checkingAccountIds.getIfPresent(userId);
+        if (cached != null) {
+            Optional<Account> account = accountRepository.findById(Long.valueOf(cached))
+                    .filter(found -> isActiveCheckingAccountOf(found, userId));
+            if (account.isPresent()) {
+                return account.get();
+            }
+            // 캐시된 계좌가 해지/변경된 경우 다시 조회
+            checkingAccountIds.invalidate(userId);
+        }
+        return load(userId);
+    }
+
+    public boolean hasCheckingAccount(Long userId) {
+        return accountRepository.existsByUserIdAndAccountTypeAndAccountState(userId, AccountType.CHECK, AccountState.ACTIVE);
+    }
+
+    // 입출금계좌 개설 시
+    public void evict(Long userId) {
+        checkingAccountIds.invalidate(userId);
+    }
+
+    // 계좌 해지/비활성 확인 시 (사용자 ID를 모르는 경우 계좌 ID로 제거)
+    public void evictAccount(Integer accountId) {
+        if (checkingAccountIds.asMap().values().remove(accountId)) {
+            log.info("입출금계좌 캐시 무효화 - 계좌ID: {}", accountId);
+        }
+    }
+
+    private Account load(Long userId) {
+        Account account = accountRepository
+                .findFirstByUserIdAndAccountTypeAndAccountState(userId, AccountType.CHECK, AccountState.ACTIVE)
+                .orElseThrow(() -> new IllegalArgumentException(NO_CHECKING_ACCOUNT));
+        checkingAccountIds.put(userId, account.getId());
+        return account;
+    }
+
+    private boolean isActiveCheckingAccountOf(Account account, Long userId) {
+        return account.getUserId().equals(userId)
+                && account.getAccountType() == AccountType.CHECK
+                && account.getAccountState() == AccountState.ACTIVE;
+    }
+}
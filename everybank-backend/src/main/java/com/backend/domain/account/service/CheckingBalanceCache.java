@@ -0,0 +1,140 @@
+package com.backend.domain.account.service;
+
+import com.backend.domain.account.dto.CheckingBalanceView;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 입출금계좌 잔액 캐시 (write-through)
+// - 노드 내 near-cache(Caffeine) → Redis 해시(account:balance:{id}) 순으로 조회
+// - 잔액 UPDATE 가 커밋된 뒤에만 반영 (롤백된 잔액은 캐시에 들어가지 않음)
+// - balance_version 이 더 큰 값만 반영하므로 늦게 도착한 오래된 값이 최신 잔액을 덮어쓰지 않음
+@Slf4j
+@Component
+public class CheckingBalanceCache {
+
+    private static final String KEY_PREFIX = "account:balance:";
+
+    // 저장된 version 보다 클 때만 갱신 (1: 반영, 0: 무시)
+    private static final RedisScript<Long> PUT_IF_NEWER = new DefaultRedisScript<>(
+            "local current = redis.call('HGET', KEYS[1], 'version') " +
+            "if current and tonumber(current) >= tonumber(ARGV[1]) then return 0 end " +
+            "redis.call('HSET', KEYS[1], 'version', ARGV[1], 'balance', ARGV[2], 'companyCode', ARGV[3], 'lastTransactionDate', ARGV[4]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[5]) " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<Integer, CheckingBalanceView> nearCache;
+    private final Duration ttl;
+
+    public CheckingBalanceCache(StringRedisTemplate redisTemplate,
+                                @Value("${everybank.balance-cache.ttl-minutes:60}") long ttlMinutes,
+                                @Value("${everybank.balance-cache.near-cache-ttl-seconds:2}") long nearCacheTtlSeconds,
+                                @Value("${everybank.balance-cache.near-cache-max-size:100000}") long nearCacheMaxSize) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        // 다른 노드에서 갱신된 잔액은 near-cache 만료 후 Redis 에서 다시 읽음
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(nearCacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(nearCacheTtlSeconds))
+                .build();
+    }
+
+    public Optional<CheckingBalanceView> get(Integer accountId) {
+        CheckingBalanceView cached = nearCache.getIfPresent(accountId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        try {
+            Map<Object, Object> hash = redisTemplate.opsForHash().entries(key(accountId));
+            if (hash.isEmpty()) {
+                return Optional.empty();
+            }
+
+            CheckingBalanceView view = fromHash(accountId, hash);
+            putLocal(view);
+            return Optional.of(view);
+        } catch (DataAccessException e) {
+            log.warn("잔액 캐시 조회 실패 - 계좌ID: {}: {}", accountId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // 진행 중인 트랜잭션이 있으면 커밋 후 반영, 없으면 바로 반영
+    public void putAfterCommit(CheckingBalanceView view) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(view);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(view);
+            }
+        });
+    }
+
+    public void put(CheckingBalanceView view) {
+        putLocal(view);
+
+        try {
+            redisTemplate.execute(PUT_IF_NEWER, List.of(key(view.getAccountId())),
+                    String.valueOf(view.getBalanceVersion()),
+                    String.valueOf(view.getCurrentBalance()),
+                    view.getCompanyCode(),
+                    view.getLastTransactionDate() != null ? view.getLastTransactionDate().toString() : "",
+                    String.valueOf(ttl.toSeconds()));
+        } catch (DataAccessException e) {
+            // 갱신에 실패하면 이전 값이 남지 않도록 제거 (다음 조회 때 DB 에서 다시 채움)
+            log.warn("잔액 캐시 갱신 실패 - 계좌ID: {}: {}", view.getAccountId(), e.getMessage());
+            evict(view.getAccountId());
+        }
+    }
+
+    public void evict(Integer accountId) {
+        nearCache.invalidate(accountId);
+        try {
+            redisTemplate.delete(key(accountId));
+        } catch (DataAccessException e) {
+            log.warn("잔액 캐시 삭제 실패 - 계좌ID: {}: {}", accountId, e.getMessage());
+        }
+    }
+
+    private void putLocal(CheckingBalanceView view) {
+        nearCache.asMap().merge(view.getAccountId(), view,
+                (current, incoming) -> incoming.getBalanceVersion() > current.getBalanceVersion() ? incoming : current);
+    }
+
+    private CheckingBalanceView fromHash(Integer accountId, Map<Object, Object> hash) {
+        String lastTransactionDate = (String) hash.get("lastTransactionDate");
+        return CheckingBalanceView.builder()
+                .accountId(accountId)
+                .balanceVersion(Long.valueOf((String) hash.get("version")))
+                .currentBalance(Long.valueOf((String) hash.get("balance")))
+                .companyCode((String) hash.get("companyCode"))
+                .lastTransactionDate(lastTransactionDate == null || lastTransactionDate.isEmpty()
+                        ? null : LocalDateTime.parse(lastTransactionDate))
+                .build();
+    }
+
+    private String key(Integer accountId) {
+        return KEY_PREFIX + accountId;
+    }
+}
@@ -0,0 +1,35 @@
+package com.backend.domain.company.service;
+
+import com.backend.domain.company.domain.FinCompany;
+import com.backend.domain.company.repository.FinCompanyRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 금융회사 코드 → 회사명 캐시 (회사 정보는 상품 데이터 적재 시에만 바뀜)
+@Component
+public class CompanyNameCache {
+
+    private final LoadingCache<String, String> companyNames;
+
+    public CompanyNameCache(FinCompanyRepository finCompanyRepository) {
+        this.companyNames = Caffeine.newBuilder()
+                .maximumSize(1000)
+                .expireAfterWrite(Duration.ofHours(1))
+                .build(companyCode -> {
+                    FinCompany company = finCompanyRepository.findFinCompanyByCompanyCode(companyCode);
+                    return company != null ? company.getCompanyName() : null;
+                });
+    }
+
+    public String getCompanyName(String companyCode) {
+        String companyName = companyNames.get(companyCode);
+        return companyName != null ? companyName : "알 수 없음";
+    }
+
+    public void clear() {
+        companyNames.invalidateAll();
+    }
+}
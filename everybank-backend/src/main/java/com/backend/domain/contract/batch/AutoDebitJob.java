@@ -0,0 +1,137 @@
+package com.backend.domain.contract.batch;
+
+import com.backend.domain.contract.repository.AutoDebitJdbcRepository;
+import com.backend.global.batch.BatchExecutorConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 적금 월 납입 자동이체 배치
+// - 납입일이 된 계약 ID를 keyset 페이지(contract_id > 마지막 ID)로 읽어 청크 단위로 워커 풀에 분배
+// - 청크마다 한 트랜잭션에서 잠금 → 잔액 확인 → set 단위 UPDATE → 거래내역 배치 INSERT
+// - 실패(잔액 부족 등)는 auto_debit_failure 에 기록, 계약은 그대로 남아 다음 실행에서 재시도
+@Slf4j
+@Component
+public class AutoDebitJob {
+
+    private final AutoDebitJdbcRepository autoDebitJdbcRepository;
+    private final AutoDebitProcessor autoDebitProcessor;
+    private final ThreadPoolTaskExecutor batchWorkerExecutor;
+    private final int chunkSize;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public AutoDebitJob(AutoDebitJdbcRepository autoDebitJdbcRepository,
+                        AutoDebitProcessor autoDebitProcessor,
+                        @Qualifier(BatchExecutorConfig.BATCH_WORKER_EXECUTOR) ThreadPoolTaskExecutor batchWorkerExecutor,
+                        @Value("${everybank.auto-debit.chunk-size:500}") int chunkSize) {
+        this.autoDebitJdbcRepository = autoDebitJdbcRepository;
+        this.autoDebitProcessor = autoDebitProcessor;
+        this.batchWorkerExecutor = batchWorkerExecutor;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${everybank.auto-debit.cron:0 0 2 * * *}")
+    public void runScheduled() {
+        run(LocalDate.now());
+    }
+
+    public AutoDebitResult run(LocalDate dueDate) {
+        // 미래 납입일로 실행하면 아직 도래하지 않은 회차까지 출금됨
+        if (dueDate.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("오늘 이후 납입일로는 자동이체할 수 없습니다: " + dueDate);
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("자동이체 배치가 이미 실행 중입니다.");
+        }
+
+        try {
+            return execute(dueDate);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private AutoDebitResult execute(LocalDate dueDate) {
+        log.info("적금 자동이체 시작 - 기준일: {}, 청크 크기: {}", dueDate, chunkSize);
+        long startTime = System.nanoTime();
+
+        AtomicLong succeeded = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        long scanned = 0;
+        int chunks = 0;
+        long lastContractId = 0;
+
+        while (true) {
+            List<Long> contractIds = autoDebitJdbcRepository.findDueContractIds(lastContractId, dueDate, chunkSize);
+            if (contractIds.isEmpty()) {
+                break;
+            }
+
+            lastContractId = contractIds.get(contractIds.size() - 1);
+            scanned += contractIds.size();
+            int chunkNo = ++chunks;
+
+            futures.add(CompletableFuture.runAsync(
+                    () -> processChunk(chunkNo, contractIds, dueDate, succeeded, failed), batchWorkerExecutor));
+
+            if (contractIds.size() < chunkSize) {
+                break;
+            }
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        long elapsedMs = (System.nanoTime() - startTime) / 1_000_000;
+        AutoDebitResult result = AutoDebitResult.builder()
+                .dueDate(dueDate)
+                .chunks(chunks)
+                .scanned(scanned)
+                .succeeded(succeeded.get())
+                .failed(failed.get())
+                .skipped(scanned - succeeded.get() - failed.get())
+                .elapsedMs(elapsedMs)
+                .contractsPerSecond(throughput(scanned, elapsedMs))
+                .build();
+
+        log.info("적금 자동이체 완료 - 기준일: {}, 청크: {}, 대상: {}, 성공: {}, 실패: {}, 제외: {}, {}ms ({}건/s)",
+                dueDate, result.getChunks(), result.getScanned(), result.getSucceeded(), result.getFailed(),
+                result.getSkipped(), elapsedMs, String.format("%.1f", result.getContractsPerSecond()));
+        return result;
+    }
+
+    private void processChunk(int chunkNo, List<Long> contractIds, LocalDate dueDate,
+                              AtomicLong succeeded, AtomicLong failed) {
+        long chunkStart = System.nanoTime();
+        try {
+            AutoDebitProcessor.ChunkResult result = autoDebitProcessor.process(contractIds, dueDate);
+            succeeded.addAndGet(result.getSucceeded());
+            failed.addAndGet(result.getFailed());
+
+            long chunkMs = (System.nanoTime() - chunkStart) / 1_000_000;
+            log.info("자동이체 청크 #{} - 계약 {}~{}, 대상: {}, 성공: {}, 실패: {}, {}ms ({}건/s)",
+                    chunkNo, contractIds.get(0), contractIds.get(contractIds.size() - 1), contractIds.size(),
+                    result.getSucceeded(), result.getFailed(), chunkMs,
+                    String.format("%.1f", throughput(contractIds.size(), chunkMs)));
+        } catch (RuntimeException e) {
+            // 청크 전체가 롤백됨 - 계약은 그대로 남아 다음 실행에서 다시 처리
+            log.error("자동이체 청크 #{} 실패 - 계약 {}~{}: {}", chunkNo,
+                    contractIds.get(0), contractIds.get(contractIds.size() - 1), e.getMessage(), e);
+        }
+    }
+
+    private double throughput(long count, long elapsedMs) {
+        return elapsedMs > 0 ? count * 1000.0 / elapsedMs : count;
+    }
+}
@@ -0,0 +1,161 @@
+package com.backend.domain.contract.batch;
+
+import com.backend.domain.account.dto.CheckingBalanceView;
+import com.backend.domain.account.event.AccountSummaryChangedEvent;
+import com.backend.domain.account.repository.AccountJdbcRepository;
+import com.backend.domain.account.service.CheckingBalanceCache;
+import com.backend.domain.contract.domain.AutoDebitFailure;
+import com.backend.domain.contract.domain.AutoDebitFailureReason;
+import com.backend.domain.contract.dto.AutoDebitTarget;
+import com.backend.domain.contract.repository.AutoDebitJdbcRepository;
+import com.backend.domain.transaction.domain.Transaction;
+import com.backend.domain.transaction.domain.TransactionType;
+import com.backend.domain.transaction.repository.TransactionJournal;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// 자동이체 청크 처리 (청크 하나 = DB 트랜잭션 하나)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AutoDebitProcessor {
+
+    private final AutoDebitJdbcRepository autoDebitJdbcRepository;
+    private final AccountJdbcRepository accountJdbcRepository;
+    private final TransactionJournal transactionJournal;
+    private final CheckingBalanceCache checkingBalanceCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ChunkResult process(List<Long> contractIds, LocalDate dueDate) {
+        return transactionTemplate.execute(status -> processInTransaction(contractIds, dueDate));
+    }
+
+    private ChunkResult processInTransaction(List<Long> contractIds, LocalDate dueDate) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. 대상 계약 잠금 + 조건 재확인 (다른 노드가 잡고 있는 계약은 건너뜀)
+        List<AutoDebitTarget> targets = autoDebitJdbcRepository.lockDueTargets(contractIds, dueDate);
+        if (targets.isEmpty()) {
+            return new ChunkResult(0, 0);
+        }
+
+        // 2. 입출금계좌 잠금 + 잔액 조회 (계좌 ID 순)
+        Set<Integer> checkingAccountIds = new TreeSet<>();
+        targets.stream()
+                .map(AutoDebitTarget::getCheckingAccountId)
+                .filter(Objects::nonNull)
+                .forEach(checkingAccountIds::add);
+        Map<Integer, Long> balances = accountJdbcRepository.lockBalances(checkingAccountIds);
+
+        // 3. 계약 ID 순으로 잔액 안에서 납입 가능 여부 결정
+        Map<Integer, Long> remaining = new HashMap<>(balances);
+        List<AutoDebitTarget> approved = new ArrayList<>();
+        List<AutoDebitFailure> failures = new ArrayList<>();
+
+        for (AutoDebitTarget target : targets) {
+            Long balance = target.getCheckingAccountId() != null ? remaining.get(target.getCheckingAccountId()) : null;
+            if (balance == null) {
+                failures.add(failure(target, AutoDebitFailureReason.NO_CHECKING_ACCOUNT, now));
+                continue;
+            }
+            if (balance < target.getAmount()) {
+                failures.add(failure(target, AutoDebitFailureReason.INSUFFICIENT_BALANCE, now));
+                continue;
+            }
+            remaining.put(target.getCheckingAccountId(), balance - target.getAmount());
+            approved.add(target);
+        }
+
+        // 4. 승인된 납입을 set 단위로 반영
+        if (!approved.isEmpty()) {
+            applyApproved(approved, balances, now);
+        }
+
+        // 5. 실패 기록 (계약이 남아 있으므로 다음 실행에서 다시 시도됨)
+        if (!failures.isEmpty()) {
+            autoDebitJdbcRepository.insertFailures(failures);
+        }
+
+        return new ChunkResult(approved.size(), failures.size());
+    }
+
+    private void applyApproved(List<AutoDebitTarget> approved, Map<Integer, Long> balances, LocalDateTime now) {
+        Map<Integer, Long> debits = new LinkedHashMap<>();
+        Map<Integer, Long> credits = new LinkedHashMap<>();
+        List<Long> contractIds = new ArrayList<>(approved.size());
+        for (AutoDebitTarget target : approved) {
+            debits.merge(target.getCheckingAccountId(), target.getAmount(), Long::sum);
+            credits.merge(target.getSavingAccountId(), target.getAmount(), Long::sum);
+            contractIds.add(target.getContractId());
+        }
+
+        // 입출금계좌 차감 (잠금을 잡고 잔액을 확인했으므로 모두 갱신되어야 함)
+        List<CheckingBalanceView> debited = accountJdbcRepository.debitAll(debits, now);
+        if (debited.size() != debits.size()) {
+            throw new IllegalStateException("자동이체 출금 반영 건수 불일치: " + debited.size() + "/" + debits.size());
+        }
+        debited.forEach(checkingBalanceCache::putAfterCommit);
+
+        // 적금계좌 입금 + 납입 횟수 증가
+        List<CheckingBalanceView> credited = accountJdbcRepository.creditAllWithBalances(credits, now);
+        if (credited.size() != credits.size()) {
+            throw new IllegalStateException("자동이체 입금 반영 건수 불일치: " + credited.size() + "/" + credits.size());
+        }
+        autoDebitJdbcRepository.recordPayments(contractIds, now.toLocalDate());
+        autoDebitJdbcRepository.resolveFailures(contractIds);
+
+        // 잔액/납입 횟수가 바뀐 사용자의 계좌 요약은 커밋 후 무효화
+        Set<Long> userIds = new HashSet<>();
+        approved.forEach(target -> userIds.add(target.getUserId()));
+        eventPublisher.publishEvent(AccountSummaryChangedEvent.ofBatch(userIds));
+
+        // 거래내역 (입출금계좌/적금계좌별 계약 ID 순 잔액)
+        Map<Integer, Long> runningBalances = new HashMap<>(balances);
+        Map<Integer, Long> savingBalances = new HashMap<>();
+        credited.forEach(view -> savingBalances.put(view.getAccountId(),
+                view.getCurrentBalance() - credits.get(view.getAccountId())));
+        for (AutoDebitTarget target : approved) {
+            long balance = runningBalances.merge(target.getCheckingAccountId(), -target.getAmount(), Long::sum);
+            long savingBalance = savingBalances.merge(target.getSavingAccountId(), target.getAmount(), Long::sum);
+            transactionJournal.append(Transaction.builder()
+                    .transactionType(TransactionType.PAYMENT)
+                    .amount(target.getAmount())
+                    .fromAccountId(target.getCheckingAccountId())
+                    .toAccountId(target.getSavingAccountId())
+                    .currentBalance(balance)
+                    .fromBalance(balance)
+                    .toBalance(savingBalance)
+                    .createdAt(now)
+                    .build());
+        }
+    }
+
+    private AutoDebitFailure failure(AutoDebitTarget target, AutoDebitFailureReason reason, LocalDateTime now) {
+        return AutoDebitFailure.builder()
+                .contractId(target.getContractId())
+                .savingAccountId(target.getSavingAccountId())
+                .checkingAccountId(target.getCheckingAccountId())
+                .amount(target.getAmount())
+                .dueDate(target.getInstallmentDueDate())
+                .reason(reason)
+                .failedAt(now)
+                .build();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ChunkResult {
+        private final int succeeded;
+        private final int failed;
+    }
+}
@@ -0,0 +1,20 @@
+package com.backend.domain.contract.batch;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 자동이체 배치 실행 결과
+@Getter
+@Builder
+public class AutoDebitResult {
+    private LocalDate dueDate;
+    private int chunks;
+    private long scanned;
+    private long succeeded;
+    private long failed;
+    private long skipped;       // 잠금 중이거나 조건이 바뀌어 이번 실행에서 제외된 계약
+    private long elapsedMs;
+    private double contractsPerSecond;
+}
@@ -0,0 +1,135 @@
+package com.backend.domain.contract.batch;
+
+import com.backend.domain.contract.repository.ContractTable;
+import com.backend.domain.contract.repository.InterestAccrualJdbcRepository;
+import com.backend.global.batch.BatchExecutorConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 예금/적금 일별 이자 적립 배치
+// - 기준일 적립이 없는 진행 중 계약만 keyset 청크로 읽어 워커 풀에서 병렬 처리
+// - 계약마다 기준일 하루치만 계산해 (계약, 기준일) 행으로 저장, 전일 행과의 차이를 증가분으로 기록
+// - 이미 적립된 계약은 다시 읽히지 않으므로 중단 후 같은 기준일로 재실행하면 남은 계약만 처리
+@Slf4j
+@Component
+public class InterestAccrualJob {
+
+    private final InterestAccrualJdbcRepository interestAccrualJdbcRepository;
+    private final InterestAccrualProcessor interestAccrualProcessor;
+    private final ThreadPoolTaskExecutor batchWorkerExecutor;
+    private final int chunkSize;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public InterestAccrualJob(InterestAccrualJdbcRepository interestAccrualJdbcRepository,
+                              InterestAccrualProcessor interestAccrualProcessor,
+                              @Qualifier(BatchExecutorConfig.BATCH_WORKER_EXECUTOR) ThreadPoolTaskExecutor batchWorkerExecutor,
+                              @Value("${everybank.interest-accrual.chunk-size:1000}") int chunkSize) {
+        this.interestAccrualJdbcRepository = interestAccrualJdbcRepository;
+        this.interestAccrualProcessor = interestAccrualProcessor;
+        this.batchWorkerExecutor = batchWorkerExecutor;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${everybank.interest-accrual.cron:0 5 0 * * *}")
+    public void runScheduled() {
+        run(LocalDate.now());
+    }
+
+    public InterestAccrualResult run(LocalDate accrualDate) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이자 적립 배치가 이미 실행 중입니다.");
+        }
+
+        try {
+            return execute(accrualDate);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private InterestAccrualResult execute(LocalDate accrualDate) {
+        log.info("이자 적립 시작 - 기준일: {}, 청크 크기: {}", accrualDate, chunkSize);
+        long startTime = System.nanoTime();
+
+        AtomicLong accrued = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        long scanned = 0;
+        int chunks = 0;
+
+        for (ContractTable table : ContractTable.values()) {
+            long lastContractId = 0;
+
+            while (true) {
+                List<Long> contractIds = interestAccrualJdbcRepository.findPendingContractIds(
+                        table, lastContractId, accrualDate, chunkSize);
+                if (contractIds.isEmpty()) {
+                    break;
+                }
+
+                lastContractId = contractIds.get(contractIds.size() - 1);
+                scanned += contractIds.size();
+                int chunkNo = ++chunks;
+
+                futures.add(CompletableFuture.runAsync(
+                        () -> processChunk(chunkNo, table, contractIds, accrualDate, accrued, failed), batchWorkerExecutor));
+
+                if (contractIds.size() < chunkSize) {
+                    break;
+                }
+            }
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        long elapsedMs = (System.nanoTime() - startTime) / 1_000_000;
+        InterestAccrualResult result = InterestAccrualResult.builder()
+                .accrualDate(accrualDate)
+                .chunks(chunks)
+                .scanned(scanned)
+                .accrued(accrued.get())
+                .failed(failed.get())
+                .elapsedMs(elapsedMs)
+                .contractsPerSecond(throughput(scanned, elapsedMs))
+                .build();
+
+        log.info("이자 적립 완료 - 기준일: {}, 청크: {}, 대상: {}, 적립: {}, 실패: {}, {}ms ({}건/s)",
+                accrualDate, chunks, scanned, result.getAccrued(), result.getFailed(),
+                elapsedMs, String.format("%.1f", result.getContractsPerSecond()));
+        return result;
+    }
+
+    private void processChunk(int chunkNo, ContractTable table, List<Long> contractIds, LocalDate accrualDate,
+                              AtomicLong accrued, AtomicLong failed) {
+        long chunkStart = System.nanoTime();
+        try {
+            int inserted = interestAccrualProcessor.process(table, contractIds, accrualDate);
+            accrued.addAndGet(inserted);
+
+            long chunkMs = (System.nanoTime() - chunkStart) / 1_000_000;
+            log.debug("이자 적립 청크 #{} - {} {}~{}, 적립: {}, {}ms", chunkNo, table,
+                    contractIds.get(0), contractIds.get(contractIds.size() - 1), inserted, chunkMs);
+        } catch (RuntimeException e) {
+            // 청크 전체가 롤백됨 - 적립이 없는 계약으로 남아 재실행 시 다시 처리
+            failed.addAndGet(contractIds.size());
+            log.error("이자 적립 청크 #{} 실패 - {} {}~{}: {}", chunkNo, table,
+                    contractIds.get(0), contractIds.get(contractIds.size() - 1), e.getMessage(), e);
+        }
+    }
+
+    private double throughput(long count, long elapsedMs) {
+        return elapsedMs > 0 ? count * 1000.0 / elapsedMs : count;
+    }
+}
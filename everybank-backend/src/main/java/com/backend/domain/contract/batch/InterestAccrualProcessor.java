@@ -0,0 +1,67 @@
+package com.backend.domain.contract.batch;
+
+import com.backend.domain.contract.domain.InterestAccrual;
+import com.backend.domain.contract.dto.AccruedInterest;
+import com.backend.domain.contract.dto.InterestAccrualTarget;
+import com.backend.domain.contract.repository.ContractTable;
+import com.backend.domain.contract.repository.InterestAccrualJdbcRepository;
+import com.backend.domain.contract.service.ContractInterestCalculator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 이자 적립 청크 처리 (청크 하나 = DB 트랜잭션 하나)
+@Component
+@RequiredArgsConstructor
+public class InterestAccrualProcessor {
+
+    private final InterestAccrualJdbcRepository interestAccrualJdbcRepository;
+    private final ContractInterestCalculator contractInterestCalculator;
+    private final TransactionTemplate transactionTemplate;
+
+    // 실제 적립된 건수 반환
+    public int process(ContractTable table, List<Long> contractIds, LocalDate accrualDate) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. 계약 + 전일 적립 조회
+        List<InterestAccrualTarget> targets = interestAccrualJdbcRepository.findTargets(table, contractIds, accrualDate);
+
+        // 2. 기준일 이자 계산 + 전일 대비 증가분
+        List<InterestAccrual> accruals = new ArrayList<>(targets.size());
+        for (InterestAccrualTarget target : targets) {
+            AccruedInterest accrued = accruedInterestOf(table, target, accrualDate);
+            long previous = target.getPreviousAccruedInterest() != null ? target.getPreviousAccruedInterest() : 0L;
+
+            accruals.add(InterestAccrual.builder()
+                    .contractType(table.getAccountType())
+                    .contractId(target.getContractId())
+                    .accrualDate(accrualDate)
+                    .accruedInterest(accrued.getInterest())
+                    .dailyInterest(accrued.getInterest() - previous)
+                    .appliedRate(accrued.getAppliedRate())
+                    .matured(accrued.isMatured())
+                    .contractRate(target.getContractRate())
+                    .paymentCount(target.getCurrentPaymentCount())
+                    .createdAt(now)
+                    .build());
+        }
+
+        // 3. 배치 INSERT (다른 실행이 먼저 적립한 계약은 건너뜀)
+        return transactionTemplate.execute(status -> interestAccrualJdbcRepository.insertAll(accruals));
+    }
+
+    private AccruedInterest accruedInterestOf(ContractTable table, InterestAccrualTarget target, LocalDate accrualDate) {
+        if (table == ContractTable.DEPOSIT) {
+            return contractInterestCalculator.calculateDepositInterestAsOf(target.getPayment(), target.getContractRate(),
+                    target.getRateType(), target.getContractDate(), target.getMaturityDate(), accrualDate);
+        }
+        return contractInterestCalculator.calculateSavingInterestAsOf(target.getMonthlyPayment(), target.getContractRate(),
+                target.getRateType(), target.getContractDate(), target.getMaturityDate(), accrualDate,
+                target.getCurrentPaymentCount());
+    }
+}
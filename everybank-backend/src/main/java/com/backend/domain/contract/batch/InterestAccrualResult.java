@@ -0,0 +1,19 @@
+package com.backend.domain.contract.batch;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 이자 적립 배치 실행 결과
+@Getter
+@Builder
+public class InterestAccrualResult {
+    private LocalDate accrualDate;
+    private int chunks;
+    private long scanned;
+    private long accrued;
+    private long failed;              // 실패한 청크의 계약 수 (다시 실행하면 남은 계약만 처리)
+    private long elapsedMs;
+    private double contractsPerSecond;
+}
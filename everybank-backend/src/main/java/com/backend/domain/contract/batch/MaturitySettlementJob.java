@@ -0,0 +1,204 @@
+package com.backend.domain.contract.batch;
+
+import com.backend.domain.contract.repository.ContractTable;
+import com.backend.domain.contract.repository.MaturitySettlementJdbcRepository;
+import com.backend.global.batch.BatchCheckpoint;
+import com.backend.global.batch.BatchCheckpointRepository;
+import com.backend.global.batch.BatchExecutorConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 예금/적금 만기정산 배치
+// - 만기 대상 계약 ID 범위를 파티션으로 나눠 워커 풀에서 병렬 처리
+// - 파티션마다 keyset 청크(contract_id > 마지막 커밋 ID)로 진행, 청크 커밋과 함께 batch_checkpoint 갱신
+// - 같은 기준일로 다시 실행하면 완료되지 않은 파티션만 마지막 체크포인트부터 재개
+@Slf4j
+@Component
+public class MaturitySettlementJob {
+
+    private static final String JOB_NAME_PREFIX = "maturity-";
+
+    private final MaturitySettlementJdbcRepository maturitySettlementJdbcRepository;
+    private final MaturitySettlementProcessor maturitySettlementProcessor;
+    private final BatchCheckpointRepository batchCheckpointRepository;
+    private final ThreadPoolTaskExecutor batchWorkerExecutor;
+    private final int partitionCount;
+    private final int chunkSize;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public MaturitySettlementJob(MaturitySettlementJdbcRepository maturitySettlementJdbcRepository,
+                                 MaturitySettlementProcessor maturitySettlementProcessor,
+                                 BatchCheckpointRepository batchCheckpointRepository,
+                                 @Qualifier(BatchExecutorConfig.BATCH_WORKER_EXECUTOR) ThreadPoolTaskExecutor batchWorkerExecutor,
+                                 @Value("${everybank.maturity-settlement.partition-count:4}") int partitionCount,
+                                 @Value("${everybank.maturity-settlement.chunk-size:500}") int chunkSize) {
+        this.maturitySettlementJdbcRepository = maturitySettlementJdbcRepository;
+        this.maturitySettlementProcessor = maturitySettlementProcessor;
+        this.batchCheckpointRepository = batchCheckpointRepository;
+        this.batchWorkerExecutor = batchWorkerExecutor;
+        this.partitionCount = partitionCount;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${everybank.maturity-settlement.cron:0 30 0 * * *}")
+    public void runScheduled() {
+        run(LocalDate.now());
+    }
+
+    public MaturitySettlementResult run(LocalDate runDate) {
+        // 미래 기준일로 실행하면 만기 전 계약이 만기 이율로 정산됨
+        if (runDate.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("오늘 이후 기준일로는 만기정산할 수 없습니다: " + runDate);
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("만기정산 배치가 이미 실행 중입니다.");
+        }
+
+        try {
+            return execute(runDate);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private MaturitySettlementResult execute(LocalDate runDate) {
+        log.info("만기정산 시작 - 기준일: {}, 파티션: {}, 청크 크기: {}", runDate, partitionCount, chunkSize);
+        long startTime = System.nanoTime();
+
+        AtomicLong settled = new AtomicLong();
+        AtomicLong withoutChecking = new AtomicLong();
+        AtomicInteger failedPartitions = new AtomicInteger();
+        List<Long> rejected = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        int partitions = 0;
+
+        // 1. 예금/적금별 파티션 준비 (이미 있으면 재개)
+        for (ContractTable table : ContractTable.values()) {
+            for (BatchCheckpoint checkpoint : preparePartitions(table, runDate)) {
+                if (BatchCheckpoint.COMPLETED.equals(checkpoint.getStatus())) {
+                    continue;
+                }
+                partitions++;
+
+                // 2. 파티션 단위로 워커 풀에 분배
+                futures.add(CompletableFuture.runAsync(
+                        () -> processPartition(table, checkpoint, runDate, settled, withoutChecking, rejected, failedPartitions),
+                        batchWorkerExecutor));
+            }
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        long elapsedMs = (System.nanoTime() - startTime) / 1_000_000;
+        MaturitySettlementResult result = MaturitySettlementResult.builder()
+                .runDate(runDate)
+                .partitions(partitions)
+                .failedPartitions(failedPartitions.get())
+                .settled(settled.get())
+                .withoutChecking(withoutChecking.get())
+                .rejected(rejected.size())
+                .rejectedContractIds(List.copyOf(rejected))
+                .elapsedMs(elapsedMs)
+                .contractsPerSecond(throughput(settled.get(), elapsedMs))
+                .build();
+
+        log.info("만기정산 완료 - 기준일: {}, 파티션: {} (실패 {}), 정산: {}, 입출금계좌 없음: {}, 제외: {}, {}ms ({}건/s)",
+                runDate, partitions, result.getFailedPartitions(), result.getSettled(), result.getWithoutChecking(),
+                result.getRejected(), elapsedMs, String.format("%.1f", result.getContractsPerSecond()));
+        return result;
+    }
+
+    private List<BatchCheckpoint> preparePartitions(ContractTable table, LocalDate runDate) {
+        String jobName = jobName(table);
+        String runKey = runDate.toString();
+
+        List<BatchCheckpoint> checkpoints = batchCheckpointRepository.findAll(jobName, runKey);
+        if (!checkpoints.isEmpty()) {
+            log.info("만기정산 재개 - {}, 기준일: {}, 파티션: {}", jobName, runKey, checkpoints.size());
+            return checkpoints;
+        }
+
+        Optional<long[]> idRange = maturitySettlementJdbcRepository.findIdRange(table, runDate);
+        if (idRange.isEmpty()) {
+            return List.of();
+        }
+
+        return batchCheckpointRepository.createPartitions(jobName, runKey, split(idRange.get()[0], idRange.get()[1] + 1));
+    }
+
+    // [start, end) 를 partitionCount 개의 연속 구간으로 분할
+    private List<long[]> split(long start, long end) {
+        long size = end - start;
+        int count = (int) Math.max(1, Math.min(partitionCount, size));
+        List<long[]> ranges = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ranges.add(new long[]{start + size * i / count, start + size * (i + 1) / count});
+        }
+        return ranges;
+    }
+
+    private void processPartition(ContractTable table, BatchCheckpoint checkpoint, LocalDate runDate,
+                                  AtomicLong settled, AtomicLong withoutChecking, List<Long> rejected,
+                                  AtomicInteger failedPartitions) {
+        long partitionStart = System.nanoTime();
+        long lastId = checkpoint.getLastId();
+        long partitionSettled = 0;
+
+        try {
+            while (true) {
+                List<Long> contractIds = maturitySettlementJdbcRepository.findMaturedContractIds(
+                        table, lastId, checkpoint.getRangeEnd(), runDate, chunkSize);
+                if (contractIds.isEmpty()) {
+                    break;
+                }
+
+                MaturitySettlementProcessor.ChunkResult result =
+                        maturitySettlementProcessor.process(table, contractIds, runDate, checkpoint);
+                lastId = contractIds.get(contractIds.size() - 1);
+                partitionSettled += result.getSettled();
+                settled.addAndGet(result.getSettled());
+                withoutChecking.addAndGet(result.getWithoutChecking());
+                rejected.addAll(result.getRejected());
+
+                if (contractIds.size() < chunkSize) {
+                    break;
+                }
+            }
+
+            batchCheckpointRepository.complete(checkpoint);
+
+            long partitionMs = (System.nanoTime() - partitionStart) / 1_000_000;
+            log.info("만기정산 파티션 완료 - {} #{} [{}, {}), 정산: {}, {}ms ({}건/s)",
+                    checkpoint.getJobName(), checkpoint.getPartitionNo(), checkpoint.getRangeStart(), checkpoint.getRangeEnd(),
+                    partitionSettled, partitionMs, String.format("%.1f", throughput(partitionSettled, partitionMs)));
+        } catch (RuntimeException e) {
+            // 실패한 청크만 롤백됨 - 체크포인트는 마지막 커밋 지점에 남아 재실행 시 이어서 처리
+            failedPartitions.incrementAndGet();
+            log.error("만기정산 파티션 실패 - {} #{}, 마지막 커밋 ID: {}: {}",
+                    checkpoint.getJobName(), checkpoint.getPartitionNo(), lastId, e.getMessage(), e);
+        }
+    }
+
+    private String jobName(ContractTable table) {
+        return JOB_NAME_PREFIX + table.name().toLowerCase();
+    }
+
+    private double throughput(long count, long elapsedMs) {
+        return elapsedMs > 0 ? count * 1000.0 / elapsedMs : count;
+    }
+}
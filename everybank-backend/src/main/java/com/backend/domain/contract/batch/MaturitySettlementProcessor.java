@@ -0,0 +1,164 @@
+package com.backend.domain.contract.batch;
+
+import com.backend.domain.account.dto.CheckingBalanceView;
+import com.backend.domain.account.event.AccountSummaryChangedEvent;
+import com.backend.domain.account.repository.AccountJdbcRepository;
+import com.backend.domain.account.service.CheckingBalanceCache;
+import com.backend.domain.contract.dto.MaturitySettlementTarget;
+import com.backend.domain.contract.repository.ContractTable;
+import com.backend.domain.contract.repository.MaturitySettlementJdbcRepository;
+import com.backend.domain.contract.service.ContractInterestCalculator;
+import com.backend.domain.transaction.domain.Transaction;
+import com.backend.domain.transaction.domain.TransactionType;
+import com.backend.domain.transaction.repository.TransactionJournal;
+import com.backend.global.batch.BatchCheckpoint;
+import com.backend.global.batch.BatchCheckpointRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// 만기정산 청크 처리 (청크 하나 = DB 트랜잭션 하나, 체크포인트도 같은 트랜잭션에서 갱신)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MaturitySettlementProcessor {
+
+    private final MaturitySettlementJdbcRepository maturitySettlementJdbcRepository;
+    private final AccountJdbcRepository accountJdbcRepository;
+    private final BatchCheckpointRepository batchCheckpointRepository;
+    private final ContractInterestCalculator contractInterestCalculator;
+    private final TransactionJournal transactionJournal;
+    private final CheckingBalanceCache checkingBalanceCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ChunkResult process(ContractTable table, List<Long> contractIds, LocalDate runDate, BatchCheckpoint checkpoint) {
+        return transactionTemplate.execute(status -> {
+            ChunkResult result = settle(table, contractIds, runDate);
+            batchCheckpointRepository.advance(checkpoint, contractIds.get(contractIds.size() - 1), result.getSettled());
+            return result;
+        });
+    }
+
+    private ChunkResult settle(ContractTable table, List<Long> contractIds, LocalDate runDate) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. 대상 계약 + 상품계좌 잠금 (조건 재확인)
+        List<MaturitySettlementTarget> targets = maturitySettlementJdbcRepository.lockMaturedTargets(table, contractIds, runDate);
+
+        // 2. 지급액 = 잠근 상품계좌 잔액 + 만기 이자 (입출금계좌가 없는 계약은 다음 실행까지 보류)
+        // 납입액은 요청마다 달라질 수 있어 월 납입액 × 횟수가 아닌 실제 잔액을 원금으로 사용
+        List<MaturitySettlementTarget> settled = new ArrayList<>();
+        Map<Long, Long> payouts = new HashMap<>();
+        List<Long> rejected = new ArrayList<>();
+        int withoutChecking = 0;
+
+        for (MaturitySettlementTarget target : targets) {
+            if (target.getCheckingAccountId() == null) {
+                withoutChecking++;
+                continue;
+            }
+            long interest = interestOf(table, target);
+            if (interest < 0) {
+                // 계산 오류로 잔액이 줄어드는 정산은 하지 않고 예외 목록으로 남김 (계약은 그대로 진행 중)
+                log.error("만기정산 제외 - 계약ID: {}, 상품계좌: {}, 이자: {}원",
+                        target.getContractId(), target.getProductAccountId(), interest);
+                rejected.add(target.getContractId());
+                continue;
+            }
+            payouts.put(target.getContractId(), target.getProductBalance() + interest);
+            settled.add(target);
+        }
+
+        if (settled.isEmpty()) {
+            return new ChunkResult(0, withoutChecking, rejected);
+        }
+
+        // 3. 입출금계좌 잠금 (계좌 ID 순) - 거래내역 잔액 계산용
+        Set<Integer> checkingAccountIds = new TreeSet<>();
+        settled.forEach(target -> checkingAccountIds.add(target.getCheckingAccountId()));
+        Map<Integer, Long> balances = accountJdbcRepository.lockBalances(checkingAccountIds);
+
+        // 4. 상품계좌 해지 + 계약 만기 처리 + 입출금계좌 입금 (set 단위)
+        List<Integer> productAccountIds = settled.stream().map(MaturitySettlementTarget::getProductAccountId).toList();
+        List<Long> settledContractIds = settled.stream().map(MaturitySettlementTarget::getContractId).toList();
+        int closed = maturitySettlementJdbcRepository.closeProductAccounts(productAccountIds, now);
+        if (closed != productAccountIds.size()) {
+            throw new IllegalStateException("만기정산 상품계좌 해지 건수 불일치: " + closed + "/" + productAccountIds.size());
+        }
+        maturitySettlementJdbcRepository.markMatured(table, settledContractIds);
+
+        Map<Integer, Long> credits = new LinkedHashMap<>();
+        settled.forEach(target -> credits.merge(target.getCheckingAccountId(), payouts.get(target.getContractId()), Long::sum));
+        List<CheckingBalanceView> credited = accountJdbcRepository.creditAllWithBalances(credits, now);
+        if (credited.size() != credits.size()) {
+            throw new IllegalStateException("만기정산 입금 반영 건수 불일치: " + credited.size() + "/" + credits.size());
+        }
+        credited.forEach(checkingBalanceCache::putAfterCommit);
+
+        // 해지된 상품계좌가 빠지도록 커밋 후 계좌 요약 무효화
+        Set<Long> userIds = new HashSet<>();
+        settled.forEach(target -> userIds.add(target.getUserId()));
+        eventPublisher.publishEvent(AccountSummaryChangedEvent.ofBatch(userIds));
+
+        // 5. 거래내역 (이자 지급 → 상품계좌 → 입출금계좌 전액 이동, 입출금계좌별 계약 ID 순 잔액)
+        Map<Integer, Long> runningBalances = new HashMap<>(balances);
+        for (MaturitySettlementTarget target : settled) {
+            long payout = payouts.get(target.getContractId());
+            long interest = payout - target.getProductBalance();
+            if (interest > 0) {
+                transactionJournal.append(Transaction.builder()
+                        .transactionType(TransactionType.INTEREST)
+                        .amount(interest)
+                        .toAccountId(target.getProductAccountId())
+                        .currentBalance(payout)
+                        .toBalance(payout)
+                        .createdAt(now)
+                        .build());
+            }
+
+            long balance = runningBalances.merge(target.getCheckingAccountId(), payout, Long::sum);
+            transactionJournal.append(Transaction.builder()
+                    .transactionType(TransactionType.TRANSFER)
+                    .amount(payout)
+                    .fromAccountId(target.getProductAccountId())
+                    .toAccountId(target.getCheckingAccountId())
+                    .currentBalance(balance)
+                    .fromBalance(0L) // 상품계좌는 전액 이동 후 해지
+                    .toBalance(balance)
+                    .createdAt(now)
+                    .build());
+        }
+
+        return new ChunkResult(settled.size(), withoutChecking, rejected);
+    }
+
+    // 만기 이자 (운용일수는 실제 경과 일수)
+    private long interestOf(ContractTable table, MaturitySettlementTarget target) {
+        if (table == ContractTable.DEPOSIT) {
+            return contractInterestCalculator.calculateDepositMaturityInterest(
+                    target.getPayment(), target.getContractRate(), target.getRateType(),
+                    target.getContractDate(), target.getMaturityDate());
+        }
+
+        return contractInterestCalculator.calculateSavingSettlementInterest(
+                target.getMonthlyPayment(), target.getContractRate(), target.getRateType(),
+                target.getContractDate(), target.getMaturityDate(), target.getCurrentPaymentCount());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ChunkResult {
+        private final int settled;
+        private final int withoutChecking;
+        private final List<Long> rejected;   // 이자가 음수로 계산되어 정산하지 않은 계약 ID
+    }
+}
@@ -0,0 +1,22 @@
+package com.backend.domain.contract.batch;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 만기정산 배치 실행 결과
+@Getter
+@Builder
+public class MaturitySettlementResult {
+    private LocalDate runDate;
+    private int partitions;
+    private int failedPartitions;     // 실패한 파티션은 같은 기준일로 다시 실행하면 체크포인트부터 재개
+    private long settled;
+    private long withoutChecking;     // 입출금계좌가 없어 보류된 계약
+    private long rejected;            // 이자가 음수로 계산되어 정산하지 않은 계약 (확인 필요)
+    private List<Long> rejectedContractIds;
+    private long elapsedMs;
+    private double contractsPerSecond;
+}
@@ -44,15 +44,23 @@ public class ContractController {
         return BaseResponse.success(SuccessCode.SELECT_SUCCESS, calculation);
     }
 
+    // mode=cursor: 거래내역을 keyset 으로 조회 (cursor 는 직전 응답의 pagination.nextCursor, 첫 페이지는 생략)
+    // mode=slice: COUNT 쿼리 없이 page 조회 (includeTotal=true 일 때만 계좌별 거래 건수에서 전체 건수를 읽음)
     @GetMapping("/{accountId}")
     public ResponseEntity<BaseResponse<ContractDetailResponseDto>> getContractDetailByAccount(
             @PathVariable Integer accountId,
             @RequestParam(defaultValue = "1") Integer page,
             @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(defaultValue = "page") String mode,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
             @AuthenticationPrincipal SecurityUser securityUser) {
 
-        ContractDetailResponseDto contractDetail = contractDetailService.getContractDetail(
-                accountId, securityUser, page, size);
+        ContractDetailResponseDto contractDetail = switch (mode) {
+            case "cursor" -> contractDetailService.getContractDetailByCursor(accountId, securityUser, cursor, size);
+            case "slice" -> contractDetailService.getContractDetailBySlice(accountId, securityUser, page, size, includeTotal);
+            default -> contractDetailService.getContractDetail(accountId, securityUser, page, size);
+        };
 
         return BaseResponse.success(SuccessCode.SELECT_SUCCESS, contractDetail);
     }
@@ -0,0 +1,54 @@
+package com.backend.domain.contract.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 적금 자동이체 실패 기록 (다음 실행에서 재시도, 성공하면 resolved 처리)
+@Data
+@Entity
+@Table(name = "auto_debit_failure", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_auto_debit_failure_installment", columnNames = {"contract_id", "due_date"})
+}, indexes = {
+        @Index(name = "idx_auto_debit_failure_contract", columnList = "contract_id, resolved")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AutoDebitFailure {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "contract_id", nullable = false)
+    private Long contractId;
+
+    @Column(name = "saving_account_id", nullable = false)
+    private Integer savingAccountId;
+
+    @Column(name = "checking_account_id")
+    private Integer checkingAccountId;
+
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    // 실패한 회차의 납입일 (배치 실행일이 아님)
+    @Column(name = "due_date", nullable = false)
+    private LocalDate dueDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reason", length = 30, nullable = false)
+    private AutoDebitFailureReason reason;
+
+    @Column(name = "failed_at", nullable = false)
+    private LocalDateTime failedAt;
+
+    @Column(name = "resolved", nullable = false)
+    @Builder.Default
+    private boolean resolved = false;
+}
@@ -0,0 +1,5 @@
+package com.backend.domain.contract.domain;
+
+public enum AutoDebitFailureReason {
+    NO_CHECKING_ACCOUNT, INSUFFICIENT_BALANCE
+}
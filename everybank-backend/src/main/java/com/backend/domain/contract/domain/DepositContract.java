@@ -19,8 +19,8 @@ import java.time.LocalDate;
 @Builder
 public class DepositContract {
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contract_seq")
-    @SequenceGenerator(name = "contract_seq", sequenceName = "deposit_contract_seq_id", allocationSize = 1)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "deposit_contract_seq")
+    @SequenceGenerator(name = "deposit_contract_seq", sequenceName = "deposit_contract_seq_id", allocationSize = 50)
     private Long contractId;
 
     @Column(name = "user_id", nullable = false)
@@ -0,0 +1,63 @@
+package com.backend.domain.contract.domain;
+
+import com.backend.domain.account.domain.AccountType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 예금/적금 일별 이자 적립 (기준일에 해지하면 받는 이자를 하루 한 번 계산해 저장)
+// - 만기정산 조회/계약 상세는 (계약, 기준일) 한 행만 읽음
+// - 계산 당시 약정이율/납입횟수가 현재 계약과 다르면 사용하지 않고 다시 계산
+@Data
+@Entity
+@Table(name = "interest_accrual", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_interest_accrual", columnNames = {"contract_type", "contract_id", "accrual_date"})
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InterestAccrual {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "contract_type", length = 15, nullable = false)
+    private AccountType contractType;
+
+    @Column(name = "contract_id", nullable = false)
+    private Long contractId;
+
+    @Column(name = "accrual_date", nullable = false)
+    private LocalDate accrualDate;
+
+    // 기준일까지 누적 이자
+    @Column(name = "accrued_interest", nullable = false)
+    private Long accruedInterest;
+
+    // 전일 대비 증가분 (전일 적립이 없으면 누적 이자와 같음)
+    @Column(name = "daily_interest", nullable = false)
+    private Long dailyInterest;
+
+    @Column(name = "applied_rate", nullable = false, precision = 7, scale = 3)
+    private BigDecimal appliedRate;
+
+    @Column(name = "matured", nullable = false)
+    private boolean matured;
+
+    // 계산 당시 약정이율 / 납입횟수 (적금)
+    @Column(name = "contract_rate", nullable = false, precision = 5, scale = 2)
+    private BigDecimal contractRate;
+
+    @Column(name = "payment_count")
+    private Integer paymentCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -21,8 +21,8 @@ import java.time.LocalDate;
 @Builder
 public class SavingContract {
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contract_seq")
-    @SequenceGenerator(name = "saving_contract_seq", sequenceName = "saving_contract_seq_id", allocationSize = 1)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "saving_contract_seq")
+    @SequenceGenerator(name = "saving_contract_seq", sequenceName = "saving_contract_seq_id", allocationSize = 50)
     private Long contractId;
 
     @Column(name = "user_id", nullable = false)
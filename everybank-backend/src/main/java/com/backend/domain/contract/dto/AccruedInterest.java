@@ -0,0 +1,15 @@
+package com.backend.domain.contract.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+// 기준일 시점 이자 (만기 이후: 약정이율, 만기 전: 중도해지 이율 적용)
+@Getter
+@AllArgsConstructor
+public class AccruedInterest {
+    private BigDecimal appliedRate;
+    private Long interest;
+    private boolean matured;
+}
@@ -0,0 +1,18 @@
+package com.backend.domain.contract.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 자동이체 대상 적금 계약 (잠금 조회 결과)
+@Getter
+@AllArgsConstructor
+public class AutoDebitTarget {
+    private Long contractId;
+    private Long userId;
+    private Integer savingAccountId;
+    private Long amount;
+    private Integer checkingAccountId;   // 활성 입출금계좌가 없으면 null
+    private LocalDate installmentDueDate; // 이번 회차 납입일 (계약일 + (납입 횟수 + 1)개월)
+}
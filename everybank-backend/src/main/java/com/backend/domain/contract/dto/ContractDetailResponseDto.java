@@ -52,6 +52,7 @@ public class ContractDetailResponseDto {
         private Long totalPayment;              // 총 납입 예정액 (적금) or 납입액 (예금)
         private Long expectedInterest;          // 예상 이자
         private Long maturityAmount;            // 만기 시 수령액
+        private Long accruedInterest;           // 오늘 해지 시 받는 이자 (일별 적립분)
     }
 
     @Data
@@ -74,6 +75,7 @@ public class ContractDetailResponseDto {
         private Integer totalPages;
         private Long totalCount;
         private Boolean hasNext;
+        private String nextCursor;              // cursor 모드 다음 페이지 커서 (page 모드는 null)
     }
 
 }
\ No newline at end of file
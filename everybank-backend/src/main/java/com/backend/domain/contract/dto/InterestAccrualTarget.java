@@ -0,0 +1,28 @@
+package com.backend.domain.contract.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// 이자 적립 대상 계약 (전일 적립 이자 포함)
+@Getter
+@Builder
+public class InterestAccrualTarget {
+    private Long contractId;
+    private LocalDate contractDate;
+    private LocalDate maturityDate;
+    private BigDecimal contractRate;
+    private char rateType;
+
+    // 예금: 원금
+    private Long payment;
+
+    // 적금: 월 납입액, 납입 횟수
+    private Long monthlyPayment;
+    private Integer currentPaymentCount;
+
+    // 전일 누적 이자 (없으면 null)
+    private Long previousAccruedInterest;
+}
@@ -0,0 +1,29 @@
+package com.backend.domain.contract.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// 만기정산 대상 계약 (잠금 조회 결과)
+@Getter
+@Builder
+public class MaturitySettlementTarget {
+    private Long contractId;
+    private Long userId;
+    private Integer productAccountId;
+    private Integer checkingAccountId;   // 활성 입출금계좌가 없으면 null
+    private Long productBalance;         // 정산 전 상품계좌 잔액
+    private LocalDate contractDate;
+    private LocalDate maturityDate;
+    private BigDecimal contractRate;     // 약정이율 (interest_rate2)
+    private char rateType;
+
+    // 예금: 원금
+    private Long payment;
+
+    // 적금: 월 납입액, 납입 횟수
+    private Long monthlyPayment;
+    private Integer currentPaymentCount;
+}
@@ -0,0 +1,120 @@
+package com.backend.domain.contract.repository;
+
+import com.backend.domain.contract.domain.AutoDebitFailure;
+import com.backend.domain.contract.domain.ContractCondition;
+import com.backend.domain.contract.dto.AutoDebitTarget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// 적금 자동이체 배치 전용 JDBC 저장소
+@Repository
+@RequiredArgsConstructor
+public class AutoDebitJdbcRepository {
+
+    // 납입일이 된 진행 중 계약 (다음 납입일 = 계약일 + (납입 횟수 + 1)개월, 화면의 다음 납입 예정일과 동일)
+    private static final String DUE_CONDITION =
+            "sc.contract_condition = ? " +
+            "AND sa.account_state = 'ACTIVE' " +
+            "AND sc.current_payment_count < spo.save_term " +
+            "AND sc.contract_date + make_interval(months => sc.current_payment_count + 1) <= ? ";
+
+    private static final String FIND_DUE_IDS_SQL = "SELECT sc.contract_id FROM saving_contract sc " +
+            "JOIN account sa ON sa.id = sc.account_id " +
+            "JOIN saving_product_option spo ON spo.id = sc.option_id " +
+            "WHERE sc.contract_id > ? AND " + DUE_CONDITION +
+            "ORDER BY sc.contract_id LIMIT ?";
+
+    // 잠금 후 조건을 다시 확인 (그 사이 직접 납입했거나 다른 노드가 처리한 계약은 제외)
+    private static final String LOCK_DUE_TARGETS_SQL = "SELECT sc.contract_id, sc.user_id, sc.account_id, sc.monthly_payment, " +
+            "(SELECT chk.id FROM account chk WHERE chk.user_id = sc.user_id " +
+            "AND chk.account_type = 'CHECK' AND chk.account_state = 'ACTIVE' ORDER BY chk.id LIMIT 1) AS checking_account_id, " +
+            "(sc.contract_date + make_interval(months => sc.current_payment_count + 1))::date AS installment_due_date " +
+            "FROM saving_contract sc " +
+            "JOIN account sa ON sa.id = sc.account_id " +
+            "JOIN saving_product_option spo ON spo.id = sc.option_id " +
+            "WHERE sc.contract_id = ANY(?) AND " + DUE_CONDITION +
+            "ORDER BY sc.contract_id " +
+            "FOR UPDATE OF sc SKIP LOCKED";
+
+    private static final String RECORD_PAYMENTS_SQL = "UPDATE saving_contract " +
+            "SET current_payment_count = current_payment_count + 1, latest_payment_date = ? " +
+            "WHERE contract_id = ANY(?)";
+
+    // 회차(계약, 납입일)당 한 행 - 같은 회차가 매일 실패해도 처음 기록만 남김
+    private static final String INSERT_FAILURE_SQL = "INSERT INTO auto_debit_failure " +
+            "(contract_id, saving_account_id, checking_account_id, amount, due_date, reason, failed_at, resolved) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, false) " +
+            "ON CONFLICT (contract_id, due_date) DO NOTHING";
+
+    private static final int[] INSERT_FAILURE_TYPES = {
+            Types.BIGINT, Types.INTEGER, Types.INTEGER, Types.BIGINT, Types.DATE, Types.VARCHAR, Types.TIMESTAMP
+    };
+
+    private static final String RESOLVE_FAILURES_SQL = "UPDATE auto_debit_failure SET resolved = true " +
+            "WHERE contract_id = ANY(?) AND resolved = false";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // keyset 페이지: afterContractId 다음부터 limit 건
+    public List<Long> findDueContractIds(long afterContractId, LocalDate dueDate, int limit) {
+        return jdbcTemplate.queryForList(FIND_DUE_IDS_SQL, Long.class,
+                afterContractId, ContractCondition.IN_PROGRESS.ordinal(), Date.valueOf(dueDate), limit);
+    }
+
+    public List<AutoDebitTarget> lockDueTargets(List<Long> contractIds, LocalDate dueDate) {
+        return jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(LOCK_DUE_TARGETS_SQL);
+            ps.setArray(1, con.createArrayOf("int8", contractIds.toArray(new Long[0])));
+            ps.setInt(2, ContractCondition.IN_PROGRESS.ordinal());
+            ps.setDate(3, Date.valueOf(dueDate));
+            return ps;
+        }, (rs, rowNum) -> new AutoDebitTarget(
+                rs.getLong("contract_id"),
+                rs.getLong("user_id"),
+                rs.getInt("account_id"),
+                rs.getLong("monthly_payment"),
+                (Integer) rs.getObject("checking_account_id"),
+                rs.getDate("installment_due_date").toLocalDate()));
+    }
+
+    public int recordPayments(List<Long> contractIds, LocalDate paymentDate) {
+        return jdbcTemplate.update(con -> {
+            var ps = con.prepareStatement(RECORD_PAYMENTS_SQL);
+            ps.setDate(1, Date.valueOf(paymentDate));
+            ps.setArray(2, con.createArrayOf("int8", contractIds.toArray(new Long[0])));
+            return ps;
+        });
+    }
+
+    public void insertFailures(List<AutoDebitFailure> failures) {
+        List<Object[]> rows = new ArrayList<>(failures.size());
+        for (AutoDebitFailure failure : failures) {
+            rows.add(new Object[]{
+                    failure.getContractId(),
+                    failure.getSavingAccountId(),
+                    failure.getCheckingAccountId(),
+                    failure.getAmount(),
+                    Date.valueOf(failure.getDueDate()),
+                    failure.getReason().name(),
+                    Timestamp.valueOf(failure.getFailedAt())
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_FAILURE_SQL, rows, INSERT_FAILURE_TYPES);
+    }
+
+    public int resolveFailures(List<Long> contractIds) {
+        return jdbcTemplate.update(con -> {
+            var ps = con.prepareStatement(RESOLVE_FAILURES_SQL);
+            ps.setArray(1, con.createArrayOf("int8", contractIds.toArray(new Long[0])));
+            return ps;
+        });
+    }
+}
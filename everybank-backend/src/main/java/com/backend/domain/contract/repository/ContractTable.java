@@ -0,0 +1,27 @@
+package com.backend.domain.contract.repository;
+
+import com.backend.domain.account.domain.AccountType;
+
+// 배치 JDBC 저장소에서 공통으로 쓰는 예금/적금 계약 테이블 정보
+public enum ContractTable {
+    DEPOSIT(AccountType.DEPOSIT, "deposit_contract", "deposit_product_option",
+            "c.payment, NULL AS monthly_payment, NULL AS current_payment_count"),
+    SAVING(AccountType.SAVING, "saving_contract", "saving_product_option",
+            "NULL AS payment, c.monthly_payment, c.current_payment_count");
+
+    private final AccountType accountType;
+    final String contractTable;
+    final String optionTable;
+    final String amountColumns;
+
+    ContractTable(AccountType accountType, String contractTable, String optionTable, String amountColumns) {
+        this.accountType = accountType;
+        this.contractTable = contractTable;
+        this.optionTable = optionTable;
+        this.amountColumns = amountColumns;
+    }
+
+    public AccountType getAccountType() {
+        return accountType;
+    }
+}
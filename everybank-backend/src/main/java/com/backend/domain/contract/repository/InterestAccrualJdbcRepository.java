@@ -0,0 +1,99 @@
+package com.backend.domain.contract.repository;
+
+import com.backend.domain.contract.domain.ContractCondition;
+import com.backend.domain.contract.domain.InterestAccrual;
+import com.backend.domain.contract.dto.InterestAccrualTarget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 이자 적립 배치 전용 JDBC 저장소 (예금/적금 계약 테이블 공통)
+@Repository
+@RequiredArgsConstructor
+public class InterestAccrualJdbcRepository {
+
+    // 진행 중 계약 중 기준일 적립이 아직 없는 계약 (재실행 시 남은 계약만 다시 읽힘)
+    private static final String PENDING_CONDITION =
+            "c.contract_condition = ? AND pa.account_state = 'ACTIVE' AND c.contract_date < ? " +
+            "AND NOT EXISTS (SELECT 1 FROM interest_accrual ia " +
+            "WHERE ia.contract_type = ? AND ia.contract_id = c.contract_id AND ia.accrual_date = ?) ";
+
+    private static final String INSERT_SQL = "INSERT INTO interest_accrual " +
+            "(contract_type, contract_id, accrual_date, accrued_interest, daily_interest, applied_rate, matured, " +
+            "contract_rate, payment_count, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (contract_type, contract_id, accrual_date) DO NOTHING";
+
+    private static final RowMapper<InterestAccrualTarget> TARGET_MAPPER = (rs, rowNum) -> InterestAccrualTarget.builder()
+            .contractId(rs.getLong("contract_id"))
+            .contractDate(rs.getDate("contract_date").toLocalDate())
+            .maturityDate(rs.getDate("maturity_date").toLocalDate())
+            .contractRate(rs.getBigDecimal("interest_rate2"))
+            .rateType(rs.getString("interest_rate_type").charAt(0))
+            .payment((Long) rs.getObject("payment"))
+            .monthlyPayment((Long) rs.getObject("monthly_payment"))
+            .currentPaymentCount((Integer) rs.getObject("current_payment_count"))
+            .previousAccruedInterest((Long) rs.getObject("previous_accrued_interest"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // keyset 페이지: contract_id > afterId 에서 limit 건
+    public List<Long> findPendingContractIds(ContractTable table, long afterId, LocalDate accrualDate, int limit) {
+        String sql = "SELECT c.contract_id FROM " + table.contractTable + " c " +
+                "JOIN account pa ON pa.id = c.account_id " +
+                "WHERE c.contract_id > ? AND " + PENDING_CONDITION +
+                "ORDER BY c.contract_id LIMIT ?";
+        return jdbcTemplate.queryForList(sql, Long.class, afterId,
+                ContractCondition.IN_PROGRESS.ordinal(), Date.valueOf(accrualDate),
+                table.getAccountType().name(), Date.valueOf(accrualDate), limit);
+    }
+
+    // 계약 + 상품옵션 + 전일 적립 이자
+    public List<InterestAccrualTarget> findTargets(ContractTable table, List<Long> contractIds, LocalDate accrualDate) {
+        String sql = "SELECT c.contract_id, c.contract_date, c.maturity_date, " +
+                table.amountColumns + ", o.interest_rate2, o.interest_rate_type, " +
+                "prev.accrued_interest AS previous_accrued_interest " +
+                "FROM " + table.contractTable + " c " +
+                "JOIN " + table.optionTable + " o ON o.id = c.option_id " +
+                "LEFT JOIN interest_accrual prev ON prev.contract_type = ? AND prev.contract_id = c.contract_id " +
+                "AND prev.accrual_date = ? " +
+                "WHERE c.contract_id = ANY(?) " +
+                "ORDER BY c.contract_id";
+        return jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(sql);
+            ps.setString(1, table.getAccountType().name());
+            ps.setDate(2, Date.valueOf(accrualDate.minusDays(1)));
+            ps.setArray(3, con.createArrayOf("int8", contractIds.toArray(new Long[0])));
+            return ps;
+        }, TARGET_MAPPER);
+    }
+
+    // 다중 행 배치 INSERT (이미 적립된 계약은 건너뜀), 실제 INSERT 건수 반환
+    public int insertAll(List<InterestAccrual> accruals) {
+        List<Object[]> rows = new ArrayList<>(accruals.size());
+        for (InterestAccrual accrual : accruals) {
+            rows.add(new Object[]{
+                    accrual.getContractType().name(),
+                    accrual.getContractId(),
+                    Date.valueOf(accrual.getAccrualDate()),
+                    accrual.getAccruedInterest(),
+                    accrual.getDailyInterest(),
+                    accrual.getAppliedRate(),
+                    accrual.isMatured(),
+                    accrual.getContractRate(),
+                    accrual.getPaymentCount(),
+                    Timestamp.valueOf(accrual.getCreatedAt())
+            });
+        }
+        return Arrays.stream(jdbcTemplate.batchUpdate(INSERT_SQL, rows)).map(count -> Math.max(count, 0)).sum();
+    }
+}
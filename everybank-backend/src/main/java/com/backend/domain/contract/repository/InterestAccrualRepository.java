@@ -0,0 +1,14 @@
+package com.backend.domain.contract.repository;
+
+import com.backend.domain.account.domain.AccountType;
+import com.backend.domain.contract.domain.InterestAccrual;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface InterestAccrualRepository extends JpaRepository<InterestAccrual, Long> {
+    Optional<InterestAccrual> findByContractTypeAndContractIdAndAccrualDate(AccountType contractType, Long contractId, LocalDate accrualDate);
+}
@@ -0,0 +1,110 @@
+package com.backend.domain.contract.repository;
+
+import com.backend.domain.contract.domain.ContractCondition;
+import com.backend.domain.contract.dto.MaturitySettlementTarget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+// 만기정산 배치 전용 JDBC 저장소 (예금/적금 계약 테이블 공통)
+@Repository
+@RequiredArgsConstructor
+public class MaturitySettlementJdbcRepository {
+
+    // 만기일이 지난 진행 중 계약 (상품계좌가 아직 활성 상태)
+    private static final String MATURED_CONDITION =
+            "c.contract_condition = ? AND pa.account_state = 'ACTIVE' AND c.maturity_date <= ? ";
+
+    private static final String CLOSE_ACCOUNTS_SQL = "UPDATE account " +
+            "SET current_balance = 0, account_state = 'EXPIRED', last_transaction_date = ?, " +
+            "balance_version = balance_version + 1 " +
+            "WHERE id = ANY(?) AND account_state = 'ACTIVE'";
+
+    private static final RowMapper<MaturitySettlementTarget> TARGET_MAPPER = (rs, rowNum) -> MaturitySettlementTarget.builder()
+            .contractId(rs.getLong("contract_id"))
+            .userId(rs.getLong("user_id"))
+            .productAccountId(rs.getInt("account_id"))
+            .checkingAccountId((Integer) rs.getObject("checking_account_id"))
+            .productBalance(rs.getLong("product_balance"))
+            .contractDate(rs.getDate("contract_date").toLocalDate())
+            .maturityDate(rs.getDate("maturity_date").toLocalDate())
+            .contractRate(rs.getBigDecimal("interest_rate2"))
+            .rateType(rs.getString("interest_rate_type").charAt(0))
+            .payment((Long) rs.getObject("payment"))
+            .monthlyPayment((Long) rs.getObject("monthly_payment"))
+            .currentPaymentCount((Integer) rs.getObject("current_payment_count"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 만기 대상 계약 ID 범위 [min, max]
+    public Optional<long[]> findIdRange(ContractTable table, LocalDate runDate) {
+        String sql = "SELECT min(c.contract_id), max(c.contract_id) FROM " + table.contractTable + " c " +
+                "JOIN account pa ON pa.id = c.account_id " +
+                "WHERE " + MATURED_CONDITION;
+        long[] range = jdbcTemplate.queryForObject(sql, (rs, rowNum) -> {
+            long min = rs.getLong(1);
+            return rs.wasNull() ? null : new long[]{min, rs.getLong(2)};
+        }, ContractCondition.IN_PROGRESS.ordinal(), Date.valueOf(runDate));
+        return Optional.ofNullable(range);
+    }
+
+    // keyset 페이지: (afterId, rangeEnd) 구간에서 limit 건
+    public List<Long> findMaturedContractIds(ContractTable table, long afterId, long rangeEnd, LocalDate runDate, int limit) {
+        String sql = "SELECT c.contract_id FROM " + table.contractTable + " c " +
+                "JOIN account pa ON pa.id = c.account_id " +
+                "WHERE c.contract_id > ? AND c.contract_id < ? AND " + MATURED_CONDITION +
+                "ORDER BY c.contract_id LIMIT ?";
+        return jdbcTemplate.queryForList(sql, Long.class,
+                afterId, rangeEnd, ContractCondition.IN_PROGRESS.ordinal(), Date.valueOf(runDate), limit);
+    }
+
+    // 잠금 후 조건 재확인 (그 사이 사용자가 직접 해지한 계약은 제외)
+    public List<MaturitySettlementTarget> lockMaturedTargets(ContractTable table, List<Long> contractIds, LocalDate runDate) {
+        String sql = "SELECT c.contract_id, c.user_id, c.account_id, c.contract_date, c.maturity_date, " +
+                table.amountColumns + ", o.interest_rate2, o.interest_rate_type, pa.current_balance AS product_balance, " +
+                "(SELECT chk.id FROM account chk WHERE chk.user_id = c.user_id " +
+                "AND chk.account_type = 'CHECK' AND chk.account_state = 'ACTIVE' ORDER BY chk.id LIMIT 1) AS checking_account_id " +
+                "FROM " + table.contractTable + " c " +
+                "JOIN account pa ON pa.id = c.account_id " +
+                "JOIN " + table.optionTable + " o ON o.id = c.option_id " +
+                "WHERE c.contract_id = ANY(?) AND " + MATURED_CONDITION +
+                "ORDER BY c.contract_id " +
+                "FOR UPDATE OF c, pa SKIP LOCKED";
+        return jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(sql);
+            ps.setArray(1, con.createArrayOf("int8", contractIds.toArray(new Long[0])));
+            ps.setInt(2, ContractCondition.IN_PROGRESS.ordinal());
+            ps.setDate(3, Date.valueOf(runDate));
+            return ps;
+        }, TARGET_MAPPER);
+    }
+
+    public int markMatured(ContractTable table, List<Long> contractIds) {
+        String sql = "UPDATE " + table.contractTable + " SET contract_condition = ? WHERE contract_id = ANY(?)";
+        return jdbcTemplate.update(con -> {
+            var ps = con.prepareStatement(sql);
+            ps.setInt(1, ContractCondition.MATURED.ordinal());
+            ps.setArray(2, con.createArrayOf("int8", contractIds.toArray(new Long[0])));
+            return ps;
+        });
+    }
+
+    // 상품계좌 만기해지 (잔액 0, EXPIRED)
+    public int closeProductAccounts(List<Integer> accountIds, LocalDateTime now) {
+        return jdbcTemplate.update(con -> {
+            var ps = con.prepareStatement(CLOSE_ACCOUNTS_SQL);
+            ps.setTimestamp(1, Timestamp.valueOf(now));
+            ps.setArray(2, con.createArrayOf("int4", accountIds.toArray(new Integer[0])));
+            return ps;
+        });
+    }
+}
@@ -0,0 +1,45 @@
+package com.backend.domain.contract.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// 적금 계약 납입 정보를 한 번에 갱신하는 JDBC 배치 전용 저장소
+@Repository
+@RequiredArgsConstructor
+public class SavingContractJdbcRepository {
+
+    private static final String RECORD_PAYMENT_SQL = "UPDATE saving_contract " +
+            "SET current_payment_count = current_payment_count + 1, latest_payment_date = ? " +
+            "WHERE account_id = ?";
+
+    private static final int[] RECORD_PAYMENT_TYPES = {Types.DATE, Types.INTEGER};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 적금계좌별 납입 횟수 1 증가 (계약이 없는 계좌 ID 반환)
+    public List<Integer> recordPayments(List<Integer> accountIds, LocalDate paymentDate) {
+        List<Integer> sortedIds = accountIds.stream().sorted().toList();
+
+        List<Object[]> rows = new ArrayList<>(sortedIds.size());
+        for (Integer accountId : sortedIds) {
+            rows.add(new Object[]{Date.valueOf(paymentDate), accountId});
+        }
+
+        int[] updated = jdbcTemplate.batchUpdate(RECORD_PAYMENT_SQL, rows, RECORD_PAYMENT_TYPES);
+
+        List<Integer> missing = new ArrayList<>();
+        for (int i = 0; i < sortedIds.size(); i++) {
+            if (updated[i] == 0) {
+                missing.add(sortedIds.get(i));
+            }
+        }
+        return missing;
+    }
+}
@@ -0,0 +1,86 @@
+package com.backend.domain.contract.service;
+
+import com.backend.domain.product.repository.DepositProductOptionRepository;
+import com.backend.domain.product.repository.SavingProductOptionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.function.IntSupplier;
+
+// 이율별 일복리 계수 테이블 캐시
+// - (1 + 일이율)^일수 를 일수 0 ~ 가장 긴 저축기간(일)까지 미리 계산한 double[] (이율은 밀리퍼센트)
+// - 상품 옵션의 약정이율 종류가 많지 않아 처음 쓰일 때 만들고 상품 데이터를 다시 적재하면 비움
+// - 계수는 Math.pow 로 하나씩 계산하므로 직접 계산한 값과 같음
+@Slf4j
+@Component
+public class CompoundFactorCache {
+
+    private static final int MAX_DAYS_PER_MONTH = 31;
+    private static final int MIN_TERM_MONTHS = 12;
+    private static final int MAX_RATES = 2_000;
+
+    private final IntSupplier maxSaveTermMonths;
+    private final Cache<Integer, Factors> tables = Caffeine.newBuilder()
+            .maximumSize(MAX_RATES)
+            .build();
+
+    // 테이블 길이 (일수 + 1), 비우면 다음 생성 때 다시 조회
+    private volatile int tableLength = -1;
+
+    @Autowired
+    public CompoundFactorCache(DepositProductOptionRepository depositProductOptionRepository,
+                               SavingProductOptionRepository savingProductOptionRepository) {
+        this(() -> Math.max(depositProductOptionRepository.findMaxSaveTerm(), savingProductOptionRepository.findMaxSaveTerm()));
+    }
+
+    CompoundFactorCache(IntSupplier maxSaveTermMonths) {
+        this.maxSaveTermMonths = maxSaveTermMonths;
+    }
+
+    public Factors forRate(int rateMilliPercent) {
+        return tables.get(rateMilliPercent, this::build);
+    }
+
+    public void clear() {
+        tables.invalidateAll();
+        tableLength = -1;
+    }
+
+    private Factors build(int rateMilliPercent) {
+        double dailyRate = (rateMilliPercent / 1000.0) / 100.0 / 365.0;
+        double[] factors = new double[tableLength()];
+        for (int days = 0; days < factors.length; days++) {
+            factors[days] = Math.pow(1 + dailyRate, days);
+        }
+        log.debug("복리 계수 테이블 생성 - 이율: {}, 일수: 0~{}", rateMilliPercent, factors.length - 1);
+        return new Factors(dailyRate, factors);
+    }
+
+    private int tableLength() {
+        int length = tableLength;
+        if (length < 0) {
+            int months = Math.max(MIN_TERM_MONTHS, maxSaveTermMonths.getAsInt());
+            length = months * MAX_DAYS_PER_MONTH + 1;
+            tableLength = length;
+        }
+        return length;
+    }
+
+    // 한 이율의 계수 테이블 (범위를 넘는 일수는 직접 계산)
+    public static final class Factors {
+        private final double dailyRate;
+        private final double[] factors;
+
+        private Factors(double dailyRate, double[] factors) {
+            this.dailyRate = dailyRate;
+            this.factors = factors;
+        }
+
+        public double factor(long days) {
+            return days >= 0 && days < factors.length ? factors[(int) days] : Math.pow(1 + dailyRate, days);
+        }
+    }
+}
@@ -9,17 +9,26 @@ import com.backend.domain.contract.domain.SavingContract;
 import com.backend.domain.contract.dto.ContractDetailResponseDto;
 import com.backend.domain.contract.repository.DepositContractRepository;
 import com.backend.domain.contract.repository.SavingContractRepository;
+import com.backend.domain.transaction.domain.LedgerPosting;
 import com.backend.domain.transaction.domain.Transaction;
 import com.backend.domain.transaction.domain.TransactionType;
+import com.backend.domain.transaction.dto.TransactionCursor;
+import com.backend.domain.transaction.repository.AccountLedgerStatsRepository;
+import com.backend.domain.transaction.repository.LedgerPostingRepository;
 import com.backend.domain.transaction.repository.TransactionRepository;
 import com.backend.global.security.SecurityUser;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -37,10 +46,32 @@ public class ContractDetailService {
     private final DepositContractRepository depositContractRepository;
     private final SavingContractRepository savingContractRepository;
     private final TransactionRepository transactionRepository;
+    private final LedgerPostingRepository ledgerPostingRepository;
+    private final AccountLedgerStatsRepository accountLedgerStatsRepository;
     private final FinCompanyRepository finCompanyRepository;
+    private final ContractExpectedAmountCalculator contractExpectedAmountCalculator;
 
+    @Transactional(readOnly = true)
     public ContractDetailResponseDto getContractDetail(Integer accountId, SecurityUser securityUser,
                                                        Integer page, Integer size) {
+        return getContractDetail(accountId, securityUser, HistoryQuery.page(page, size));
+    }
+
+    // 거래내역 slice 모드 (COUNT 없이 page 조회, includeTotal 이면 계좌별 거래 건수 PK 조회로 전체 건수/페이지 수 응답)
+    @Transactional(readOnly = true)
+    public ContractDetailResponseDto getContractDetailBySlice(Integer accountId, SecurityUser securityUser,
+                                                              Integer page, Integer size, boolean includeTotal) {
+        return getContractDetail(accountId, securityUser, HistoryQuery.slice(page, size, includeTotal));
+    }
+
+    // 거래내역 cursor 모드 (OFFSET/COUNT 없이 keyset 조회 - 깊은 페이지도 첫 페이지와 같은 비용)
+    @Transactional(readOnly = true)
+    public ContractDetailResponseDto getContractDetailByCursor(Integer accountId, SecurityUser securityUser,
+                                                               String cursor, Integer size) {
+        return getContractDetail(accountId, securityUser, HistoryQuery.cursor(TransactionCursor.parse(cursor), size));
+    }
+
+    private ContractDetailResponseDto getContractDetail(Integer accountId, SecurityUser securityUser, HistoryQuery query) {
         log.info("계약 상세조회 - 사용자: {}, 계좌ID: {}", securityUser.getId(), accountId);
 
 // 1단계: 계좌 조회 (1개 쿼리)
@@ -53,24 +84,22 @@ public class ContractDetailService {
 
         // 2단계: 계좌 타입별 처리
         if (account.getAccountType() == AccountType.CHECK) {
-            return buildCheckingAccountDetail(account, page, size);
+            return buildCheckingAccountDetail(account, query);
         } else if (account.getAccountType() == AccountType.DEPOSIT) {
-            return buildDepositContractDetail(account, page, size);
+            return buildDepositContractDetail(account, query);
         } else if (account.getAccountType() == AccountType.SAVING) {
-            return buildSavingContractDetail(account, page, size);
+            return buildSavingContractDetail(account, query);
         }
 
         throw new IllegalArgumentException("지원하지 않는 계좌 타입: " + account.getAccountType());
     }
 
     // 🏦 입출금계좌 상세조회 (새로 추가)
-    private ContractDetailResponseDto buildCheckingAccountDetail(Account account, Integer page, Integer size) {
+    private ContractDetailResponseDto buildCheckingAccountDetail(Account account, HistoryQuery query) {
         log.info("입출금계좌 상세조회 - 계좌ID: {}", account.getId());
 
         // 1. 거래내역 조회 (입출금계좌는 from/to 양방향으로 조회)
-        Pageable pageable = PageRequest.of(page - 1, size, Sort.by("createdAt").descending());
-        Page<Transaction> transactionPage = transactionRepository.findCheckingAccountTransactions(
-                account.getId(), pageable);
+        TransactionHistory history = loadHistory(account, query);
 
         // 2. 입출금계좌용 예상금액 (잔액만 표시)
         ContractDetailResponseDto.ExpectedAmountsDto expectedAmounts =
@@ -85,8 +114,8 @@ public class ContractDetailService {
                 .contractInfo(buildCheckingAccountContractInfo(account))
                 .accountInfo(buildAccountInfo(account, null))
                 .expectedAmounts(expectedAmounts)
-                .transactions(buildCheckingTransactionDetails(transactionPage.getContent(), account.getId()))
-                .pagination(buildPagination(transactionPage))
+                .transactions(buildCheckingTransactionDetails(history.getTransactions(), account.getId()))
+                .pagination(history.getPagination())
                 .build();
     }
 
@@ -166,7 +195,7 @@ public class ContractDetailService {
 
 
     // 예금 계약 상세조회
-    private ContractDetailResponseDto buildDepositContractDetail(Account account, Integer page, Integer size) {
+    private ContractDetailResponseDto buildDepositContractDetail(Account account, HistoryQuery query) {
 
         // 🔍 2단계: 예금 계약 조회 (1개 쿼리)
         DepositContract contract = depositContractRepository.findByAccountId(account.getId())
@@ -177,24 +206,23 @@ public class ContractDetailService {
         // contract.getDepositProductOption() - 1개 쿼리
 
         // 🔍 4단계: 거래내역 조회 (페이징) - 1개 쿼리
-        Pageable pageable = PageRequest.of(page - 1, size, Sort.by("createdAt").descending());
-        Page<Transaction> transactionPage = transactionRepository.findByToAccountId(account.getId(), pageable);
+        TransactionHistory history = loadHistory(account, query);
 
         // 🔍 5단계: 만기 예상금액 계산 (메모리에서 계산)
-        ContractDetailResponseDto.ExpectedAmountsDto expectedAmounts = calculateDepositExpectedAmounts(contract);
+        ContractDetailResponseDto.ExpectedAmountsDto expectedAmounts = contractExpectedAmountCalculator.calculateDepositExpectedAmounts(contract);
 
         // 🔄 DTO 조합
         return ContractDetailResponseDto.builder()
                 .contractInfo(buildDepositContractInfo(contract))
                 .accountInfo(buildAccountInfo(account, null))
                 .expectedAmounts(expectedAmounts)
-                .transactions(buildTransactionDetails(transactionPage.getContent(), account.getId()))
-                .pagination(buildPagination(transactionPage))
+                .transactions(buildTransactionDetails(history.getTransactions(), account.getId()))
+                .pagination(history.getPagination())
                 .build();
     }
 
     // 적금 계약 상세조회
-    private ContractDetailResponseDto buildSavingContractDetail(Account account, Integer page, Integer size) {
+    private ContractDetailResponseDto buildSavingContractDetail(Account account, HistoryQuery query) {
 
         // 2단계: 적금 계약 조회 (1개 쿼리)
         SavingContract contract = savingContractRepository.findByAccountId(account.getId())
@@ -205,19 +233,18 @@ public class ContractDetailService {
         // contract.getSavingProductOption() - 1개 쿼리
 
         // 4단계: 거래내역 조회 (페이징)
-        Pageable pageable = PageRequest.of(page - 1, size, Sort.by("createdAt").descending());
-        Page<Transaction> transactionPage = transactionRepository.findByToAccountId(account.getId(), pageable);
+        TransactionHistory history = loadHistory(account, query);
 
         // 🔍 5단계: 만기 예상금액 계산
-        ContractDetailResponseDto.ExpectedAmountsDto expectedAmounts = calculateSavingExpectedAmounts(contract);
+        ContractDetailResponseDto.ExpectedAmountsDto expectedAmounts = contractExpectedAmountCalculator.calculateSavingExpectedAmounts(contract);
 
         // 🔄 DTO 조합
         return ContractDetailResponseDto.builder()
                 .contractInfo(buildSavingContractInfo(contract))
                 .accountInfo(buildAccountInfo(account, contract.getCurrentPaymentCount()))
                 .expectedAmounts(expectedAmounts)
-                .transactions(buildTransactionDetails(transactionPage.getContent(), account.getId()))
-                .pagination(buildPagination(transactionPage))
+                .transactions(buildTransactionDetails(history.getTransactions(), account.getId()))
+                .pagination(history.getPagination())
                 .build();
     }
 
@@ -270,39 +297,6 @@ public class ContractDetailService {
                 .build();
     }
 
-    // 💰 예금 예상금액 계산
-    private ContractDetailResponseDto.ExpectedAmountsDto calculateDepositExpectedAmounts(DepositContract contract) {
-        Long principal = contract.getPayment();
-        Integer months = contract.getDepositProductOption().getSaveTerm();
-        Double yearlyRate = contract.getDepositProductOption().getInterestRate2().doubleValue();
-
-        // 단순 이자 계산 (실제로는 복잡한 로직)
-        Long expectedInterest = Math.round(principal * (yearlyRate / 100.0) * (months / 12.0));
-
-        return ContractDetailResponseDto.ExpectedAmountsDto.builder()
-                .totalPayment(principal)
-                .expectedInterest(expectedInterest)
-                .maturityAmount(principal + expectedInterest)
-                .build();
-    }
-
-    // 💰 적금 예상금액 계산
-    private ContractDetailResponseDto.ExpectedAmountsDto calculateSavingExpectedAmounts(SavingContract contract) {
-        Long monthlyPayment = contract.getMonthlyPayment();
-        Integer totalTerm = contract.getSavingProductOption().getSaveTerm();
-        Double yearlyRate = contract.getSavingProductOption().getInterestRate2().doubleValue();
-
-        Long totalPayment = monthlyPayment * totalTerm;
-        // 적금 이자 계산 (간단화)
-        Long expectedInterest = Math.round(totalPayment * (yearlyRate / 100.0) * 0.5); // 평균 운용기간
-
-        return ContractDetailResponseDto.ExpectedAmountsDto.builder()
-                .totalPayment(totalPayment)
-                .expectedInterest(expectedInterest)
-                .maturityAmount(totalPayment + expectedInterest)
-                .build();
-    }
-
     // 🔄 거래내역 DTO 변환
     private List<ContractDetailResponseDto.TransactionDetailDto> buildTransactionDetails(List<Transaction> transactions, Integer accountId) {
         List<ContractDetailResponseDto.TransactionDetailDto> result = new ArrayList<>();
@@ -332,6 +326,65 @@ public class ContractDetailService {
         return result;
     }
 
+    // 거래내역 조회 (page 모드: OFFSET + COUNT, cursor 모드: 원장 분개 keyset + limit+1 로 다음 페이지 여부 확인)
+    // cursor 모드는 계좌의 입출금 양방향 분개를 인덱스 범위 하나로 읽고, 잔액도 조회 계좌 기준
+    private TransactionHistory loadHistory(Account account, HistoryQuery query) {
+        boolean checking = account.getAccountType() == AccountType.CHECK;
+
+        if (query.isSlice()) {
+            Pageable pageable = PageRequest.of(query.getPage() - 1, query.getSize(), Sort.by("createdAt").descending());
+            Slice<Transaction> transactionSlice = checking
+                    ? transactionRepository.findCheckingAccountTransactionSlice(account.getId(), pageable)
+                    : transactionRepository.findSliceByToAccountId(account.getId(), pageable);
+            return new TransactionHistory(transactionSlice.getContent(),
+                    buildSlicePagination(transactionSlice, account, checking, query.isIncludeTotal()));
+        }
+
+        if (query.getCursor() == null) {
+            Pageable pageable = PageRequest.of(query.getPage() - 1, query.getSize(), Sort.by("createdAt").descending());
+            Page<Transaction> transactionPage = checking
+                    ? transactionRepository.findCheckingAccountTransactions(account.getId(), pageable)
+                    : transactionRepository.findByToAccountId(account.getId(), pageable);
+            return new TransactionHistory(transactionPage.getContent(), buildPagination(transactionPage));
+        }
+
+        TransactionCursor cursor = query.getCursor();
+        int limit = query.getSize() + 1;
+        List<Transaction> rows = ledgerPostingRepository.findByAccountIdBefore(
+                account.getId(), cursor.getCreatedAt(), cursor.getTransactionId(), limit)
+                .stream()
+                .map(LedgerPosting::toTransaction)
+                .toList();
+
+        boolean hasNext = rows.size() > query.getSize();
+        List<Transaction> transactions = hasNext ? rows.subList(0, query.getSize()) : rows;
+        Transaction last = hasNext ? transactions.get(transactions.size() - 1) : null;
+
+        return new TransactionHistory(transactions, ContractDetailResponseDto.PaginationDto.builder()
+                .hasNext(hasNext)
+                .nextCursor(last != null ? new TransactionCursor(last.getCreatedAt(), last.getTransactionId()).encode() : null)
+                .build());
+    }
+
+    // 전체 건수는 요청한 경우에만 원장 기록 시 증가시킨 계좌별 건수에서 읽음 (입출금계좌: 전체 거래, 상품계좌: 입금 분개)
+    private ContractDetailResponseDto.PaginationDto buildSlicePagination(Slice<Transaction> slice, Account account,
+                                                                         boolean checking, boolean includeTotal) {
+        ContractDetailResponseDto.PaginationDto.PaginationDtoBuilder builder = ContractDetailResponseDto.PaginationDto.builder()
+                .currentPage(slice.getNumber() + 1)
+                .hasNext(slice.hasNext());
+        if (!includeTotal) {
+            return builder.build();
+        }
+
+        long totalCount = accountLedgerStatsRepository.findById(account.getId())
+                .map(stats -> checking ? stats.getTransactionCount() : stats.getInflowCount())
+                .orElse(0L);
+        return builder
+                .totalPages((int) ((totalCount + slice.getSize() - 1) / slice.getSize()))
+                .totalCount(totalCount)
+                .build();
+    }
+
     private ContractDetailResponseDto.PaginationDto buildPagination(Page<Transaction> page) {
         return ContractDetailResponseDto.PaginationDto.builder()
                 .currentPage(page.getNumber() + 1)
@@ -346,6 +399,7 @@ public class ContractDetailService {
         return switch (type) {
             case PAYMENT -> "정기적금 납입";
             case TRANSFER -> "환급";
+            case INTEREST -> "이자 지급";
             default -> "거래";
         };
     }
@@ -359,6 +413,7 @@ public class ContractDetailService {
         return tx.getCurrentBalance(); // 또는 별도 계산 로직
     }
 
+    @Transactional(readOnly = true)
     public Map<String, Object> comparePerformance(Integer accountId, SecurityUser securityUser) {
         log.info("성능 비교 테스트 시작 - 계좌ID: {}", accountId);
 
@@ -412,7 +467,7 @@ public class ContractDetailService {
         Page<Transaction> transactions = transactionRepository.findByToAccountId(accountId, pageable);
 
         log.info("🐌 V1 완료 - 총 5개 쿼리 실행");
-        return buildSavingContractDetail(account, pageable.getPageNumber() + 1, pageable.getPageSize());
+        return buildSavingContractDetail(account, HistoryQuery.page(pageable.getPageNumber() + 1, pageable.getPageSize()));
     }
 
     // ⚡ V2: JOIN FETCH 방식
@@ -436,6 +491,39 @@ public class ContractDetailService {
         Page<Transaction> transactions = transactionRepository.findByToAccountId(accountId, pageable);
 
         log.info("⚡ V2 완료 - 총 3개 쿼리 실행");
-        return buildSavingContractDetail(account, pageable.getPageNumber() + 1, pageable.getPageSize());
+        return buildSavingContractDetail(account, HistoryQuery.page(pageable.getPageNumber() + 1, pageable.getPageSize()));
+    }
+
+    // 거래내역 조회 조건 (cursor 가 있으면 keyset, slice 면 COUNT 없는 page, 아니면 page)
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    private static class HistoryQuery {
+        private final Integer page;
+        private final Integer size;
+        private final TransactionCursor cursor;
+        private final boolean slice;
+        private final boolean includeTotal;     // slice 모드 전체 건수 응답 여부
+
+        static HistoryQuery page(Integer page, Integer size) {
+            return new HistoryQuery(page, size, null, false, false);
+        }
+
+        static HistoryQuery slice(Integer page, Integer size, boolean includeTotal) {
+            return new HistoryQuery(page, size, null, true, includeTotal);
+        }
+
+        static HistoryQuery cursor(TransactionCursor cursor, Integer size) {
+            if (size == null || size < 1) {
+                throw new IllegalArgumentException("size는 1 이상이어야 합니다.");
+            }
+            return new HistoryQuery(null, size, cursor, false, false);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class TransactionHistory {
+        private final List<Transaction> transactions;
+        private final ContractDetailResponseDto.PaginationDto pagination;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,52 @@
+package com.backend.domain.contract.service;
+
+import com.backend.domain.contract.domain.DepositContract;
+import com.backend.domain.contract.domain.SavingContract;
+import com.backend.domain.contract.dto.ContractDetailResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+// 계약 상세 예상금액 계산 (만기 예상 이자 + 오늘 해지 기준 적립 이자)
+@Component
+@RequiredArgsConstructor
+public class ContractExpectedAmountCalculator {
+
+    private final InterestAccrualService interestAccrualService;
+
+    // 💰 예금 예상금액 계산
+    public ContractDetailResponseDto.ExpectedAmountsDto calculateDepositExpectedAmounts(DepositContract contract) {
+        Long principal = contract.getPayment();
+        Integer months = contract.getDepositProductOption().getSaveTerm();
+        Double yearlyRate = contract.getDepositProductOption().getInterestRate2().doubleValue();
+
+        // 단순 이자 계산 (실제로는 복잡한 로직)
+        Long expectedInterest = Math.round(principal * (yearlyRate / 100.0) * (months / 12.0));
+
+        return ContractDetailResponseDto.ExpectedAmountsDto.builder()
+                .totalPayment(principal)
+                .expectedInterest(expectedInterest)
+                .maturityAmount(principal + expectedInterest)
+                .accruedInterest(interestAccrualService.getDepositInterest(contract, LocalDate.now()).getInterest())
+                .build();
+    }
+
+    // 💰 적금 예상금액 계산
+    public ContractDetailResponseDto.ExpectedAmountsDto calculateSavingExpectedAmounts(SavingContract contract) {
+        Long monthlyPayment = contract.getMonthlyPayment();
+        Integer totalTerm = contract.getSavingProductOption().getSaveTerm();
+        Double yearlyRate = contract.getSavingProductOption().getInterestRate2().doubleValue();
+
+        Long totalPayment = monthlyPayment * totalTerm;
+        // 적금 이자 계산 (간단화)
+        Long expectedInterest = Math.round(totalPayment * (yearlyRate / 100.0) * 0.5); // 평균 운용기간
+
+        return ContractDetailResponseDto.ExpectedAmountsDto.builder()
+                .totalPayment(totalPayment)
+                .expectedInterest(expectedInterest)
+                .maturityAmount(totalPayment + expectedInterest)
+                .accruedInterest(interestAccrualService.getSavingInterest(contract, LocalDate.now()).getInterest())
+                .build();
+    }
+}
@@ -0,0 +1,134 @@
+package com.backend.domain.contract.service;
+
+import com.backend.domain.contract.dto.AccruedInterest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+// 예금/적금 이자 계산 (만기정산 조회와 만기정산 배치가 같은 규칙을 사용)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContractInterestCalculator {
+
+    private final SavingInterestEngine savingInterestEngine;
+    private final CompoundFactorCache compoundFactorCache;
+
+    // 예금 만기 이자 (약정이율 100% 적용)
+    public Long calculateDepositMaturityInterest(Long principal, BigDecimal contractRate, char rateType,
+                                                 LocalDate contractDate, LocalDate maturityDate) {
+        long totalContractDays = ChronoUnit.DAYS.between(contractDate, maturityDate);
+        return calculateDepositInterestByDays(principal, contractRate, totalContractDays, rateType);
+    }
+
+    // 적금 만기 이자 (약정이율 100% 적용)
+    public Long calculateSavingMaturityInterest(Long monthlyPayment, BigDecimal contractRate, char rateType,
+                                                LocalDate contractDate, LocalDate maturityDate, Integer currentPaymentCount) {
+        return calculateSavingInterestByActualPayments(monthlyPayment, contractRate, rateType,
+                contractDate, maturityDate, maturityDate, currentPaymentCount);
+    }
+
+    // 적금 만기정산 지급 이자 (약정이율 100%, 회차별 실제 경과 일수)
+    public Long calculateSavingSettlementInterest(Long monthlyPayment, BigDecimal contractRate, char rateType,
+                                                  LocalDate contractDate, LocalDate maturityDate, Integer currentPaymentCount) {
+        return savingInterestEngine.interestByElapsedDays(monthlyPayment, toMilliPercent(contractRate), rateType,
+                contractDate, maturityDate, maturityDate, currentPaymentCount);
+    }
+
+    // 기준일에 해지하면 받는 예금 이자 (만기정산 조회/이자 적립 배치 공통)
+    public AccruedInterest calculateDepositInterestAsOf(Long principal, BigDecimal contractRate, char rateType,
+                                                        LocalDate contractDate, LocalDate maturityDate, LocalDate asOf) {
+        if (!asOf.isBefore(maturityDate)) {
+            return new AccruedInterest(contractRate,
+                    calculateDepositMaturityInterest(principal, contractRate, rateType, contractDate, maturityDate), true);
+        }
+
+        long actualDays = ChronoUnit.DAYS.between(contractDate, asOf);
+        BigDecimal appliedRate = calculateEarlyTerminationRate(contractRate, actualDays);
+        return new AccruedInterest(appliedRate,
+                calculateDepositInterestByDays(principal, appliedRate, actualDays, rateType), false);
+    }
+
+    // 기준일에 해지하면 받는 적금 이자 (만기정산 조회/이자 적립 배치 공통)
+    public AccruedInterest calculateSavingInterestAsOf(Long monthlyPayment, BigDecimal contractRate, char rateType,
+                                                       LocalDate contractDate, LocalDate maturityDate, LocalDate asOf,
+                                                       Integer currentPaymentCount) {
+        if (!asOf.isBefore(maturityDate)) {
+            return new AccruedInterest(contractRate, calculateSavingMaturityInterest(monthlyPayment, contractRate, rateType,
+                    contractDate, maturityDate, currentPaymentCount), true);
+        }
+
+        long holdingDays = ChronoUnit.DAYS.between(contractDate, asOf);
+        BigDecimal appliedRate = calculateEarlyTerminationRate(contractRate, holdingDays);
+        return new AccruedInterest(appliedRate, calculateSavingInterestByActualPayments(monthlyPayment, appliedRate, rateType,
+                contractDate, asOf, maturityDate, currentPaymentCount), false);
+    }
+
+    // 중도해지 시 이자율 계산 (변경 후 규칙)
+    public BigDecimal calculateEarlyTerminationRate(BigDecimal contractRate, long holdingDays) {
+        // 기본 중도해지 이자율: 약정이율 × 50%
+        BigDecimal baseEarlyRate = contractRate.multiply(BigDecimal.valueOf(0.5));
+
+        // 보유기간별 최저이율 보장
+        BigDecimal minimumRate = getMinimumRateByHoldingPeriod(holdingDays);
+
+        // 둘 중 높은 이자율 적용
+        BigDecimal appliedRate = baseEarlyRate.compareTo(minimumRate) >= 0 ? baseEarlyRate : minimumRate;
+
+        log.debug("중도해지 이자율 계산 - 약정: {}%, 기본중도: {}%, 최저보장: {}%, 최종적용: {}%",
+                contractRate, baseEarlyRate, minimumRate, appliedRate);
+
+        return appliedRate;
+    }
+
+    // 🔧 일 단위 예금 이자 계산 메서드 (누락된 메서드)
+    public Long calculateDepositInterestByDays(Long principal, BigDecimal yearlyRate, long days, char rateType) {
+        double rate = yearlyRate.doubleValue() / 100.0; // 연이율
+        double dailyRate = rate / 365.0; // 일이율
+
+        log.debug("예금 이자 계산 - 원금: {}원, 연이율: {}%, 운용일수: {}일, 유형: {}",
+                principal, yearlyRate, days, rateType == 'S' ? "단리" : "복리");
+
+        if (rateType == 'S') { // 단리
+            long interest = Math.round(principal * dailyRate * days);
+            log.debug("단리 계산 결과: {}원", interest);
+            return interest;
+        } else { // 복리 (일복리, 계수 테이블 조회)
+            double compound = compoundFactorCache.forRate(toMilliPercent(yearlyRate)).factor(days);
+            long interest = Math.round(principal * (compound - 1));
+            log.debug("복리 계산 결과: {}원 (복리계수: {})", interest, compound);
+            return interest;
+        }
+    }
+
+    private BigDecimal getMinimumRateByHoldingPeriod(long holdingDays) {
+        if (holdingDays < 30) { // 1개월 미만
+            return BigDecimal.valueOf(0.1);
+        } else if (holdingDays < 90) { // 1개월 이상 ~ 3개월 미만
+            return BigDecimal.valueOf(0.3);
+        } else { // 3개월 이상
+            return BigDecimal.valueOf(0.5);
+        }
+    }
+
+    // 납입 회차별 이자 합계 (SavingInterestEngine - 회차 수와 관계없이 상수 시간)
+    public Long calculateSavingInterestByActualPayments(Long monthlyPayment, BigDecimal yearlyRate,
+                                                         char rateType, LocalDate contractDate, LocalDate currentDate, LocalDate maturityDate,
+                                                         Integer currentPaymentCount) {
+        long totalInterest = savingInterestEngine.interest(monthlyPayment, toMilliPercent(yearlyRate), rateType,
+                contractDate, currentDate, maturityDate, currentPaymentCount);
+
+        log.debug("적금 이자 계산 - 월납입액: {}원, 연이율: {}%, 납입횟수: {}회, 이자: {}원",
+                monthlyPayment, yearlyRate, currentPaymentCount, totalInterest);
+        return totalInterest;
+    }
+
+    // 3.55(%) → 3550
+    private int toMilliPercent(BigDecimal rate) {
+        return rate.movePointRight(3).intValueExact();
+    }
+}
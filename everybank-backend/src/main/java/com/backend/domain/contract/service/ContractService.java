@@ -3,7 +3,10 @@ package com.backend.domain.contract.service;
 import com.backend.domain.account.domain.Account;
 import com.backend.domain.account.domain.AccountState;
 import com.backend.domain.account.domain.AccountType;
+import com.backend.domain.account.event.AccountSummaryChangedEvent;
 import com.backend.domain.account.repository.AccountRepository;
+import com.backend.domain.account.service.AccountBalanceService;
+import com.backend.domain.account.service.CheckingAccountResolver;
 import com.backend.domain.contract.domain.ContractCondition;
 import com.backend.domain.contract.domain.DepositContract;
 import com.backend.domain.contract.domain.SavingContract;
@@ -20,16 +23,18 @@ import com.backend.domain.product.repository.SavingProductOptionRepository;
 import com.backend.domain.product.repository.SavingProductRepository;
 import com.backend.domain.transaction.domain.Transaction;
 import com.backend.domain.transaction.domain.TransactionType;
-import com.backend.domain.transaction.repository.TransactionRepository;
+import com.backend.domain.transaction.repository.TransactionJournal;
 import com.backend.global.security.SecurityUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.NoSuchElementException;
 
@@ -45,7 +50,11 @@ public class ContractService {
     private final SavingProductRepository savingProductRepository;
     private final SavingContractRepository savingContractRepository;
     private final AccountRepository accountRepository;
-    private final TransactionRepository transactionRepository;
+    private final TransactionJournal transactionJournal;
+    private final AccountBalanceService accountBalanceService;
+    private final CheckingAccountResolver checkingAccountResolver;
+    private final InterestAccrualService interestAccrualService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public DepositSubscriptionResponseDto subscribeDeposit(DepositSubscriptionRequestDto requestDto, SecurityUser securityUser) {
@@ -62,7 +71,7 @@ public class ContractService {
         LocalDate maturityDate = currentDate.plusMonths(option.getSaveTerm());
 
         // 2. 입출금계좌 조회 및 잔액 확인
-        Account checkingAccount = findUserCheckingAccount(securityUser.getId());
+        Account checkingAccount = checkingAccountResolver.resolve(securityUser.getId());
 
         if (checkingAccount.getCurrentBalance() < requestDto.getTotalAmount()) {
             throw new IllegalArgumentException("잔액이 부족합니다. 현재 잔액: " +
@@ -89,6 +98,7 @@ public class ContractService {
                 .build();
 
         depositContractRepository.save(depositContract);
+        eventPublisher.publishEvent(AccountSummaryChangedEvent.of(securityUser.getId()));
 
         log.info("예금 계약 완료 - 계약ID: {}, 계좌ID: {}, 납입액: {}원",
                 depositContract.getContractId(), depositAccount.getId(), requestDto.getTotalAmount());
@@ -138,6 +148,7 @@ public class ContractService {
                 .build();
 
         savingContractRepository.save(savingContract);
+        eventPublisher.publishEvent(AccountSummaryChangedEvent.of(securityUser.getId()));
 
         log.info("적금 계약 완료 - 계약ID: {}, 계좌ID: {}, 월납입액: {}원",
                 savingContract.getContractId(), savingAccount.getId(), requestDto.getMonthlyAmount());
@@ -164,10 +175,8 @@ public class ContractService {
         log.info("예금 납입 이체 - 입출금계좌: {} → 예금계좌: {}, 금액: {}원",
                 checkingAccount.getId(), depositAccount.getId(), amount);
 
-        // 입출금계좌 잔액 차감
-        checkingAccount.setCurrentBalance(checkingAccount.getCurrentBalance() - amount);
-        checkingAccount.setLastTransactionDate(LocalDateTime.now());
-        accountRepository.save(checkingAccount);
+        // 입출금계좌 잔액 차감 (조건부 UPDATE - 잔액 부족 시 예외로 계약 전체 롤백)
+        Long checkingBalance = accountBalanceService.debit(checkingAccount.getId(), amount);
 
         // 예금계좌 잔액은 이미 생성 시 설정됨
         depositAccount.setLastTransactionDate(LocalDateTime.now());
@@ -180,13 +189,15 @@ public class ContractService {
                 .fromAccountId(checkingAccount.getId())
                 .toAccountId(depositAccount.getId())
                 .currentBalance(depositAccount.getCurrentBalance()) // 예금계좌 잔액
+                .fromBalance(checkingBalance)
+                .toBalance(depositAccount.getCurrentBalance())
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        transactionRepository.save(transaction);
+        transactionJournal.append(transaction);
 
         log.info("예금 납입 완료 - 거래ID: {}, 입출금계좌 잔액: {}원, 예금계좌 잔액: {}원",
-                transaction.getTransactionId(), checkingAccount.getCurrentBalance(), depositAccount.getCurrentBalance());
+                transaction.getTransactionId(), checkingBalance, depositAccount.getCurrentBalance());
     }
 
     // 공통 계좌 생성 로직
@@ -203,17 +214,6 @@ public class ContractService {
         return accountRepository.save(account);
     }
 
-    // 사용자의 입출금계좌 찾기
-    private Account findUserCheckingAccount(Long userId) {
-        return accountRepository.findByUserId(userId)
-                .orElse(List.of())
-                .stream()
-                .filter(account -> account.getAccountType() == AccountType.CHECK &&
-                        account.getAccountState() == AccountState.ACTIVE)
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("입출금계좌가 없습니다. 먼저 입출금계좌를 개설해주세요."));
-    }
-
     // 검증 로직 분리
     private DepositProduct validateAndGetDepositProduct(String productCode) {
         DepositProduct product = depositProductRepository.findByProductCode(productCode);
@@ -256,7 +256,8 @@ public class ContractService {
                 .build();
     }
 
-    // 만기정산 메인 메서드
+    // 만기정산 메인 메서드 (계약의 상품/옵션 지연 로딩 - open-in-view 없이 트랜잭션 안에서 조회)
+    @Transactional(readOnly = true)
     public MaturityCalculationDto calculateMaturity(Integer accountId, SecurityUser securityUser) {
         log.info("만기정산 확인 요청 - 사용자: {}, 계좌ID: {}", securityUser.getId(), accountId);
 
@@ -275,7 +276,7 @@ public class ContractService {
         }
 
         // 4. 입출금계좌 잔액 조회
-        Account checkingAccount = findUserCheckingAccount(securityUser.getId());
+        Account checkingAccount = checkingAccountResolver.resolve(securityUser.getId());
 
         // 5. 계좌 타입에 따른 계약 정보 조회 및 이자 계산
         if (productAccount.getAccountType() == AccountType.DEPOSIT) {
@@ -305,31 +306,21 @@ public class ContractService {
         LocalDate maturityDate = contract.getMaturityDate();
         LocalDate currentDate = LocalDate.now();
         BigDecimal contractInterestRate = contract.getDepositProductOption().getInterestRate2(); // 약정이율
-        char rateType = contract.getDepositProductOption().getInterestRateType();
-
-        // 실제 운용기간 및 만기 여부 확인
-        LocalDate endDate = currentDate.isBefore(maturityDate) ? currentDate : maturityDate;
-        long actualDays = contractDate.until(endDate).getDays();
-        boolean isMatured = currentDate.isAfter(maturityDate) || currentDate.isEqual(maturityDate);
 
-        BigDecimal appliedInterestRate;
-        Long interest;
+        // 만기 여부 및 이자 (일별 적립분 우선, 없으면 직접 계산)
+        AccruedInterest accrued = interestAccrualService.getDepositInterest(contract, currentDate);
+        boolean isMatured = accrued.isMatured();
+        BigDecimal appliedInterestRate = accrued.getAppliedRate();
+        Long interest = accrued.getInterest();
 
         if (isMatured) {
             // 🎉 만기 시: 약정이율 100% 보장
-            appliedInterestRate = contractInterestRate;
-            long totalContractDays = contractDate.until(maturityDate).getDays();
-            interest = calculateDepositInterestByDays(principal, appliedInterestRate, totalContractDays, rateType);
-
-            log.info("✅ 만기해지 - 약정이율 {}% 전액 적용, 만기일수: {}일", contractInterestRate, totalContractDays);
-
+            log.info("✅ 만기해지 - 약정이율 {}% 전액 적용, 만기일수: {}일",
+                    contractInterestRate, ChronoUnit.DAYS.between(contractDate, maturityDate));
         } else {
             // 🚨 중도해지 시: 변경 후 규칙 적용 (약정이율 × 50% + 최저이율 보장)
-            appliedInterestRate = calculateEarlyTerminationRate(contractInterestRate, actualDays);
-            interest = calculateDepositInterestByDays(principal, appliedInterestRate, actualDays, rateType);
-
             log.warn("⚠️ 중도해지 - 약정이율: {}%, 적용이율: {}%, 보유일수: {}일",
-                    contractInterestRate, appliedInterestRate, actualDays);
+                    contractInterestRate, appliedInterestRate, ChronoUnit.DAYS.between(contractDate, currentDate));
         }
 
         Long totalPayout = principal + interest;
@@ -357,53 +348,6 @@ public class ContractService {
                 .build();
     }
 
-    // 중도해지 시 이자율 계산 (변경 후 규칙)
-    private BigDecimal calculateEarlyTerminationRate(BigDecimal contractRate, long holdingDays) {
-        // 기본 중도해지 이자율: 약정이율 × 50%
-        BigDecimal baseEarlyRate = contractRate.multiply(BigDecimal.valueOf(0.5));
-
-        // 보유기간별 최저이율 보장
-        BigDecimal minimumRate = getMinimumRateByHoldingPeriod(holdingDays);
-
-        // 둘 중 높은 이자율 적용
-        BigDecimal appliedRate = baseEarlyRate.compareTo(minimumRate) >= 0 ? baseEarlyRate : minimumRate;
-
-        log.debug("중도해지 이자율 계산 - 약정: {}%, 기본중도: {}%, 최저보장: {}%, 최종적용: {}%",
-                contractRate, baseEarlyRate, minimumRate, appliedRate);
-
-        return appliedRate;
-    }
-
-    // 🔧 일 단위 예금 이자 계산 메서드 (누락된 메서드)
-    private Long calculateDepositInterestByDays(Long principal, BigDecimal yearlyRate, long days, char rateType) {
-        double rate = yearlyRate.doubleValue() / 100.0; // 연이율
-        double dailyRate = rate / 365.0; // 일이율
-
-        log.debug("예금 이자 계산 - 원금: {}원, 연이율: {}%, 운용일수: {}일, 유형: {}",
-                principal, yearlyRate, days, rateType == 'S' ? "단리" : "복리");
-
-        if (rateType == 'S') { // 단리
-            long interest = Math.round(principal * dailyRate * days);
-            log.debug("단리 계산 결과: {}원", interest);
-            return interest;
-        } else { // 복리 (일복리)
-            double compound = Math.pow(1 + dailyRate, days);
-            long interest = Math.round(principal * (compound - 1));
-            log.debug("복리 계산 결과: {}원 (복리계수: {})", interest, compound);
-            return interest;
-        }
-    }
-
-    private BigDecimal getMinimumRateByHoldingPeriod(long holdingDays) {
-        if (holdingDays < 30) { // 1개월 미만
-            return BigDecimal.valueOf(0.1);
-        } else if (holdingDays < 90) { // 1개월 이상 ~ 3개월 미만
-            return BigDecimal.valueOf(0.3);
-        } else { // 3개월 이상
-            return BigDecimal.valueOf(0.5);
-        }
-    }
-
     // 3. 적금 만기정산 계산
     private MaturityCalculationDto calculateSavingMaturity(Account savingAccount, Account checkingAccount) {
         log.info("적금 만기정산 계산 시작 - 계좌ID: {}", savingAccount.getId());
@@ -417,33 +361,22 @@ public class ContractService {
         LocalDate maturityDate = contract.getMaturityDate();
         LocalDate currentDate = LocalDate.now();
         BigDecimal contractInterestRate = contract.getSavingProductOption().getInterestRate2();
-        char rateType = contract.getSavingProductOption().getInterestRateType();
 
         // 원금 계산
         Long principal = monthlyPayment * currentPaymentCount;
-        boolean isMatured = currentDate.isAfter(maturityDate) || currentDate.isEqual(maturityDate);
 
-        Long interest;
+        // 만기 여부 및 이자 (일별 적립분 우선, 없으면 직접 계산)
+        AccruedInterest accrued = interestAccrualService.getSavingInterest(contract, currentDate);
+        boolean isMatured = accrued.isMatured();
+        Long interest = accrued.getInterest();
 
         if (isMatured) {
             // 🎉 만기 시: 약정이율 100% 적용
-            interest = calculateSavingInterestByActualPayments(
-                    monthlyPayment, contractInterestRate, rateType,
-                    contractDate, maturityDate, maturityDate, currentPaymentCount);
-
             log.info("✅ 적금 만기해지 - 약정이율 {}% 전액 적용", contractInterestRate);
-
         } else {
             // 🚨 중도해지 시: 각 납입회차별로 중도해지 이자율 적용
-            long holdingDays = contractDate.until(currentDate).getDays();
-            BigDecimal appliedRate = calculateEarlyTerminationRate(contractInterestRate, holdingDays);
-
-            interest = calculateSavingInterestByActualPayments(
-                    monthlyPayment, appliedRate, rateType,
-                    contractDate, currentDate, maturityDate, currentPaymentCount);
-
             log.warn("⚠️ 적금 중도해지 - 약정이율: {}%, 적용이율: {}%, 보유일수: {}일",
-                    contractInterestRate, appliedRate, holdingDays);
+                    contractInterestRate, accrued.getAppliedRate(), ChronoUnit.DAYS.between(contractDate, currentDate));
         }
 
         Long totalPayout = principal + interest;
@@ -460,7 +393,7 @@ public class ContractService {
                 .maturityDate(maturityDate)
                 .saveTerm(contract.getSavingProductOption().getSaveTerm())
                 .interestRate(contract.getSavingProductOption().getInterestRate())
-                .interestRate2(isMatured ? contractInterestRate : calculateEarlyTerminationRate(contractInterestRate, contractDate.until(currentDate).getDays()))
+                .interestRate2(accrued.getAppliedRate())
                 .interestRateTypeName(contract.getSavingProductOption().getInterestRateTypeName())
                 .monthlyPayment(monthlyPayment)
                 .totalPaymentCount(contract.getSavingProductOption().getSaveTerm())
@@ -472,44 +405,4 @@ public class ContractService {
                 .isMatured(isMatured)
                 .build();
     }
-
-    private Long calculateSavingInterestByActualPayments(Long monthlyPayment, BigDecimal yearlyRate,
-                                                         char rateType, LocalDate contractDate, LocalDate currentDate, LocalDate maturityDate,
-                                                         Integer currentPaymentCount) {
-
-        double rate = yearlyRate.doubleValue() / 100.0;
-        double dailyRate = rate / 365.0;
-        long totalInterest = 0;
-
-        log.debug("적금 이자 계산 시작 - 월납입액: {}원, 연이율: {}%, 납입횟수: {}회",
-                monthlyPayment, yearlyRate, currentPaymentCount);
-
-        // 각 납입회차별로 이자 계산
-        for (int i = 1; i <= currentPaymentCount; i++) {
-            // 각 납입회차의 실제 납입일 계산 (계약일 + i개월)
-            LocalDate paymentDate = contractDate.plusMonths(i);
-
-            // 해당 납입액의 실제 운용기간 계산
-            LocalDate endDate = currentDate.isBefore(maturityDate) ? currentDate : maturityDate;
-            long daysFromPayment = paymentDate.until(endDate).getDays();
-
-            if (daysFromPayment <= 0) continue; // 아직 운용기간이 없는 경우
-
-            long monthlyInterest;
-            if (rateType == 'S') { // 단리
-                monthlyInterest = Math.round(monthlyPayment * dailyRate * daysFromPayment);
-            } else { // 복리
-                double compound = Math.pow(1 + dailyRate, daysFromPayment);
-                monthlyInterest = Math.round(monthlyPayment * (compound - 1));
-            }
-
-            totalInterest += monthlyInterest;
-
-            log.debug("{}회차 납입 - 납입일: {}, 운용일수: {}일, 이자: {}원",
-                    i, paymentDate, daysFromPayment, monthlyInterest);
-        }
-
-        log.debug("적금 총 이자 계산 결과: {}원", totalInterest);
-        return totalInterest;
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,154 @@
+package com.backend.domain.contract.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.time.temporal.ChronoUnit;
+
+// 적금 이자 계산 엔진 (납입 회차 수와 관계없이 상수 시간)
+// - 회차별 운용일수는 납입일(일자)과 기준월만으로 정해지므로 같은 운용일수의 회차를 묶어 (회차 수 × 회차 이자) 로 계산
+// - 월 길이별 회차 수는 달력 정수 연산으로 구함 (회차마다 LocalDate 생성/plusMonths/until 없음)
+// - 회차 이자는 기존 회차별 계산과 같은 식이라 결과가 원 단위까지 동일
+// - 이율은 밀리퍼센트 정수 (3.55% → 3550), 복리 계수는 CompoundFactorCache 테이블 조회
+@Component
+@RequiredArgsConstructor
+public class SavingInterestEngine {
+
+    private static final int[] THIRTY_DAY_MONTHS = {3, 5, 8, 10};   // 4, 6, 9, 11월 (0 = 1월)
+    private static final int FEBRUARY = 1;
+
+    private final CompoundFactorCache compoundFactorCache;
+
+    // 납입 회차별 이자 합계 (기존 calculateSavingInterestByActualPayments 와 같은 결과)
+    public long interest(long monthlyPayment, int rateMilliPercent, char rateType,
+                         LocalDate contractDate, LocalDate currentDate, LocalDate maturityDate, int paymentCount) {
+        LocalDate endDate = currentDate.isBefore(maturityDate) ? currentDate : maturityDate;
+
+        long contractMonth = prolepticMonth(contractDate);
+        long endMonth = prolepticMonth(endDate);
+        int contractDay = contractDate.getDayOfMonth();
+        int endDay = endDate.getDayOfMonth();
+
+        // 기준월에 납입하는 회차 (이후 회차는 운용일수가 0 이하)
+        long endMonthInstallment = endMonth - contractMonth;
+        if (paymentCount < 1 || endMonthInstallment < 1) {
+            return 0;
+        }
+
+        double dailyRate = (rateMilliPercent / 1000.0) / 100.0 / 365.0;
+        CompoundFactorCache.Factors factors = rateType == 'S' ? null : compoundFactorCache.forRate(rateMilliPercent);
+        long totalInterest = 0;
+
+        // 1. 기준월 이전에 납입한 회차 (1 ~ min(납입횟수, 기준월 회차 - 1))
+        long earlierCount = Math.min(paymentCount, endMonthInstallment - 1);
+        if (earlierCount > 0) {
+            long firstMonth = contractMonth + 1;
+            long lastMonth = contractMonth + earlierCount;
+            int previousMonthLength = lengthOfMonth(endMonth - 1);
+
+            // 계약일이 그 달 말일보다 큰 달은 말일에 납입 (plusMonths 규칙)
+            long remaining = earlierCount;
+            for (int length = 28; length <= 30; length++) {
+                if (length >= contractDay) {
+                    break;
+                }
+                long count = countMonthsOfLength(firstMonth, lastMonth, length);
+                if (count > 0) {
+                    int days = daysBeforeEndMonth(length, endDay, previousMonthLength);
+                    totalInterest += count * installmentInterest(monthlyPayment, dailyRate, factors, days);
+                    remaining -= count;
+                }
+            }
+
+            int days = daysBeforeEndMonth(contractDay, endDay, previousMonthLength);
+            totalInterest += remaining * installmentInterest(monthlyPayment, dailyRate, factors, days);
+        }
+
+        // 2. 기준월에 납입한 회차
+        if (endMonthInstallment <= paymentCount) {
+            int paymentDay = Math.min(contractDay, lengthOfMonth(endMonth));
+            totalInterest += installmentInterest(monthlyPayment, dailyRate, factors, endDay - paymentDay);
+        }
+
+        return totalInterest;
+    }
+
+    // 납입 회차별 이자 합계 - 회차 운용일수를 실제 경과 일수(ChronoUnit.DAYS)로 계산 (만기정산 지급용)
+    // interest() 는 기존 조회 결과와 맞추려고 Period.getDays() (월을 뺀 나머지 일수) 규칙을 따름
+    public long interestByElapsedDays(long monthlyPayment, int rateMilliPercent, char rateType,
+                                      LocalDate contractDate, LocalDate currentDate, LocalDate maturityDate, int paymentCount) {
+        LocalDate endDate = currentDate.isBefore(maturityDate) ? currentDate : maturityDate;
+        double dailyRate = (rateMilliPercent / 1000.0) / 100.0 / 365.0;
+        CompoundFactorCache.Factors factors = rateType == 'S' ? null : compoundFactorCache.forRate(rateMilliPercent);
+
+        long totalInterest = 0;
+        for (int i = 1; i <= paymentCount; i++) {
+            long days = ChronoUnit.DAYS.between(contractDate.plusMonths(i), endDate);
+            totalInterest += installmentInterest(monthlyPayment, dailyRate, factors, days);
+        }
+        return totalInterest;
+    }
+
+    // 한 회차 이자 (기존 회차별 계산식과 동일한 double 연산 순서, factors 가 null 이면 단리)
+    private long installmentInterest(long monthlyPayment, double dailyRate, CompoundFactorCache.Factors factors, long days) {
+        if (days <= 0) {
+            return 0;
+        }
+        if (factors == null) { // 단리
+            return Math.round(monthlyPayment * dailyRate * days);
+        }
+        double compound = factors.factor(days); // 복리
+        return Math.round(monthlyPayment * (compound - 1));
+    }
+
+    // 기준월 이전 달 납입일(paymentDay)부터 기준일까지의 Period.getDays()
+    // - 기준일 일자가 납입일 이상이면 일자 차이
+    // - 작으면 한 달을 빌려 (기준월 직전 달의 같은 일자 → 기준일) 일수
+    private int daysBeforeEndMonth(int paymentDay, int endDay, int previousMonthLength) {
+        if (endDay >= paymentDay) {
+            return endDay - paymentDay;
+        }
+        return previousMonthLength - Math.min(paymentDay, previousMonthLength) + endDay;
+    }
+
+    // [firstMonth, lastMonth] 중 길이가 length 인 달의 수 (28 / 29 / 30)
+    private long countMonthsOfLength(long firstMonth, long lastMonth, int length) {
+        if (length == 30) {
+            long count = 0;
+            for (int monthOfYear : THIRTY_DAY_MONTHS) {
+                count += countMonthOfYear(firstMonth, lastMonth, monthOfYear);
+            }
+            return count;
+        }
+
+        // 2월이 포함된 연도 범위
+        long firstYear = Math.floorDiv(firstMonth + 10, 12);
+        long lastYear = Math.floorDiv(lastMonth - FEBRUARY, 12);
+        if (lastYear < firstYear) {
+            return 0;
+        }
+        long leapFebruaries = leapYearsUpTo(lastYear) - leapYearsUpTo(firstYear - 1);
+        return length == 29 ? leapFebruaries : (lastYear - firstYear + 1) - leapFebruaries;
+    }
+
+    private long countMonthOfYear(long firstMonth, long lastMonth, int monthOfYear) {
+        return Math.floorDiv(lastMonth - monthOfYear, 12) - Math.floorDiv(firstMonth - 1 - monthOfYear, 12);
+    }
+
+    private long leapYearsUpTo(long year) {
+        return Math.floorDiv(year, 4) - Math.floorDiv(year, 100) + Math.floorDiv(year, 400);
+    }
+
+    private int lengthOfMonth(long prolepticMonth) {
+        long year = Math.floorDiv(prolepticMonth, 12);
+        int monthOfYear = (int) Math.floorMod(prolepticMonth, 12);
+        return Month.of(monthOfYear + 1).length(Year.isLeap(year));
+    }
+
+    private long prolepticMonth(LocalDate date) {
+        return date.getYear() * 12L + date.getMonthValue() - 1;
+    }
+}
@@ -5,6 +5,8 @@ import com.backend.domain.company.dto.CompanyDto;
 import com.backend.domain.financial.api.dto.FinancialApiResponse;
 import com.backend.domain.financial.mapper.FinancialDataMapper;
 import com.backend.domain.company.repository.FinCompanyRepository;
+import com.backend.domain.company.service.CompanyNameCache;
+import com.backend.domain.contract.service.CompoundFactorCache;
 import com.backend.domain.product.domain.*;
 import com.backend.domain.financial.api.dto.DepositProductDto;
 import com.backend.domain.financial.api.dto.DepositProductOptionDto;
@@ -41,6 +43,8 @@ public class FinancialProductService {
     private final SavingProductRepository savingProductRepository;
     private final DepositProductOptionRepository depositOptionRepository;
     private final SavingProductOptionRepository savingOptionRepository;
+    private final CompanyNameCache companyNameCache;
+    private final CompoundFactorCache compoundFactorCache;
 
     @Value("${finlifeapi.url}")
     private String apiUrl;
@@ -53,6 +57,7 @@ public class FinancialProductService {
 
         // 1. 금융회사 정보 먼저 로드
         loadCompanies();
+        companyNameCache.clear();
 
         // 2. 예금상품 로드
         loadDepositProducts();
@@ -60,6 +65,9 @@ public class FinancialProductService {
         // 3. 적금상품 로드
         loadSavingProducts();
         updateSavingMainRates();
+
+        // 4. 저축기간/이율이 바뀌었을 수 있으므로 복리 계수 테이블 비움
+        compoundFactorCache.clear();
     }
 
     @Transactional
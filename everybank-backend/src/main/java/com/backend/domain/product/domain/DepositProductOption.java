@@ -17,8 +17,8 @@ import java.math.BigDecimal;
 public class DepositProductOption {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "option_seq")
-    @SequenceGenerator(name = "option_seq", sequenceName = "deposit_product_option_id_seq", allocationSize = 1)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "deposit_option_seq")
+    @SequenceGenerator(name = "deposit_option_seq", sequenceName = "deposit_product_option_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -16,8 +16,8 @@ import java.math.BigDecimal;
 @Builder
 public class SavingProductOption {
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "option_seq")
-    @SequenceGenerator(name = "option_seq", sequenceName = "saving_product_option_id_seq", allocationSize = 1)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "saving_option_seq")
+    @SequenceGenerator(name = "saving_option_seq", sequenceName = "saving_product_option_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
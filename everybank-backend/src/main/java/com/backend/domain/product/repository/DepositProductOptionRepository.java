@@ -2,6 +2,7 @@ package com.backend.domain.product.repository;
 
 import com.backend.domain.product.domain.DepositProductOption;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,4 +10,8 @@ import java.util.List;
 @Repository
 public interface DepositProductOptionRepository extends JpaRepository<DepositProductOption, Long> {
     List<DepositProductOption> findByDepositProductProductCode(String productCode);
+
+    // 가장 긴 저축기간 (개월, 옵션이 없으면 0)
+    @Query("SELECT COALESCE(MAX(o.saveTerm), 0) FROM DepositProductOption o")
+    int findMaxSaveTerm();
 }
\ No newline at end of file
@@ -14,6 +14,7 @@ import com.backend.domain.product.repository.SavingProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -28,10 +29,12 @@ public class ProductService {
     private final DepositProductOptionRepository depositProductOptionRepository;
     private final SavingProductOptionRepository savingProductOptionRepository;
 
+    @Transactional(readOnly = true)
     public List<DepositProduct> getDepositProductList() {
         return depositProductRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public DepositProductDetailDto getDepositProductDetail(String productCode) {
         DepositProduct productInfo = depositProductRepository.findByProductCode(productCode);
         List<DepositProductOption> options = depositProductOptionRepository.findByDepositProductProductCode(productCode);
@@ -51,10 +54,12 @@ public class ProductService {
         return new DepositProductDetailDto(productInfo, optionDtos);
     }
 
+    @Transactional(readOnly = true)
     public List<SavingProduct> getSavingProductList() {
         return savingProductRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public SavingProductDetailDto getSavingProductDetail(String productCode) {
         SavingProduct productInfo = savingProductRepository.findByProductCode(productCode);
         List<SavingProductOption> options = savingProductOptionRepository.findBySavingProductProductCode(productCode);
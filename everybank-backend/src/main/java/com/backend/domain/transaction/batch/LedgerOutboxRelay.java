@@ -0,0 +1,205 @@
+package com.backend.domain.transaction.batch;
+
+import com.backend.domain.transaction.dto.LedgerEvent;
+import com.backend.domain.transaction.repository.LedgerOutboxJdbcRepository;
+import com.backend.domain.transaction.service.LedgerEventConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 거래내역 outbox 릴레이 (at-least-once)
+// - poll-interval 마다 PENDING 행을 batch-size 씩 임대(FOR UPDATE SKIP LOCKED)해 모든 소비자에게 전달 → 대기 행이 없을 때까지 반복
+// - 여러 노드가 동시에 돌아도 같은 행을 동시에 가져가지 않음, 처리 중 노드가 죽으면 lease 가 끝난 뒤 다시 전달
+// - 결과 기록은 임대 시점의 attempts 로 제한 → lease 가 끝난 뒤 늦게 끝난 노드가 다른 노드의 결과를 덮어쓰지 않음
+// - 소비자 하나라도 실패하면 배치 전체를 지수 백오프로 재시도, max-attempts 를 넘으면 FAILED 로 남김
+// - 전달 완료 행은 보관 기간이 지나면 매일 삭제
+@Slf4j
+@Component
+public class LedgerOutboxRelay {
+
+    private static final int PURGE_CHUNK_SIZE = 10000;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final LedgerOutboxJdbcRepository ledgerOutboxJdbcRepository;
+    private final List<LedgerEventConsumer> consumers;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final int retentionDays;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public LedgerOutboxRelay(LedgerOutboxJdbcRepository ledgerOutboxJdbcRepository,
+                             List<LedgerEventConsumer> consumers,
+                             @Value("${everybank.outbox.enabled:true}") boolean enabled,
+                             @Value("${everybank.outbox.batch-size:200}") int batchSize,
+                             @Value("${everybank.outbox.max-batches-per-poll:50}") int maxBatchesPerPoll,
+                             @Value("${everybank.outbox.lease-seconds:30}") long leaseSeconds,
+                             @Value("${everybank.outbox.max-attempts:10}") int maxAttempts,
+                             @Value("${everybank.outbox.retry-backoff-seconds:5}") long retryBackoffSeconds,
+                             @Value("${everybank.outbox.max-retry-backoff-seconds:600}") long maxRetryBackoffSeconds,
+                             @Value("${everybank.outbox.retention-days:7}") int retentionDays) {
+        this.ledgerOutboxJdbcRepository = ledgerOutboxJdbcRepository;
+        this.consumers = consumers;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = Duration.ofSeconds(retryBackoffSeconds);
+        this.maxRetryBackoff = Duration.ofSeconds(maxRetryBackoffSeconds);
+        this.retentionDays = retentionDays;
+    }
+
+    @Scheduled(fixedDelayString = "${everybank.outbox.poll-interval-ms:500}")
+    public void poll() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            LedgerOutboxRelayResult result = relay();
+            if (result.getClaimed() > 0) {
+                log.debug("outbox 릴레이 - 배치: {}, 전달: {}, 재시도: {}, 실패: {}, {}ms", result.getBatches(),
+                        result.getPublished(), result.getRetried(), result.getFailed(), result.getElapsedMs());
+            }
+        } catch (RuntimeException e) {
+            // 임대한 행은 lease 가 끝나면 다시 전달됨
+            log.error("outbox 릴레이 실패: {}", e.getMessage(), e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 수동 실행 (대기 행이 없거나 max-batches-per-poll 에 도달할 때까지)
+    public LedgerOutboxRelayResult run() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("outbox 릴레이가 이미 실행 중입니다.");
+        }
+
+        try {
+            return relay();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private LedgerOutboxRelayResult relay() {
+        long startTime = System.nanoTime();
+        long claimed = 0;
+        long published = 0;
+        long retried = 0;
+        long failed = 0;
+        int batches = 0;
+
+        while (batches < maxBatchesPerPoll) {
+            // 1. 전달할 이벤트 임대
+            LocalDateTime now = LocalDateTime.now();
+            List<LedgerEvent> events = ledgerOutboxJdbcRepository.claim(now, now.plus(lease), batchSize);
+            if (events.isEmpty()) {
+                break;
+            }
+            batches++;
+            claimed += events.size();
+
+            // 2. 모든 소비자에게 전달
+            String error = dispatch(events);
+
+            // 3. 결과 기록
+            if (error == null) {
+                published += ledgerOutboxJdbcRepository.markPublished(events, LocalDateTime.now());
+            } else {
+                long[] rescheduled = reschedule(events, error);
+                retried += rescheduled[0];
+                failed += rescheduled[1];
+            }
+
+            if (events.size() < batchSize) {
+                break;
+            }
+        }
+
+        return LedgerOutboxRelayResult.builder()
+                .batches(batches)
+                .claimed(claimed)
+                .published(published)
+                .retried(retried)
+                .failed(failed)
+                .elapsedMs((System.nanoTime() - startTime) / 1_000_000)
+                .build();
+    }
+
+    // 실패한 소비자가 있으면 오류 메시지 반환 (나머지 소비자에게는 계속 전달)
+    private String dispatch(List<LedgerEvent> events) {
+        List<String> errors = new ArrayList<>();
+        for (LedgerEventConsumer consumer : consumers) {
+            try {
+                consumer.consume(events);
+            } catch (RuntimeException e) {
+                log.warn("outbox 소비자 실패 - 소비자: {}, 이벤트 {}~{}: {}", consumer.name(),
+                        events.get(0).getEventId(), events.get(events.size() - 1).getEventId(), e.getMessage());
+                errors.add(consumer.name() + ": " + e.getMessage());
+            }
+        }
+
+        if (errors.isEmpty()) {
+            return null;
+        }
+        String error = String.join("; ", errors);
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    // 시도 횟수별 지수 백오프로 재시도 예약 → {재시도 예약 수, 포기(FAILED) 수} (임대를 잃은 행은 제외)
+    private long[] reschedule(List<LedgerEvent> events, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<LedgerEvent, LocalDateTime> retries = new LinkedHashMap<>();
+        List<LedgerEvent> exhausted = new ArrayList<>();
+
+        for (LedgerEvent event : events) {
+            if (event.getAttempts() >= maxAttempts) {
+                exhausted.add(event);
+                continue;
+            }
+            retries.put(event, now.plus(backoff(event.getAttempts())));
+        }
+
+        int retried = retries.isEmpty() ? 0 : ledgerOutboxJdbcRepository.scheduleRetry(retries, error);
+        int failed = 0;
+        if (!exhausted.isEmpty()) {
+            failed = ledgerOutboxJdbcRepository.markFailed(exhausted, error);
+            log.error("outbox 이벤트 전달 포기 - {}건 (최대 {}회 시도): {}", failed, maxAttempts, error);
+        }
+        return new long[]{retried, failed};
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : delay;
+    }
+
+    // 전달 완료 후 보관 기간이 지난 행 삭제
+    @Scheduled(cron = "${everybank.outbox.purge-cron:0 30 3 * * *}")
+    public void purgePublished() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        long deleted = 0;
+        int chunk;
+        do {
+            chunk = ledgerOutboxJdbcRepository.purgePublished(before, PURGE_CHUNK_SIZE);
+            deleted += chunk;
+        } while (chunk == PURGE_CHUNK_SIZE);
+        log.info("outbox 정리 완료 - 기준: {} 이전 전달 완료, 삭제: {}건", before, deleted);
+    }
+}
@@ -0,0 +1,16 @@
+package com.backend.domain.transaction.batch;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 거래내역 outbox 릴레이 실행 결과
+@Getter
+@Builder
+public class LedgerOutboxRelayResult {
+    private int batches;
+    private long claimed;
+    private long published;
+    private long retried;             // 소비자 실패로 재시도 예약된 이벤트 수
+    private long failed;              // 최대 시도 횟수를 넘어 FAILED 로 남은 이벤트 수
+    private long elapsedMs;
+}
@@ -0,0 +1,243 @@
+package com.backend.domain.transaction.batch;
+
+import com.backend.domain.transaction.domain.ReconciliationRun;
+import com.backend.domain.transaction.repository.ReconciliationJdbcRepository;
+import com.backend.domain.transaction.repository.ReconciliationRunRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// 계좌 잔액 ↔ 원장 분개 대사
+// - 계좌마다 분개를 시간순으로 다시 더해 account.current_balance 와 비교하고, 거래 후 잔액이 이어지는지 확인
+// - 전체 대사: 계좌 ID 범위를 fork-join 으로 slice-size 이하가 될 때까지 나눠 병렬 처리
+// - 증분 대사: 마지막 완료 실행 이후(overlap 만큼 앞당김) 분개가 생긴 계좌만 keyset 페이지 단위로 처리
+// - 조각마다 계좌 + 분개를 커서로 스트리밍하므로 목록을 메모리에 올리지 않음
+// - 전용 ForkJoinPool(parallelism) + 동시 커넥션 수 제한으로 API 커넥션 풀을 잠식하지 않음
+@Slf4j
+@Component
+public class LedgerReconciliationJob {
+
+    private final ReconciliationJdbcRepository reconciliationJdbcRepository;
+    private final ReconciliationRunRepository reconciliationRunRepository;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ForkJoinPool pool;
+    private final Semaphore connectionPermits;
+    private final int sliceSize;
+    private final int fetchSize;
+    private final Duration overlap;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public LedgerReconciliationJob(ReconciliationJdbcRepository reconciliationJdbcRepository,
+                                   ReconciliationRunRepository reconciliationRunRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${everybank.reconciliation.parallelism:2}") int parallelism,
+                                   @Value("${everybank.reconciliation.slice-size:5000}") int sliceSize,
+                                   @Value("${everybank.reconciliation.fetch-size:1000}") int fetchSize,
+                                   @Value("${everybank.reconciliation.overlap-minutes:5}") long overlapMinutes) {
+        this.reconciliationJdbcRepository = reconciliationJdbcRepository;
+        this.reconciliationRunRepository = reconciliationRunRepository;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.pool = new ForkJoinPool(parallelism, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("reconcile-worker-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+        this.connectionPermits = new Semaphore(parallelism);
+        this.sliceSize = sliceSize;
+        this.fetchSize = fetchSize;
+        this.overlap = Duration.ofMinutes(overlapMinutes);
+    }
+
+    @Scheduled(cron = "${everybank.reconciliation.cron:0 0 4 * * *}")
+    public void runScheduled() {
+        run(true);
+    }
+
+    // incremental 이어도 완료된 이전 실행이 없으면 전체 대사
+    public LedgerReconciliationResult run(boolean incremental) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("잔액 대사가 이미 실행 중입니다.");
+        }
+
+        try {
+            return execute(incremental);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private LedgerReconciliationResult execute(boolean incremental) {
+        long startTime = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. 실행 이력 생성 (증분이면 마지막 완료 실행 기준 시각 결정)
+        LocalDateTime since = incremental
+                ? reconciliationRunRepository.findTopByStatusOrderByStartedAtDesc(ReconciliationRun.COMPLETED)
+                        .map(previous -> previous.getStartedAt().minus(overlap))
+                        .orElse(null)
+                : null;
+        ReconciliationRun run = reconciliationRunRepository.save(ReconciliationRun.builder()
+                .mode(since != null ? ReconciliationRun.INCREMENTAL : ReconciliationRun.FULL)
+                .since(since)
+                .status(ReconciliationRun.RUNNING)
+                .startedAt(now)
+                .build());
+        log.info("잔액 대사 시작 - 실행ID: {}, 방식: {}, 기준 시각: {}", run.getId(), run.getMode(), since);
+
+        // 2. 조각별 병렬 대사
+        RunContext context = new RunContext(run.getId(), now);
+        if (since != null) {
+            replayTouched(context, since);
+        } else {
+            replayAll(context);
+        }
+
+        // 3. 실행 이력 마감 (실패한 조각이 있으면 다음 증분 대사가 이 실행을 기준으로 삼지 않음)
+        run.setAccountsChecked(context.checked.get());
+        run.setDrifted(context.drifted.get());
+        run.setStatus(context.failed.get() > 0 ? ReconciliationRun.FAILED : ReconciliationRun.COMPLETED);
+        run.setFinishedAt(LocalDateTime.now());
+        reconciliationRunRepository.save(run);
+
+        long elapsedMs = (System.nanoTime() - startTime) / 1_000_000;
+        LedgerReconciliationResult result = LedgerReconciliationResult.builder()
+                .runId(run.getId())
+                .mode(run.getMode())
+                .since(since)
+                .slices(context.slices.get())
+                .accountsChecked(context.checked.get())
+                .drifted(context.drifted.get())
+                .failedSlices(context.failed.get())
+                .elapsedMs(elapsedMs)
+                .accountsPerSecond(throughput(context.checked.get(), elapsedMs))
+                .build();
+
+        log.info("잔액 대사 완료 - 실행ID: {}, 방식: {}, 조각: {}, 계좌: {}, 불일치: {}, 실패 조각: {}, {}ms ({}건/s)",
+                run.getId(), run.getMode(), result.getSlices(), result.getAccountsChecked(), result.getDrifted(),
+                result.getFailedSlices(), elapsedMs, String.format("%.1f", result.getAccountsPerSecond()));
+        return result;
+    }
+
+    private void replayAll(RunContext context) {
+        int[] range = reconciliationJdbcRepository.findAccountIdRange();
+        if (range == null) {
+            return;
+        }
+        pool.invoke(new RangeTask(context, range[0], range[1] + 1));
+    }
+
+    private void replayTouched(RunContext context, LocalDateTime since) {
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        int lastAccountId = 0;
+
+        while (true) {
+            List<Integer> accountIds = reconciliationJdbcRepository.findTouchedAccountIds(since, lastAccountId, sliceSize);
+            if (accountIds.isEmpty()) {
+                break;
+            }
+
+            lastAccountId = accountIds.get(accountIds.size() - 1);
+            String slice = "계좌 " + accountIds.get(0) + "~" + lastAccountId + " 중 " + accountIds.size() + "건";
+            tasks.add(pool.submit(() -> replaySlice(context, slice,
+                    handler -> reconciliationJdbcRepository.streamAccounts(accountIds, fetchSize, handler))));
+
+            if (accountIds.size() < sliceSize) {
+                break;
+            }
+        }
+
+        tasks.forEach(ForkJoinTask::join);
+    }
+
+    // 조각 하나 대사 (읽기 전용 트랜잭션 하나 + 커넥션 하나)
+    private void replaySlice(RunContext context, String slice, Consumer<RowCallbackHandler> reader) {
+        context.slices.incrementAndGet();
+        connectionPermits.acquireUninterruptibly();
+        try {
+            LedgerReplay replay = new LedgerReplay(context.runId, context.now);
+            readOnlyTransactionTemplate.executeWithoutResult(status -> reader.accept(replay));
+            replay.finish();
+
+            reconciliationJdbcRepository.insertDrifts(replay.getDrifts());
+            context.checked.addAndGet(replay.getAccounts());
+            context.drifted.addAndGet(replay.getDrifts().size());
+            if (!replay.getDrifts().isEmpty()) {
+                log.warn("잔액 대사 불일치 - {}: {}건", slice, replay.getDrifts().size());
+            }
+        } catch (RuntimeException e) {
+            context.failed.incrementAndGet();
+            log.error("잔액 대사 조각 실패 - {}: {}", slice, e.getMessage(), e);
+        } finally {
+            connectionPermits.release();
+        }
+    }
+
+    private double throughput(long count, long elapsedMs) {
+        return elapsedMs > 0 ? count * 1000.0 / elapsedMs : count;
+    }
+
+    // 실행 하나의 공유 상태 (조각들이 동시에 갱신)
+    private static class RunContext {
+        private final Long runId;
+        private final LocalDateTime now;
+        private final AtomicInteger slices = new AtomicInteger();
+        private final AtomicLong checked = new AtomicLong();
+        private final AtomicLong drifted = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+
+        private RunContext(Long runId, LocalDateTime now) {
+            this.runId = runId;
+            this.now = now;
+        }
+    }
+
+    // 계좌 ID 범위 [fromId, toId) 를 slice-size 이하가 될 때까지 반으로 나눔
+    private class RangeTask extends RecursiveAction {
+        private final RunContext context;
+        private final int fromId;
+        private final int toId;
+
+        private RangeTask(RunContext context, int fromId, int toId) {
+            this.context = context;
+            this.fromId = fromId;
+            this.toId = toId;
+        }
+
+        @Override
+        protected void compute() {
+            if (toId - fromId <= sliceSize) {
+                replaySlice(context, "계좌 " + fromId + "~" + (toId - 1),
+                        handler -> reconciliationJdbcRepository.streamRange(fromId, toId, fetchSize, handler));
+                return;
+            }
+
+            int mid = fromId + (toId - fromId) / 2;
+            invokeAll(new RangeTask(context, fromId, mid), new RangeTask(context, mid, toId));
+        }
+    }
+}
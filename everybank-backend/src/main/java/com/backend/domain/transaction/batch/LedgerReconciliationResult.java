@@ -0,0 +1,21 @@
+package com.backend.domain.transaction.batch;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 잔액-원장 대사 실행 결과 (불일치 계좌 상세는 reconciliation_drift 에 runId 로 저장)
+@Getter
+@Builder
+public class LedgerReconciliationResult {
+    private Long runId;
+    private String mode;
+    private LocalDateTime since;
+    private int slices;
+    private long accountsChecked;
+    private long drifted;
+    private long failedSlices;        // 실패한 조각 수 (있으면 실행 상태 FAILED → 다음 증분 대사 기준 시각이 갱신되지 않음)
+    private long elapsedMs;
+    private double accountsPerSecond;
+}
@@ -0,0 +1,97 @@
+package com.backend.domain.transaction.batch;
+
+import com.backend.domain.transaction.domain.ReconciliationDrift;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// (계좌 ID, 시간) 순 행을 받아 계좌가 바뀔 때마다 이전 계좌를 판정 (잔액 대사 조각 하나 분량)
+// - 분개 금액 합계가 계좌 잔액과 다르거나, 거래 후 잔액이 직전 분개에서 이어지지 않으면 불일치로 기록
+class LedgerReplay implements RowCallbackHandler {
+
+    private final Long runId;
+    private final LocalDateTime detectedAt;
+    private final List<ReconciliationDrift> drifts = new ArrayList<>();
+    private long accounts;
+
+    private Integer accountId;
+    private long accountBalance;
+    private long ledgerBalance;
+    private Long lastBalanceAfter;
+    private int postingCount;
+    private int chainBreaks;
+
+    LedgerReplay(Long runId, LocalDateTime detectedAt) {
+        this.runId = runId;
+        this.detectedAt = detectedAt;
+    }
+
+    @Override
+    public void processRow(ResultSet rs) throws SQLException {
+        // 분개가 없는 계좌는 LEFT JOIN 으로 null 한 행
+        Object amount = rs.getObject("amount");
+        accept(rs.getInt("id"), rs.getLong("current_balance"),
+                amount != null ? ((Number) amount).longValue() : null,
+                amount != null ? rs.getLong("balance_after") : null);
+    }
+
+    // 행 하나 반영 (amount 가 null 이면 분개 없는 계좌)
+    void accept(int id, long currentBalance, Long amount, Long balanceAfter) {
+        if (accountId == null || id != accountId) {
+            finish();
+            accountId = id;
+            accountBalance = currentBalance;
+            ledgerBalance = 0;
+            lastBalanceAfter = null;
+            postingCount = 0;
+            chainBreaks = 0;
+        }
+
+        if (amount == null) {
+            return;
+        }
+
+        long expected = (lastBalanceAfter != null ? lastBalanceAfter : 0L) + amount;
+        if (expected != balanceAfter) {
+            chainBreaks++;
+        }
+
+        ledgerBalance += amount;
+        lastBalanceAfter = balanceAfter;
+        postingCount++;
+    }
+
+    // 마지막으로 읽은 계좌 판정 (다음 계좌로 넘어갈 때와 스트림 끝에서 호출)
+    void finish() {
+        if (accountId == null) {
+            return;
+        }
+        accounts++;
+
+        if (ledgerBalance != accountBalance || chainBreaks > 0) {
+            drifts.add(ReconciliationDrift.builder()
+                    .runId(runId)
+                    .accountId(accountId)
+                    .accountBalance(accountBalance)
+                    .ledgerBalance(ledgerBalance)
+                    .lastBalanceAfter(lastBalanceAfter)
+                    .postingCount(postingCount)
+                    .chainBreaks(chainBreaks)
+                    .detectedAt(detectedAt)
+                    .build());
+        }
+        accountId = null;
+    }
+
+    List<ReconciliationDrift> getDrifts() {
+        return drifts;
+    }
+
+    long getAccounts() {
+        return accounts;
+    }
+}
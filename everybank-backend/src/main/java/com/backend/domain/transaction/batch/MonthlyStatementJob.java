@@ -0,0 +1,135 @@
+package com.backend.domain.transaction.batch;
+
+import com.backend.domain.transaction.repository.AccountStatementJdbcRepository;
+import com.backend.global.batch.BatchExecutorConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 월 명세서 마감 배치
+// - 그 달에 원장 분개가 있는 계좌만 keyset 청크로 읽어 워커 풀에서 병렬 처리
+// - 청크마다 INSERT ... SELECT 한 문장으로 계좌별 기초/기말 잔액, 유형별 입출금 합계, 건수를 저장
+// - 이미 마감된 계좌는 다시 읽히지 않으므로 중단 후 같은 월로 재실행하면 남은 계좌만 처리
+@Slf4j
+@Component
+public class MonthlyStatementJob {
+
+    private final AccountStatementJdbcRepository accountStatementJdbcRepository;
+    private final ThreadPoolTaskExecutor batchWorkerExecutor;
+    private final int chunkSize;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public MonthlyStatementJob(AccountStatementJdbcRepository accountStatementJdbcRepository,
+                               @Qualifier(BatchExecutorConfig.BATCH_WORKER_EXECUTOR) ThreadPoolTaskExecutor batchWorkerExecutor,
+                               @Value("${everybank.monthly-statement.chunk-size:1000}") int chunkSize) {
+        this.accountStatementJdbcRepository = accountStatementJdbcRepository;
+        this.batchWorkerExecutor = batchWorkerExecutor;
+        this.chunkSize = chunkSize;
+    }
+
+    // 매월 1일 지난 달 마감
+    @Scheduled(cron = "${everybank.monthly-statement.cron:0 20 0 1 * *}")
+    public void runScheduled() {
+        run(YearMonth.now().minusMonths(1));
+    }
+
+    public MonthlyStatementResult run(YearMonth statementMonth) {
+        // 진행 중인 달을 마감하면 이후 거래가 명세서에 반영되지 않음
+        if (!statementMonth.isBefore(YearMonth.now())) {
+            throw new IllegalArgumentException("지난 달까지만 마감할 수 있습니다: " + statementMonth);
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("월 명세서 마감 배치가 이미 실행 중입니다.");
+        }
+
+        try {
+            return execute(statementMonth);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private MonthlyStatementResult execute(YearMonth statementMonth) {
+        log.info("월 명세서 마감 시작 - 대상 월: {}, 청크 크기: {}", statementMonth, chunkSize);
+        long startTime = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+
+        AtomicLong closed = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        long scanned = 0;
+        int chunks = 0;
+        int lastAccountId = 0;
+
+        while (true) {
+            List<Integer> accountIds = accountStatementJdbcRepository.findPendingAccountIds(
+                    statementMonth, lastAccountId, chunkSize);
+            if (accountIds.isEmpty()) {
+                break;
+            }
+
+            lastAccountId = accountIds.get(accountIds.size() - 1);
+            scanned += accountIds.size();
+            int chunkNo = ++chunks;
+
+            futures.add(CompletableFuture.runAsync(
+                    () -> processChunk(chunkNo, accountIds, statementMonth, now, closed, failed), batchWorkerExecutor));
+
+            if (accountIds.size() < chunkSize) {
+                break;
+            }
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        long elapsedMs = (System.nanoTime() - startTime) / 1_000_000;
+        MonthlyStatementResult result = MonthlyStatementResult.builder()
+                .statementMonth(statementMonth)
+                .chunks(chunks)
+                .scanned(scanned)
+                .closed(closed.get())
+                .failed(failed.get())
+                .elapsedMs(elapsedMs)
+                .accountsPerSecond(throughput(scanned, elapsedMs))
+                .build();
+
+        log.info("월 명세서 마감 완료 - 대상 월: {}, 청크: {}, 대상: {}, 마감: {}, 실패: {}, {}ms ({}건/s)",
+                statementMonth, chunks, scanned, result.getClosed(), result.getFailed(),
+                elapsedMs, String.format("%.1f", result.getAccountsPerSecond()));
+        return result;
+    }
+
+    private void processChunk(int chunkNo, List<Integer> accountIds, YearMonth statementMonth, LocalDateTime now,
+                              AtomicLong closed, AtomicLong failed) {
+        long chunkStart = System.nanoTime();
+        try {
+            int inserted = accountStatementJdbcRepository.closeMonth(accountIds, statementMonth, now);
+            closed.addAndGet(inserted);
+
+            long chunkMs = (System.nanoTime() - chunkStart) / 1_000_000;
+            log.debug("월 명세서 청크 #{} - 계좌 {}~{}, 마감: {}, {}ms", chunkNo,
+                    accountIds.get(0), accountIds.get(accountIds.size() - 1), inserted, chunkMs);
+        } catch (RuntimeException e) {
+            // 한 문장이라 청크 전체가 롤백됨 - 명세서가 없는 계좌로 남아 재실행 시 다시 처리
+            failed.addAndGet(accountIds.size());
+            log.error("월 명세서 청크 #{} 실패 - 계좌 {}~{}: {}", chunkNo,
+                    accountIds.get(0), accountIds.get(accountIds.size() - 1), e.getMessage(), e);
+        }
+    }
+
+    private double throughput(long count, long elapsedMs) {
+        return elapsedMs > 0 ? count * 1000.0 / elapsedMs : count;
+    }
+}
@@ -0,0 +1,19 @@
+package com.backend.domain.transaction.batch;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.YearMonth;
+
+// 월 명세서 마감 배치 실행 결과
+@Getter
+@Builder
+public class MonthlyStatementResult {
+    private YearMonth statementMonth;
+    private int chunks;
+    private long scanned;
+    private long closed;
+    private long failed;              // 실패한 청크의 계좌 수 (다시 실행하면 남은 계좌만 처리)
+    private long elapsedMs;
+    private double accountsPerSecond;
+}
@@ -0,0 +1,99 @@
+package com.backend.domain.transaction.batch;
+
+import com.backend.domain.transaction.repository.TransactionPartitionJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+// transaction 테이블 월 파티션 관리
+// - 기동 시: 엔티티로 생성된 일반 테이블을 created_at 월 범위 파티션 테이블로 교체 (다른 초기화 러너보다 먼저 실행)
+// - 매일: 이번 달 ~ months-ahead 개월 뒤까지 파티션이 없으면 생성 (DEFAULT 파티션이 없으므로 미리 만들어 둠)
+// - 보관: 지난 달 이전 파티션만 CONCURRENTLY 로 분리 → 분리된 transaction_yyyy_mm 테이블은 덤프 후 삭제
+@Slf4j
+@Component
+@Order(0)
+public class TransactionPartitionMaintainer implements CommandLineRunner {
+
+    private final TransactionPartitionJdbcRepository transactionPartitionJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsBack;
+    private final int monthsAhead;
+
+    public TransactionPartitionMaintainer(TransactionPartitionJdbcRepository transactionPartitionJdbcRepository,
+                                          TransactionTemplate transactionTemplate,
+                                          @Value("${everybank.transaction-partition.months-back:24}") int monthsBack,
+                                          @Value("${everybank.transaction-partition.months-ahead:3}") int monthsAhead) {
+        this.transactionPartitionJdbcRepository = transactionPartitionJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.monthsBack = monthsBack;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (transactionPartitionJdbcRepository.isPartitioned()) {
+            ensurePartitions();
+            return;
+        }
+
+        YearMonth current = YearMonth.now();
+        List<YearMonth> dataMonths = transactionTemplate.execute(status ->
+                transactionPartitionJdbcRepository.convertToPartitioned(
+                        current.minusMonths(monthsBack), current.plusMonths(monthsAhead)));
+        log.info("거래내역 파티션 테이블 전환 완료 - 기존 데이터 월: {}, 생성 범위: {} ~ {}",
+                dataMonths, current.minusMonths(monthsBack), current.plusMonths(monthsAhead));
+    }
+
+    @Scheduled(cron = "${everybank.transaction-partition.cron:0 0 0 * * *}")
+    public void runScheduled() {
+        ensurePartitions();
+    }
+
+    // 이번 달 ~ months-ahead 개월 뒤 파티션 생성 (새로 만든 파티션 이름 반환)
+    public List<String> ensurePartitions() {
+        YearMonth current = YearMonth.now();
+        List<String> created = new ArrayList<>();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            if (transactionPartitionJdbcRepository.isDetached(month)) {
+                log.warn("보관 중인 파티션 테이블이 남아 있어 파티션을 만들지 않음 - {}",
+                        transactionPartitionJdbcRepository.partitionName(month));
+                continue;
+            }
+            if (transactionPartitionJdbcRepository.createPartition(month)) {
+                created.add(transactionPartitionJdbcRepository.partitionName(month));
+            }
+        }
+
+        if (!created.isEmpty()) {
+            log.info("거래내역 파티션 생성 - {}", created);
+        }
+        return created;
+    }
+
+    // 보관용 파티션 분리 (이번 달/지난 달은 아직 조회·정산이 많으므로 거부)
+    public String detach(YearMonth month) {
+        if (!month.isBefore(YearMonth.now().minusMonths(1))) {
+            throw new IllegalArgumentException("지난 달 이전 파티션만 분리할 수 있습니다: " + month);
+        }
+        if (!transactionPartitionJdbcRepository.isAttached(month)) {
+            throw new NoSuchElementException("분리할 거래내역 파티션이 없습니다: " + month);
+        }
+
+        String partition = transactionPartitionJdbcRepository.partitionName(month);
+        long startTime = System.nanoTime();
+        transactionPartitionJdbcRepository.detachPartition(month);
+        log.info("거래내역 파티션 분리 완료 - {} ({}ms), 보관 후 삭제 가능",
+                partition, (System.nanoTime() - startTime) / 1_000_000);
+        return partition;
+    }
+}
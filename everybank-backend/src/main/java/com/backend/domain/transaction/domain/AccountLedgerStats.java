@@ -0,0 +1,34 @@
+package com.backend.domain.transaction.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 계좌별 거래 건수 (원장 분개를 기록할 때 같은 배치에서 증가)
+// - 거래내역 slice 모드가 COUNT(*) 대신 PK 한 번 조회로 전체 건수를 응답
+@Data
+@Entity
+@Table(name = "account_ledger_stats")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountLedgerStats {
+    @Id
+    @Column(name = "account_id")
+    private Integer accountId;
+
+    // 전체 거래 수 (입금 + 출금, 같은 계좌 간 이체는 한 건)
+    @Column(name = "transaction_count", nullable = false)
+    private long transactionCount;
+
+    // 입금 분개 수 (상품계좌 거래내역은 입금 거래만 보여줌)
+    @Column(name = "inflow_count", nullable = false)
+    private long inflowCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
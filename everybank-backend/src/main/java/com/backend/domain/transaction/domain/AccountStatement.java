@@ -0,0 +1,77 @@
+package com.backend.domain.transaction.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 계좌별 월 명세서 (월 마감 배치가 원장 분개를 집계해 한 행으로 저장)
+// - PK (account_id, statement_month) 한 번 조회로 명세서를 읽음
+// - 그 달에 거래가 있었던 계좌만 행이 생김
+@Data
+@Entity
+@Table(name = "account_statement")
+@IdClass(AccountStatement.Key.class)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountStatement {
+    @Id
+    @Column(name = "account_id")
+    private Integer accountId;
+
+    // 명세서 월 (1일)
+    @Id
+    @Column(name = "statement_month")
+    private LocalDate statementMonth;
+
+    @Column(name = "opening_balance", nullable = false)
+    private Long openingBalance;
+
+    @Column(name = "closing_balance", nullable = false)
+    private Long closingBalance;
+
+    @Column(name = "total_inflow", nullable = false)
+    private Long totalInflow;
+
+    @Column(name = "total_outflow", nullable = false)
+    private Long totalOutflow;
+
+    // 거래 유형별 입금/출금 합계
+    @Column(name = "deposit_inflow", nullable = false)
+    private Long depositInflow;
+
+    @Column(name = "withdrawal_outflow", nullable = false)
+    private Long withdrawalOutflow;
+
+    @Column(name = "transfer_inflow", nullable = false)
+    private Long transferInflow;
+
+    @Column(name = "transfer_outflow", nullable = false)
+    private Long transferOutflow;
+
+    @Column(name = "payment_inflow", nullable = false)
+    private Long paymentInflow;
+
+    @Column(name = "payment_outflow", nullable = false)
+    private Long paymentOutflow;
+
+    @Column(name = "interest_inflow", nullable = false)
+    private Long interestInflow;
+
+    @Column(name = "transaction_count", nullable = false)
+    private Integer transactionCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Integer accountId;
+        private LocalDate statementMonth;
+    }
+}
@@ -0,0 +1,67 @@
+package com.backend.domain.transaction.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 거래내역 outbox (거래 하나당 한 행, 거래내역과 같은 트랜잭션에서 기록)
+// - 커밋된 거래만 남으므로 릴레이가 읽은 이벤트는 항상 실제로 일어난 거래
+// - 릴레이는 PENDING 이고 next_attempt_at 이 지난 행을 SKIP LOCKED 로 가져가며, 가져갈 때 next_attempt_at 을 임대 만료 시각으로 미룸
+//   → 처리 중 노드가 죽으면 임대가 끝난 뒤 다른 노드가 다시 가져감 (at-least-once)
+@Data
+@Entity
+@Table(name = "ledger_outbox", indexes = {
+        @Index(name = "idx_ledger_outbox_status_next_attempt", columnList = "status, next_attempt_at, event_id")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LedgerOutboxEvent {
+    // 거래 ID 와 같음 (소비자 쪽 중복 처리 판단 키)
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transaction_type", nullable = false)
+    private TransactionType transactionType;
+
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    @Column(name = "from_account_id")
+    private Integer fromAccountId;
+
+    @Column(name = "to_account_id")
+    private Integer toAccountId;
+
+    // 거래 후 출금/입금 계좌 잔액 (외부 쪽은 null)
+    @Column(name = "from_balance")
+    private Long fromBalance;
+
+    @Column(name = "to_balance")
+    private Long toBalance;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private LedgerOutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+}
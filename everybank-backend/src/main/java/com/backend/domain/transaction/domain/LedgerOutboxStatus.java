@@ -0,0 +1,7 @@
+package com.backend.domain.transaction.domain;
+
+public enum LedgerOutboxStatus {
+    PENDING,    // 전달 대기 (next_attempt_at 이후 릴레이가 가져감)
+    PUBLISHED,  // 모든 소비자 처리 완료
+    FAILED      // 최대 시도 횟수 초과 (수동 확인 후 PENDING 으로 되돌려 재전달)
+}
@@ -0,0 +1,65 @@
+package com.backend.domain.transaction.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 계좌별 원장 분개 (거래 하나당 영향받은 계좌마다 한 행)
+// - 출금 계좌는 음수, 입금 계좌는 양수 금액 + 그 계좌의 거래 후 잔액
+// - 계좌별 거래내역은 (account_id, created_at DESC) 인덱스 범위 하나로 조회
+@Data
+@Entity
+@Table(name = "ledger_posting", indexes = {
+        @Index(name = "idx_ledger_posting_account_created", columnList = "account_id, created_at DESC, transaction_id DESC"),
+        @Index(name = "idx_ledger_posting_transaction", columnList = "transaction_id")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LedgerPosting {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "transaction_id", nullable = false)
+    private Long transactionId;
+
+    @Column(name = "account_id", nullable = false)
+    private Integer accountId;
+
+    // 상대 계좌 (외부 입출금이면 null)
+    @Column(name = "counterparty_account_id")
+    private Integer counterpartyAccountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transaction_type", nullable = false)
+    private TransactionType transactionType;
+
+    // 부호 있는 금액 (출금 -, 입금 +)
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    @Column(name = "balance_after", nullable = false)
+    private Long balanceAfter;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 거래내역 화면용 변환 (잔액은 이 계좌 기준)
+    public Transaction toTransaction() {
+        boolean outgoing = amount < 0;
+        return Transaction.builder()
+                .transactionId(transactionId)
+                .transactionType(transactionType)
+                .amount(Math.abs(amount))
+                .fromAccountId(outgoing ? accountId : counterpartyAccountId)
+                .toAccountId(outgoing ? counterpartyAccountId : accountId)
+                .currentBalance(balanceAfter)
+                .createdAt(createdAt)
+                .build();
+    }
+}
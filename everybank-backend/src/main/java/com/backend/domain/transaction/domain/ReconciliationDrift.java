@@ -0,0 +1,52 @@
+package com.backend.domain.transaction.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 대사 불일치 계좌 (계좌 잔액 ≠ 분개 합계, 또는 분개의 거래 후 잔액이 이어지지 않음)
+@Data
+@Entity
+@Table(name = "reconciliation_drift", indexes = {
+        @Index(name = "idx_reconciliation_drift_run", columnList = "run_id, account_id")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReconciliationDrift {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "account_id", nullable = false)
+    private Integer accountId;
+
+    // account.current_balance
+    @Column(name = "account_balance", nullable = false)
+    private Long accountBalance;
+
+    // 분개 금액 합계
+    @Column(name = "ledger_balance", nullable = false)
+    private Long ledgerBalance;
+
+    // 마지막 분개의 거래 후 잔액 (분개가 없으면 null)
+    @Column(name = "last_balance_after")
+    private Long lastBalanceAfter;
+
+    @Column(name = "posting_count", nullable = false)
+    private int postingCount;
+
+    // 직전 거래 후 잔액 + 금액 ≠ 거래 후 잔액 인 분개 수
+    @Column(name = "chain_breaks", nullable = false)
+    private int chainBreaks;
+
+    @Column(name = "detected_at", nullable = false)
+    private LocalDateTime detectedAt;
+}
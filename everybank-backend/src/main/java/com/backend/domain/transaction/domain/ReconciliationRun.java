@@ -0,0 +1,51 @@
+package com.backend.domain.transaction.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 잔액-원장 대사 실행 이력 (증분 대사는 마지막 완료 실행의 시작 시각 이후 분개가 있는 계좌만 다시 확인)
+@Data
+@Entity
+@Table(name = "reconciliation_run")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReconciliationRun {
+    public static final String FULL = "FULL";
+    public static final String INCREMENTAL = "INCREMENTAL";
+
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "mode", length = 20, nullable = false)
+    private String mode;
+
+    // 증분 대사 기준 시각 (이 시각 이후 분개가 있는 계좌만, 전체 대사면 null)
+    @Column(name = "since")
+    private LocalDateTime since;
+
+    @Column(name = "accounts_checked", nullable = false)
+    private long accountsChecked;
+
+    @Column(name = "drifted", nullable = false)
+    private long drifted;
+
+    @Column(name = "status", length = 20, nullable = false)
+    private String status;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
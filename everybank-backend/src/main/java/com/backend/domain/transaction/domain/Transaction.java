@@ -1,5 +1,6 @@
 package com.backend.domain.transaction.domain;
 
+import com.backend.global.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -7,14 +8,18 @@ import java.time.LocalDateTime;
 
 @Data
 @Entity
-@Table(name = "transaction")
+@Table(name = "transaction", indexes = {
+        // 거래내역 keyset 조회 (계좌별 created_at, transaction_id 내림차순)
+        @Index(name = "idx_transaction_to_account_created", columnList = "to_account_id, created_at, transaction_id"),
+        @Index(name = "idx_transaction_from_account_created", columnList = "from_account_id, created_at, transaction_id")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Transaction {
+    // 시간순 ID (DB 호출 없이 발급, 생성 시각 순으로 증가 → PK 인덱스에 순차 추가)
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_seq")
-    @SequenceGenerator(name = "transaction_seq", sequenceName = "transaction_id_seq", allocationSize = 1)
+    @TimeOrderedId
     private Long transactionId;
 
     @Enumerated(EnumType.STRING)
@@ -36,4 +41,11 @@ public class Transaction {
 
     @Column(name = "current_balance", nullable = false)
     private Long currentBalance;
+
+    // 거래 후 출금/입금 계좌 잔액 (ledger_posting 기록용, transaction 테이블에는 저장하지 않음)
+    @Transient
+    private Long fromBalance;
+
+    @Transient
+    private Long toBalance;
 }
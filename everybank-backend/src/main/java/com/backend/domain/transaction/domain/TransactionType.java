@@ -4,5 +4,6 @@ public enum TransactionType {
     DEPOSIT,    // 입금
     WITHDRAWAL, // 출금
     TRANSFER,   // 이체
-    PAYMENT     // 납입
+    PAYMENT,    // 납입
+    INTEREST    // 이자 지급 (해지/만기 시 상품계좌 입금)
 }
@@ -0,0 +1,25 @@
+package com.backend.domain.transaction.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.YearMonth;
+
+@Data
+@Builder
+public class AccountStatementResponseDto {
+    private Integer accountId;
+    private YearMonth statementMonth;
+    private Long openingBalance;
+    private Long closingBalance;
+    private Long totalInflow;
+    private Long totalOutflow;
+    private Long depositInflow;
+    private Long withdrawalOutflow;
+    private Long transferInflow;
+    private Long transferOutflow;
+    private Long paymentInflow;
+    private Long paymentOutflow;
+    private Long interestInflow;
+    private Integer transactionCount;
+}
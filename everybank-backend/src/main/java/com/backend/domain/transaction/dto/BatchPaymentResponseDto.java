@@ -0,0 +1,19 @@
+package com.backend.domain.transaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchPaymentResponseDto {
+    private int count;
+    private Long totalAmount;
+    private Long checkingAccountBalance;
+    private List<TransactionResponseDto> transactions;
+}
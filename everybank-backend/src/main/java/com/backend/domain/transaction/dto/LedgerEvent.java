@@ -0,0 +1,22 @@
+package com.backend.domain.transaction.dto;
+
+import com.backend.domain.transaction.domain.TransactionType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// outbox 릴레이가 소비자에게 전달하는 거래 이벤트
+@Getter
+@Builder
+public class LedgerEvent {
+    private Long eventId;               // 거래 ID (중복 전달 판단 키)
+    private TransactionType transactionType;
+    private Long amount;
+    private Integer fromAccountId;
+    private Integer toAccountId;
+    private Long fromBalance;
+    private Long toBalance;
+    private LocalDateTime createdAt;
+    private int attempts;               // 이번 전달까지의 시도 횟수 (1 이면 첫 전달)
+}
@@ -0,0 +1,40 @@
+package com.backend.domain.transaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+// 거래내역 keyset 커서 ("createdAt,transactionId") - 이 거래보다 이전 거래부터 조회
+@Getter
+@AllArgsConstructor
+public class TransactionCursor {
+
+    // 첫 페이지 (모든 거래가 이 값보다 이전)
+    public static final TransactionCursor FIRST = new TransactionCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private final LocalDateTime createdAt;
+    private final Long transactionId;
+
+    public static TransactionCursor parse(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        int separator = cursor.lastIndexOf(',');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("잘못된 cursor 형식입니다: " + cursor);
+        }
+        try {
+            return new TransactionCursor(LocalDateTime.parse(cursor.substring(0, separator)),
+                    Long.parseLong(cursor.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 cursor 형식입니다: " + cursor);
+        }
+    }
+
+    public String encode() {
+        return createdAt + "," + transactionId;
+    }
+}
@@ -0,0 +1,24 @@
+package com.backend.domain.transaction.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 거래내역 내보내기 형식
+@Getter
+@RequiredArgsConstructor
+public enum TransactionExportFormat {
+    CSV("text/csv;charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson;charset=UTF-8", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    public static TransactionExportFormat parse(String value) {
+        for (TransactionExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value + " (csv, ndjson)");
+    }
+}
@@ -0,0 +1,9 @@
+package com.backend.domain.transaction.repository;
+
+import com.backend.domain.transaction.domain.AccountLedgerStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AccountLedgerStatsRepository extends JpaRepository<AccountLedgerStats, Integer> {
+}
@@ -0,0 +1,77 @@
+package com.backend.domain.transaction.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+// 월 마감 배치 전용 JDBC 저장소 (원장 분개 → 계좌별 월 명세서)
+@Repository
+@RequiredArgsConstructor
+public class AccountStatementJdbcRepository {
+
+    // 그 달에 분개가 있고 아직 명세서가 없는 계좌 (재실행 시 남은 계좌만 다시 읽힘)
+    // - account PK 를 keyset 으로 걷고 계좌마다 (account_id, created_at) 인덱스로 존재만 확인
+    //   → 페이지마다 그 달 분개 전체를 다시 훑어 DISTINCT 하지 않음
+    private static final String PENDING_SQL = "SELECT a.id FROM account a " +
+            "WHERE a.id > ? " +
+            "AND EXISTS (SELECT 1 FROM ledger_posting p " +
+            "WHERE p.account_id = a.id AND p.created_at >= ? AND p.created_at < ?) " +
+            "AND NOT EXISTS (SELECT 1 FROM account_statement s " +
+            "WHERE s.account_id = a.id AND s.statement_month = ?) " +
+            "ORDER BY a.id LIMIT ?";
+
+    // 계좌별 월 집계를 INSERT ... SELECT 한 문장으로 저장
+    // - 기초 잔액: 그 달 첫 분개의 (거래 후 잔액 - 금액), 기말 잔액: 마지막 분개의 거래 후 잔액
+    // - 금액은 부호가 있으므로 양수는 입금, 음수는 출금
+    private static final String CLOSE_SQL = "INSERT INTO account_statement " +
+            "(account_id, statement_month, opening_balance, closing_balance, total_inflow, total_outflow, " +
+            "deposit_inflow, withdrawal_outflow, transfer_inflow, transfer_outflow, payment_inflow, payment_outflow, interest_inflow, " +
+            "transaction_count, created_at) " +
+            "SELECT p.account_id, ?, " +
+            "(array_agg(p.balance_after - p.amount ORDER BY p.created_at, p.transaction_id))[1], " +
+            "(array_agg(p.balance_after ORDER BY p.created_at DESC, p.transaction_id DESC))[1], " +
+            "COALESCE(SUM(p.amount) FILTER (WHERE p.amount > 0), 0), " +
+            "COALESCE(-SUM(p.amount) FILTER (WHERE p.amount < 0), 0), " +
+            "COALESCE(SUM(p.amount) FILTER (WHERE p.amount > 0 AND p.transaction_type = 'DEPOSIT'), 0), " +
+            "COALESCE(-SUM(p.amount) FILTER (WHERE p.amount < 0 AND p.transaction_type = 'WITHDRAWAL'), 0), " +
+            "COALESCE(SUM(p.amount) FILTER (WHERE p.amount > 0 AND p.transaction_type = 'TRANSFER'), 0), " +
+            "COALESCE(-SUM(p.amount) FILTER (WHERE p.amount < 0 AND p.transaction_type = 'TRANSFER'), 0), " +
+            "COALESCE(SUM(p.amount) FILTER (WHERE p.amount > 0 AND p.transaction_type = 'PAYMENT'), 0), " +
+            "COALESCE(-SUM(p.amount) FILTER (WHERE p.amount < 0 AND p.transaction_type = 'PAYMENT'), 0), " +
+            "COALESCE(SUM(p.amount) FILTER (WHERE p.amount > 0 AND p.transaction_type = 'INTEREST'), 0), " +
+            "count(*), ? " +
+            "FROM ledger_posting p " +
+            "WHERE p.account_id = ANY(?) AND p.created_at >= ? AND p.created_at < ? " +
+            "GROUP BY p.account_id " +
+            "ON CONFLICT (account_id, statement_month) DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // keyset 페이지: account_id > afterId 에서 limit 건
+    public List<Integer> findPendingAccountIds(YearMonth month, int afterId, int limit) {
+        return jdbcTemplate.queryForList(PENDING_SQL, Integer.class,
+                afterId,
+                Timestamp.valueOf(month.atDay(1).atStartOfDay()),
+                Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay()),
+                Date.valueOf(month.atDay(1)), limit);
+    }
+
+    // 계좌 목록의 월 명세서 저장 (실제 저장된 건수 반환, 이미 마감된 계좌는 건너뜀)
+    public int closeMonth(List<Integer> accountIds, YearMonth month, LocalDateTime now) {
+        return jdbcTemplate.update(con -> {
+            var ps = con.prepareStatement(CLOSE_SQL);
+            ps.setDate(1, Date.valueOf(month.atDay(1)));
+            ps.setTimestamp(2, Timestamp.valueOf(now));
+            ps.setArray(3, con.createArrayOf("int4", accountIds.toArray(new Integer[0])));
+            ps.setTimestamp(4, Timestamp.valueOf(month.atDay(1).atStartOfDay()));
+            ps.setTimestamp(5, Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay()));
+            return ps;
+        });
+    }
+}
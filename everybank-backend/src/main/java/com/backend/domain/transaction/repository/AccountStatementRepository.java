@@ -0,0 +1,9 @@
+package com.backend.domain.transaction.repository;
+
+import com.backend.domain.transaction.domain.AccountStatement;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AccountStatementRepository extends JpaRepository<AccountStatement, AccountStatement.Key> {
+}
@@ -0,0 +1,121 @@
+package com.backend.domain.transaction.repository;
+
+import com.backend.domain.transaction.domain.TransactionType;
+import com.backend.domain.transaction.dto.LedgerEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+// 거래내역 outbox 릴레이 전용 JDBC 저장소
+@Repository
+@RequiredArgsConstructor
+public class LedgerOutboxJdbcRepository {
+
+    // 전달할 행 임대 - SKIP LOCKED 로 다른 노드가 잡은 행은 건너뛰고, next_attempt_at 을 임대 만료 시각으로 미룸
+    // 문장 하나라 잠금은 바로 풀리고, 임대 중인 행은 next_attempt_at 조건으로 다른 릴레이에 보이지 않음
+    private static final String CLAIM_SQL = "UPDATE ledger_outbox o " +
+            "SET next_attempt_at = ?, attempts = o.attempts + 1 " +
+            "FROM (SELECT event_id FROM ledger_outbox " +
+            "      WHERE status = 'PENDING' AND next_attempt_at <= ? " +
+            "      ORDER BY next_attempt_at, event_id LIMIT ? FOR UPDATE SKIP LOCKED) c " +
+            "WHERE o.event_id = c.event_id " +
+            "RETURNING o.event_id, o.transaction_type, o.amount, o.from_account_id, o.to_account_id, " +
+            "o.from_balance, o.to_balance, o.created_at, o.attempts";
+
+    // 결과 기록은 임대한 시점의 attempts 와 같을 때만 (lease 가 끝나 다른 노드가 다시 가져간 행은 그 노드가 기록)
+    private static final String MARK_PUBLISHED_SQL = "UPDATE ledger_outbox o " +
+            "SET status = 'PUBLISHED', published_at = ?, last_error = NULL " +
+            "FROM unnest(?, ?) AS c(event_id, attempts) " +
+            "WHERE o.event_id = c.event_id AND o.status = 'PENDING' AND o.attempts = c.attempts";
+
+    private static final String SCHEDULE_RETRY_SQL = "UPDATE ledger_outbox " +
+            "SET next_attempt_at = ?, last_error = ? " +
+            "WHERE event_id = ? AND status = 'PENDING' AND attempts = ?";
+
+    private static final int[] SCHEDULE_RETRY_TYPES = {Types.TIMESTAMP, Types.VARCHAR, Types.BIGINT, Types.INTEGER};
+
+    private static final String MARK_FAILED_SQL = "UPDATE ledger_outbox o " +
+            "SET status = 'FAILED', last_error = ? " +
+            "FROM unnest(?, ?) AS c(event_id, attempts) " +
+            "WHERE o.event_id = c.event_id AND o.status = 'PENDING' AND o.attempts = c.attempts";
+
+    private static final String PURGE_PUBLISHED_SQL = "DELETE FROM ledger_outbox WHERE event_id IN (" +
+            "SELECT event_id FROM ledger_outbox WHERE status = 'PUBLISHED' AND published_at < ? LIMIT ?)";
+
+    private static final RowMapper<LedgerEvent> EVENT_MAPPER = (rs, rowNum) -> LedgerEvent.builder()
+            .eventId(rs.getLong("event_id"))
+            .transactionType(TransactionType.valueOf(rs.getString("transaction_type")))
+            .amount(rs.getLong("amount"))
+            .fromAccountId((Integer) rs.getObject("from_account_id"))
+            .toAccountId((Integer) rs.getObject("to_account_id"))
+            .fromBalance((Long) rs.getObject("from_balance"))
+            .toBalance((Long) rs.getObject("to_balance"))
+            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+            .attempts(rs.getInt("attempts"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 전달 대기 행을 최대 limit 건 임대 (거래 ID 순)
+    public List<LedgerEvent> claim(LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        List<LedgerEvent> events = new ArrayList<>(jdbcTemplate.query(CLAIM_SQL, EVENT_MAPPER,
+                Timestamp.valueOf(leaseUntil), Timestamp.valueOf(now), limit));
+        events.sort(Comparator.comparing(LedgerEvent::getEventId));
+        return events;
+    }
+
+    // 전달 완료 기록 (임대가 유지된 행 수 반환)
+    public int markPublished(List<LedgerEvent> events, LocalDateTime now) {
+        return jdbcTemplate.update(con -> {
+            var ps = con.prepareStatement(MARK_PUBLISHED_SQL);
+            ps.setTimestamp(1, Timestamp.valueOf(now));
+            ps.setArray(2, con.createArrayOf("int8", eventIds(events)));
+            ps.setArray(3, con.createArrayOf("int4", attempts(events)));
+            return ps;
+        });
+    }
+
+    // 재시도 예약 (이벤트별 다음 시도 시각, PENDING 유지), 임대가 유지된 행 수 반환
+    public int scheduleRetry(Map<LedgerEvent, LocalDateTime> nextAttemptAts, String error) {
+        List<Object[]> rows = new ArrayList<>(nextAttemptAts.size());
+        nextAttemptAts.forEach((event, nextAttemptAt) ->
+                rows.add(new Object[]{Timestamp.valueOf(nextAttemptAt), error, event.getEventId(), event.getAttempts()}));
+        return Arrays.stream(jdbcTemplate.batchUpdate(SCHEDULE_RETRY_SQL, rows, SCHEDULE_RETRY_TYPES))
+                .map(count -> Math.max(count, 0))
+                .sum();
+    }
+
+    // 최대 시도 횟수 초과 - 더 이상 가져가지 않음 (임대가 유지된 행 수 반환)
+    public int markFailed(List<LedgerEvent> events, String error) {
+        return jdbcTemplate.update(con -> {
+            var ps = con.prepareStatement(MARK_FAILED_SQL);
+            ps.setString(1, error);
+            ps.setArray(2, con.createArrayOf("int8", eventIds(events)));
+            ps.setArray(3, con.createArrayOf("int4", attempts(events)));
+            return ps;
+        });
+    }
+
+    private Long[] eventIds(List<LedgerEvent> events) {
+        return events.stream().map(LedgerEvent::getEventId).toArray(Long[]::new);
+    }
+
+    private Integer[] attempts(List<LedgerEvent> events) {
+        return events.stream().map(LedgerEvent::getAttempts).toArray(Integer[]::new);
+    }
+
+    // 전달 완료 후 보관 기간이 지난 행 삭제 (최대 limit 건)
+    public int purgePublished(LocalDateTime before, int limit) {
+        return jdbcTemplate.update(PURGE_PUBLISHED_SQL, Timestamp.valueOf(before), limit);
+    }
+}
@@ -0,0 +1,26 @@
+package com.backend.domain.transaction.repository;
+
+import com.backend.domain.transaction.domain.LedgerPosting;
+import io.lettuce.core.dynamic.annotation.Param;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface LedgerPostingRepository extends JpaRepository<LedgerPosting, Long> {
+
+    // 계좌 거래내역 keyset 페이지 - (createdAt, transactionId) 가 커서보다 이전인 분개 limit 건
+    @Query(value = "SELECT * FROM ledger_posting p " +
+            "WHERE p.account_id = :accountId " +
+            "AND (p.created_at, p.transaction_id) < (:createdAt, :transactionId) " +
+            "ORDER BY p.created_at DESC, p.transaction_id DESC " +
+            "LIMIT :limit", nativeQuery = true)
+    List<LedgerPosting> findByAccountIdBefore(
+            @Param("accountId") Integer accountId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("transactionId") Long transactionId,
+            @Param("limit") int limit);
+}
@@ -0,0 +1,99 @@
+package com.backend.domain.transaction.repository;
+
+import com.backend.domain.transaction.domain.ReconciliationDrift;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 잔액-원장 대사 전용 JDBC 저장소
+// - 계좌와 분개를 (계좌 ID, 시간) 순으로 한 번에 읽어 스트리밍 (forward-only 커서 + fetch size)
+// - PostgreSQL 커서는 트랜잭션 안에서만 동작하므로 호출하는 쪽에서 읽기 전용 트랜잭션을 열어야 함
+@Repository
+@RequiredArgsConstructor
+public class ReconciliationJdbcRepository {
+
+    private static final String REPLAY_SELECT = "SELECT a.id, a.current_balance, p.amount, p.balance_after " +
+            "FROM account a LEFT JOIN ledger_posting p ON p.account_id = a.id ";
+
+    private static final String REPLAY_ORDER = "ORDER BY a.id, p.created_at, p.transaction_id";
+
+    private static final String INSERT_DRIFT_SQL = "INSERT INTO reconciliation_drift " +
+            "(run_id, account_id, account_balance, ledger_balance, last_balance_after, posting_count, chain_breaks, detected_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int[] INSERT_DRIFT_TYPES = {
+            Types.BIGINT, Types.INTEGER, Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.INTEGER, Types.INTEGER, Types.TIMESTAMP
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 계좌 ID 범위 [min, max] (계좌가 없으면 null)
+    public int[] findAccountIdRange() {
+        return jdbcTemplate.query("SELECT min(id), max(id) FROM account", rs -> {
+            rs.next();
+            Integer min = (Integer) rs.getObject(1);
+            return min == null ? null : new int[]{min, rs.getInt(2)};
+        });
+    }
+
+    // since 이후 분개가 있는 계좌 keyset 페이지 (account_id > afterId 에서 limit 건)
+    // - account PK 를 걷고 계좌마다 (account_id, created_at) 인덱스로 존재만 확인 → 페이지마다 분개를 다시 훑지 않음
+    public List<Integer> findTouchedAccountIds(LocalDateTime since, int afterId, int limit) {
+        return jdbcTemplate.queryForList("SELECT a.id FROM account a WHERE a.id > ? " +
+                        "AND EXISTS (SELECT 1 FROM ledger_posting p WHERE p.account_id = a.id AND p.created_at >= ?) " +
+                        "ORDER BY a.id LIMIT ?",
+                Integer.class, afterId, Timestamp.valueOf(since), limit);
+    }
+
+    // 계좌 ID 범위 [fromId, toId) 의 계좌 + 분개 스트리밍
+    public void streamRange(int fromId, int toId, int fetchSize, RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(REPLAY_SELECT + "WHERE a.id >= ? AND a.id < ? " + REPLAY_ORDER,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setInt(1, fromId);
+            ps.setInt(2, toId);
+            return ps;
+        }, handler);
+    }
+
+    // 지정 계좌들의 계좌 + 분개 스트리밍
+    public void streamAccounts(List<Integer> accountIds, int fetchSize, RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(REPLAY_SELECT + "WHERE a.id = ANY(?) " + REPLAY_ORDER,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setArray(1, con.createArrayOf("int4", accountIds.toArray(new Integer[0])));
+            return ps;
+        }, handler);
+    }
+
+    public void insertDrifts(List<ReconciliationDrift> drifts) {
+        if (drifts.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(drifts.size());
+        for (ReconciliationDrift drift : drifts) {
+            rows.add(new Object[]{
+                    drift.getRunId(),
+                    drift.getAccountId(),
+                    drift.getAccountBalance(),
+                    drift.getLedgerBalance(),
+                    drift.getLastBalanceAfter(),
+                    drift.getPostingCount(),
+                    drift.getChainBreaks(),
+                    Timestamp.valueOf(drift.getDetectedAt())
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_DRIFT_SQL, rows, INSERT_DRIFT_TYPES);
+    }
+}
@@ -0,0 +1,13 @@
+package com.backend.domain.transaction.repository;
+
+import com.backend.domain.transaction.domain.ReconciliationRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ReconciliationRunRepository extends JpaRepository<ReconciliationRun, Long> {
+
+    Optional<ReconciliationRun> findTopByStatusOrderByStartedAtDesc(String status);
+}
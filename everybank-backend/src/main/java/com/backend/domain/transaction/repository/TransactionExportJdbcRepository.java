@@ -0,0 +1,34 @@
+package com.backend.domain.transaction.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+
+// 거래내역 내보내기용 스트리밍 조회
+// - forward-only / read-only 커서 + fetch size 로 행을 나눠 받음 (PostgreSQL 은 auto-commit 이 꺼진 트랜잭션 안에서만 커서 사용)
+// - 엔티티를 만들지 않고 ResultSet 행을 콜백에 바로 넘김
+@Repository
+@RequiredArgsConstructor
+public class TransactionExportJdbcRepository {
+
+    // 계좌 원장 분개를 (account_id, created_at, transaction_id) 인덱스 범위 하나로 역방향 스캔 (정렬 없음)
+    // amount 는 출금이면 음수, balance_after 는 이 계좌의 거래 후 잔액
+    private static final String EXPORT_SQL = "SELECT transaction_id, created_at, transaction_type, amount, " +
+            "counterparty_account_id, balance_after FROM ledger_posting WHERE account_id = ? " +
+            "ORDER BY created_at, transaction_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 계좌 거래내역을 오래된 순으로 한 행씩 전달 (호출하는 쪽에서 트랜잭션을 열어야 fetch size 가 적용됨)
+    public void streamByAccountId(Integer accountId, int fetchSize, RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setInt(1, accountId);
+            return ps;
+        }, handler);
+    }
+}
@@ -0,0 +1,215 @@
+package com.backend.domain.transaction.repository;
+
+import com.backend.domain.transaction.domain.Transaction;
+import com.backend.global.id.TimeOrderedIdGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 거래내역 저널
+// - 한 DB 트랜잭션에서 발생한 거래내역을 모아두었다가 커밋 직전에 JDBC 배치 INSERT 한 번으로 기록
+// - 거래 ID는 시간순 ID 생성기에서 바로 발급 → nextval 왕복 없음
+// - 같은 배치에서 계좌별 원장 분개(ledger_posting)도 함께 기록 (출금 계좌 -, 입금 계좌 +)
+// - 계좌별 거래 건수(account_ledger_stats)도 같은 트랜잭션에서 증가
+// - 거래마다 outbox(ledger_outbox) 행도 같은 배치로 기록 → 부가 작업은 LedgerOutboxRelay 가 커밋 후 비동기로 처리
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TransactionJournal {
+
+    private static final String INSERT_SQL = "INSERT INTO transaction " +
+            "(transaction_id, transaction_type, amount, from_account_id, to_account_id, created_at, current_balance) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int[] INSERT_TYPES = {
+            Types.BIGINT, Types.VARCHAR, Types.BIGINT, Types.INTEGER, Types.INTEGER, Types.TIMESTAMP, Types.BIGINT
+    };
+
+    private static final String POSTING_INSERT_SQL = "INSERT INTO ledger_posting " +
+            "(transaction_id, account_id, counterparty_account_id, transaction_type, amount, balance_after, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int[] POSTING_INSERT_TYPES = {
+            Types.BIGINT, Types.INTEGER, Types.INTEGER, Types.VARCHAR, Types.BIGINT, Types.BIGINT, Types.TIMESTAMP
+    };
+
+    // 계좌 ID 순으로 증가 (행 잠금 순서 고정 → 교착 방지)
+    private static final String STATS_UPSERT_SQL = "INSERT INTO account_ledger_stats AS s " +
+            "(account_id, transaction_count, inflow_count, updated_at) " +
+            "SELECT d.id, d.transactions, d.inflows, ? FROM unnest(?, ?, ?) AS d(id, transactions, inflows) ORDER BY d.id " +
+            "ON CONFLICT (account_id) DO UPDATE SET " +
+            "transaction_count = s.transaction_count + EXCLUDED.transaction_count, " +
+            "inflow_count = s.inflow_count + EXCLUDED.inflow_count, " +
+            "updated_at = EXCLUDED.updated_at";
+
+    // 다음 시도 시각 = 거래 시각 (바로 전달 대상)
+    private static final String OUTBOX_INSERT_SQL = "INSERT INTO ledger_outbox " +
+            "(event_id, transaction_type, amount, from_account_id, to_account_id, from_balance, to_balance, created_at, " +
+            "status, attempts, next_attempt_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 'PENDING', 0, ?)";
+
+    private static final int[] OUTBOX_INSERT_TYPES = {
+            Types.BIGINT, Types.VARCHAR, Types.BIGINT, Types.INTEGER, Types.INTEGER, Types.BIGINT, Types.BIGINT,
+            Types.TIMESTAMP, Types.TIMESTAMP
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TimeOrderedIdGenerator timeOrderedIdGenerator;
+
+    @Value("${everybank.outbox.enabled:true}")
+    private boolean outboxEnabled;
+
+    // 거래내역 추가 (ID 즉시 할당, INSERT 는 커밋 직전에 모아서 실행)
+    public Transaction append(Transaction transaction) {
+        transaction.setTransactionId(timeOrderedIdGenerator.nextId());
+        if (transaction.getCreatedAt() == null) {
+            transaction.setCreatedAt(LocalDateTime.now());
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 트랜잭션 밖에서 호출된 경우 바로 기록
+            insert(List.of(transaction));
+            return transaction;
+        }
+
+        pendingTransactions().add(transaction);
+        return transaction;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Transaction> pendingTransactions() {
+        List<Transaction> pending = (List<Transaction>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+
+        List<Transaction> created = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                // 커밋 직전 한 번에 기록 - 실패하면 호출한 트랜잭션 전체가 롤백됨
+                insert(created);
+                created.clear();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TransactionJournal.this);
+            }
+        });
+        return created;
+    }
+
+    private void insert(List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(transactions.size());
+        List<Object[]> postings = new ArrayList<>(transactions.size() * 2);
+        List<Object[]> outbox = new ArrayList<>(transactions.size());
+        for (Transaction tx : transactions) {
+            rows.add(new Object[]{
+                    tx.getTransactionId(),
+                    tx.getTransactionType().name(),
+                    tx.getAmount(),
+                    tx.getFromAccountId(),
+                    tx.getToAccountId(),
+                    Timestamp.valueOf(tx.getCreatedAt()),
+                    tx.getCurrentBalance()
+            });
+
+            if (tx.getFromAccountId() != null) {
+                postings.add(posting(tx, tx.getFromAccountId(), tx.getToAccountId(), -tx.getAmount(), tx.getFromBalance()));
+            }
+            if (tx.getToAccountId() != null) {
+                postings.add(posting(tx, tx.getToAccountId(), tx.getFromAccountId(), tx.getAmount(), tx.getToBalance()));
+            }
+
+            if (outboxEnabled) {
+                Timestamp createdAt = Timestamp.valueOf(tx.getCreatedAt());
+                outbox.add(new Object[]{
+                        tx.getTransactionId(),
+                        tx.getTransactionType().name(),
+                        tx.getAmount(),
+                        tx.getFromAccountId(),
+                        tx.getToAccountId(),
+                        tx.getFromAccountId() != null ? tx.getFromBalance() : null,
+                        tx.getToAccountId() != null ? tx.getToBalance() : null,
+                        createdAt,
+                        createdAt
+                });
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, INSERT_TYPES);
+        jdbcTemplate.batchUpdate(POSTING_INSERT_SQL, postings, POSTING_INSERT_TYPES);
+        incrementStats(postings);
+        if (!outbox.isEmpty()) {
+            jdbcTemplate.batchUpdate(OUTBOX_INSERT_SQL, outbox, OUTBOX_INSERT_TYPES);
+        }
+        log.debug("거래내역 배치 기록 - {}건 (분개 {}건, outbox {}건)", transactions.size(), postings.size(), outbox.size());
+    }
+
+    // 계좌별 거래 수 / 입금 분개 수를 모아 UPSERT 한 번으로 증가
+    // - 같은 계좌 간 이체는 분개가 두 개지만 거래내역에는 한 건이므로 입금 쪽 분개는 거래 수에서 제외
+    private void incrementStats(List<Object[]> postings) {
+        Map<Integer, long[]> counts = new TreeMap<>();
+        for (Object[] posting : postings) {
+            long[] count = counts.computeIfAbsent((Integer) posting[1], id -> new long[2]);
+            boolean inflow = (Long) posting[4] > 0;
+            if (!(inflow && posting[1].equals(posting[2]))) {
+                count[0]++;
+            }
+            if (inflow) {
+                count[1]++;
+            }
+        }
+
+        Long[] transactionCounts = new Long[counts.size()];
+        Long[] inflowCounts = new Long[counts.size()];
+        int i = 0;
+        for (long[] count : counts.values()) {
+            transactionCounts[i] = count[0];
+            inflowCounts[i] = count[1];
+            i++;
+        }
+
+        jdbcTemplate.update(con -> {
+            var ps = con.prepareStatement(STATS_UPSERT_SQL);
+            ps.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now()));
+            ps.setArray(2, con.createArrayOf("int4", counts.keySet().toArray(new Integer[0])));
+            ps.setArray(3, con.createArrayOf("int8", transactionCounts));
+            ps.setArray(4, con.createArrayOf("int8", inflowCounts));
+            return ps;
+        });
+    }
+
+    private Object[] posting(Transaction tx, Integer accountId, Integer counterpartyAccountId, long amount, Long balanceAfter) {
+        if (balanceAfter == null) {
+            throw new IllegalStateException("거래 후 잔액이 없는 분개 - 거래ID: " + tx.getTransactionId() + ", 계좌ID: " + accountId);
+        }
+        return new Object[]{
+                tx.getTransactionId(),
+                accountId,
+                counterpartyAccountId,
+                tx.getTransactionType().name(),
+                amount,
+                balanceAfter,
+                Timestamp.valueOf(tx.getCreatedAt())
+        };
+    }
+}
@@ -0,0 +1,111 @@
+package com.backend.domain.transaction.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.util.List;
+
+// transaction 테이블 월 단위 범위 파티션 DDL
+// - 파티션 키는 created_at, 파티션 이름은 transaction_yyyy_mm
+// - DEFAULT 파티션은 두지 않음 (있으면 DETACH ... CONCURRENTLY 를 쓸 수 없음) → 미래 파티션을 미리 생성
+@Repository
+@RequiredArgsConstructor
+public class TransactionPartitionJdbcRepository {
+
+    private static final String PARENT_TABLE = "transaction";
+    private static final String LEGACY_TABLE = "transaction_unpartitioned";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 파티션 테이블 여부 (pg_class.relkind = 'p')
+    public boolean isPartitioned() {
+        String relkind = jdbcTemplate.queryForObject(
+                "SELECT c.relkind::text FROM pg_class c WHERE c.oid = to_regclass(?)", String.class, PARENT_TABLE);
+        return "p".equals(relkind);
+    }
+
+    // 일반 테이블을 같은 컬럼의 파티션 테이블로 교체 (호출하는 트랜잭션 안에서 실행)
+    // 1. 기존 테이블 이름 변경 → 2. 같은 구조의 파티션 부모 생성 → 3. 기존 행이 속한 달 + 지정 범위 파티션 생성
+    //    (보관용으로 분리된 transaction_yyyy_mm 테이블이 남아 있는 달은 건너뜀 - ddl-auto 로 지워지지 않는 보관 데이터)
+    // 4. 행 복사 후 기존 테이블 삭제 → 5. PK(transaction_id, created_at) 와 계좌별 인덱스를 부모에 생성 (파티션에 전파)
+    public List<YearMonth> convertToPartitioned(YearMonth from, YearMonth to) {
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " RENAME TO " + LEGACY_TABLE);
+        jdbcTemplate.execute("CREATE TABLE " + PARENT_TABLE + " (LIKE " + LEGACY_TABLE +
+                " INCLUDING DEFAULTS INCLUDING CONSTRAINTS) PARTITION BY RANGE (created_at)");
+
+        List<YearMonth> months = jdbcTemplate.queryForList(
+                "SELECT DISTINCT to_char(created_at, 'YYYY-MM') FROM " + LEGACY_TABLE, String.class)
+                .stream()
+                .map(YearMonth::parse)
+                .toList();
+        for (YearMonth month : months) {
+            if (isDetached(month)) {
+                // 이 달의 행은 들어갈 파티션이 없음 - 보관 테이블을 덮어쓸 수 없으므로 중단
+                throw new IllegalStateException("보관 중인 파티션 테이블과 같은 달의 거래내역이 있습니다: " + partitionName(month));
+            }
+            createPartition(month);
+        }
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            if (isDetached(month)) {
+                continue;
+            }
+            createPartition(month);
+        }
+
+        jdbcTemplate.execute("INSERT INTO " + PARENT_TABLE + " SELECT * FROM " + LEGACY_TABLE);
+        jdbcTemplate.execute("DROP TABLE " + LEGACY_TABLE);
+
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " ADD PRIMARY KEY (transaction_id, created_at)");
+        jdbcTemplate.execute("CREATE INDEX idx_transaction_to_account_created ON " + PARENT_TABLE +
+                " (to_account_id, created_at, transaction_id)");
+        jdbcTemplate.execute("CREATE INDEX idx_transaction_from_account_created ON " + PARENT_TABLE +
+                " (from_account_id, created_at, transaction_id)");
+        return months;
+    }
+
+    // 월 파티션 생성 (이미 붙어 있으면 false)
+    // 같은 이름의 분리된(보관 중인) 테이블이 있으면 예외 - 보관 데이터를 다시 붙일지 운영자가 판단해야 함
+    public boolean createPartition(YearMonth month) {
+        if (isAttached(month)) {
+            return false;
+        }
+        if (exists(month)) {
+            throw new IllegalStateException("분리된 거래내역 파티션 테이블이 남아 있어 파티션을 만들 수 없습니다: "
+                    + partitionName(month) + " (보관 후 삭제하거나 ATTACH PARTITION 으로 다시 붙여야 함)");
+        }
+        jdbcTemplate.execute("CREATE TABLE " + partitionName(month) +
+                " PARTITION OF " + PARENT_TABLE +
+                " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+        return true;
+    }
+
+    // 월 파티션 분리 (CONCURRENTLY - 부모에는 SHARE UPDATE EXCLUSIVE 잠금만 잡아 다른 월 INSERT/조회를 막지 않음)
+    // 트랜잭션 블록 안에서는 실행할 수 없으므로 auto-commit 커넥션으로 호출해야 함
+    public void detachPartition(YearMonth month) {
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partitionName(month) + " CONCURRENTLY");
+    }
+
+    // 현재 부모에 붙어 있는 파티션인지
+    public boolean isAttached(YearMonth month) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_inherits i WHERE i.inhparent = to_regclass(?) AND i.inhrelid = to_regclass(?)",
+                Integer.class, PARENT_TABLE, partitionName(month));
+        return count != null && count > 0;
+    }
+
+    // 분리된(보관 중인) 파티션 테이블만 남아 있는 달
+    public boolean isDetached(YearMonth month) {
+        return exists(month) && !isAttached(month);
+    }
+
+    public boolean exists(YearMonth month) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT to_regclass(?) IS NOT NULL", Boolean.class, partitionName(month)));
+    }
+
+    public String partitionName(YearMonth month) {
+        return String.format("%s_%04d_%02d", PARENT_TABLE, month.getYear(), month.getMonthValue());
+    }
+}
@@ -4,6 +4,7 @@ import com.backend.domain.transaction.domain.Transaction;
 import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -16,6 +17,9 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
 
     Page<Transaction> findByToAccountId(int id, Pageable pageable);
 
+    // slice 모드 (size + 1 건만 읽어 다음 페이지 여부 확인, COUNT 없음)
+    Slice<Transaction> findSliceByToAccountId(int id, Pageable pageable);
+
     // 입출금계좌용 거래내역 조회 (양방향)
     @Query("SELECT t FROM Transaction t " +
             "WHERE t.fromAccountId = :accountId OR t.toAccountId = :accountId " +
@@ -24,6 +28,14 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             @Param("accountId") Integer accountId,
             Pageable pageable);
 
+    // 입출금계좌용 거래내역 slice 조회 (양방향, COUNT 없음)
+    @Query("SELECT t FROM Transaction t " +
+            "WHERE t.fromAccountId = :accountId OR t.toAccountId = :accountId " +
+            "ORDER BY t.createdAt DESC")
+    Slice<Transaction> findCheckingAccountTransactionSlice(
+            @Param("accountId") Integer accountId,
+            Pageable pageable);
+
     // 입출금계좌의 모든 거래내역 (페이징 없이)
     @Query("SELECT t FROM Transaction t " +
             "WHERE t.fromAccountId = :accountId OR t.toAccountId = :accountId " +
@@ -31,14 +43,24 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     List<Transaction> findAllCheckingAccountTransactions(
             @Param("accountId") Integer accountId);
 
-    // 특정 기간의 입출금계좌 거래내역
-    @Query("SELECT t FROM Transaction t " +
-            "WHERE (t.fromAccountId = :accountId OR t.toAccountId = :accountId) " +
-            "AND t.createdAt BETWEEN :startDate AND :endDate " +
-            "ORDER BY t.createdAt DESC")
+    // 특정 기간의 입출금계좌 거래내역 [startDate, endDate)
+    // created_at 범위를 파티션 키 조건 그대로 두 분기에 걸어 해당 월 파티션만 스캔 (partition pruning)
+    // 출금/입금 분기는 각각 계좌별 (account_id, created_at) 인덱스를 사용
+    @Query(value = "SELECT * FROM (" +
+            "SELECT * FROM transaction " +
+            "WHERE from_account_id = :accountId AND created_at >= :startDate AND created_at < :endDate " +
+            "UNION ALL " +
+            "SELECT * FROM transaction " +
+            "WHERE to_account_id = :accountId AND from_account_id IS DISTINCT FROM :accountId " +
+            "AND created_at >= :startDate AND created_at < :endDate" +
+            ") t ORDER BY t.created_at DESC, t.transaction_id DESC",
+            countQuery = "SELECT count(*) FROM transaction " +
+                    "WHERE (from_account_id = :accountId OR to_account_id = :accountId) " +
+                    "AND created_at >= :startDate AND created_at < :endDate",
+            nativeQuery = true)
     Page<Transaction> findCheckingAccountTransactionsByDateRange(
             @Param("accountId") Integer accountId,
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate,
             Pageable pageable);
-}
\ No newline at end of file
+}
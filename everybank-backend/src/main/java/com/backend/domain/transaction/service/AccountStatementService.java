@@ -0,0 +1,61 @@
+package com.backend.domain.transaction.service;
+
+import com.backend.domain.account.domain.Account;
+import com.backend.domain.account.repository.AccountRepository;
+import com.backend.domain.account.service.CheckingAccountResolver;
+import com.backend.domain.transaction.domain.AccountStatement;
+import com.backend.domain.transaction.dto.AccountStatementResponseDto;
+import com.backend.domain.transaction.repository.AccountStatementRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.NoSuchElementException;
+
+// 월 명세서 조회 (월 마감 배치가 저장한 행을 PK 로 한 번 읽음)
+@Service
+@RequiredArgsConstructor
+public class AccountStatementService {
+
+    private final AccountRepository accountRepository;
+    private final CheckingAccountResolver checkingAccountResolver;
+    private final AccountStatementRepository accountStatementRepository;
+
+    // accountId 미지정 시 본인 입출금계좌
+    public AccountStatementResponseDto getStatement(Long userId, Integer accountId, YearMonth month) {
+        // 1. 조회 계좌 확인
+        Integer statementAccountId = accountId != null ? ownedAccountId(userId, accountId) : checkingAccountResolver.resolveId(userId);
+
+        // 2. (계좌, 월) PK 조회
+        AccountStatement statement = accountStatementRepository
+                .findById(new AccountStatement.Key(statementAccountId, month.atDay(1)))
+                .orElseThrow(() -> new NoSuchElementException(
+                        "명세서가 없습니다 (거래가 없거나 아직 마감되지 않은 달): " + month));
+
+        return AccountStatementResponseDto.builder()
+                .accountId(statement.getAccountId())
+                .statementMonth(YearMonth.from(statement.getStatementMonth()))
+                .openingBalance(statement.getOpeningBalance())
+                .closingBalance(statement.getClosingBalance())
+                .totalInflow(statement.getTotalInflow())
+                .totalOutflow(statement.getTotalOutflow())
+                .depositInflow(statement.getDepositInflow())
+                .withdrawalOutflow(statement.getWithdrawalOutflow())
+                .transferInflow(statement.getTransferInflow())
+                .transferOutflow(statement.getTransferOutflow())
+                .paymentInflow(statement.getPaymentInflow())
+                .paymentOutflow(statement.getPaymentOutflow())
+                .interestInflow(statement.getInterestInflow())
+                .transactionCount(statement.getTransactionCount())
+                .build();
+    }
+
+    private Integer ownedAccountId(Long userId, Integer accountId) {
+        Account account = accountRepository.findById(Long.valueOf(accountId))
+                .orElseThrow(() -> new NoSuchElementException("계좌를 찾을 수 없습니다: " + accountId));
+        if (!account.getUserId().equals(userId)) {
+            throw new IllegalArgumentException("본인 계좌의 명세서만 조회할 수 있습니다.");
+        }
+        return account.getId();
+    }
+}
@@ -0,0 +1,15 @@
+package com.backend.domain.transaction.service;
+
+import com.backend.domain.transaction.dto.LedgerEvent;
+
+import java.util.List;
+
+// 거래내역 outbox 소비자 (LedgerOutboxRelay 가 커밋된 거래를 거래 ID 순 배치로 전달)
+// - at-least-once: 같은 이벤트가 다시 올 수 있으므로 eventId 기준으로 멱등하게 처리
+// - 예외를 던지면 배치 전체가 재시도 대상이 되고, 이미 처리한 다른 소비자도 다시 받음
+public interface LedgerEventConsumer {
+
+    String name();
+
+    void consume(List<LedgerEvent> events);
+}
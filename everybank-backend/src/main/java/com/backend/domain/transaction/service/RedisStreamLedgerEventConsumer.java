@@ -0,0 +1,76 @@
+package com.backend.domain.transaction.service;
+
+import com.backend.domain.transaction.dto.LedgerEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 거래 이벤트를 Redis Stream(ledger:events) 으로 내보내는 소비자 (알림/분석 등 외부 처리기가 읽어감)
+// - 배치 하나를 파이프라인 한 번으로 XADD + XTRIM (max-length 근처에서 오래된 항목부터 잘림)
+// - 재전달 시 같은 eventId 가 다시 들어갈 수 있으므로 읽는 쪽에서 eventId 로 중복 제거
+@Component
+@ConditionalOnProperty(name = "everybank.outbox.redis-stream.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisStreamLedgerEventConsumer implements LedgerEventConsumer {
+
+    private final StringRedisTemplate redisTemplate;
+    private final String streamKey;
+    private final long maxLength;
+
+    public RedisStreamLedgerEventConsumer(StringRedisTemplate redisTemplate,
+                                          @Value("${everybank.outbox.redis-stream.key:ledger:events}") String streamKey,
+                                          @Value("${everybank.outbox.redis-stream.max-length:100000}") long maxLength) {
+        this.redisTemplate = redisTemplate;
+        this.streamKey = streamKey;
+        this.maxLength = maxLength;
+    }
+
+    @Override
+    public String name() {
+        return "redis-stream";
+    }
+
+    @Override
+    public void consume(List<LedgerEvent> events) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                for (LedgerEvent event : events) {
+                    MapRecord<String, String, String> record = StreamRecords.newRecord()
+                            .in(streamKey)
+                            .ofMap(toFields(event));
+                    stringOperations.<String, String>opsForStream().add(record);
+                }
+                stringOperations.opsForStream().trim(streamKey, maxLength, true);
+                return null;
+            }
+        });
+    }
+
+    private Map<String, String> toFields(LedgerEvent event) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("eventId", String.valueOf(event.getEventId()));
+        fields.put("transactionType", event.getTransactionType().name());
+        fields.put("amount", String.valueOf(event.getAmount()));
+        fields.put("createdAt", event.getCreatedAt().toString());
+        if (event.getFromAccountId() != null) {
+            fields.put("fromAccountId", String.valueOf(event.getFromAccountId()));
+            fields.put("fromBalance", String.valueOf(event.getFromBalance()));
+        }
+        if (event.getToAccountId() != null) {
+            fields.put("toAccountId", String.valueOf(event.getToAccountId()));
+            fields.put("toBalance", String.valueOf(event.getToBalance()));
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,199 @@
+package com.backend.domain.transaction.service;
+
+import com.backend.domain.account.domain.Account;
+import com.backend.domain.account.repository.AccountRepository;
+import com.backend.domain.account.service.CheckingAccountResolver;
+import com.backend.domain.transaction.dto.TransactionExportFormat;
+import com.backend.domain.transaction.repository.TransactionExportJdbcRepository;
+import com.backend.global.datasource.ReadYourWritesTracker;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 거래내역 내보내기 (CSV / NDJSON)
+// - JDBC 커서에서 읽은 행을 응답 스트림에 바로 기록 → 거래 건수와 관계없이 힙 사용량 일정
+// - 원장 분개(ledger_posting) 기준 → 잔액(current_balance)은 내보내는 계좌의 거래 후 잔액
+// - 응답 스레드에는 보안 컨텍스트가 없으므로 사용자 ID 로 직접 primary 고정 여부 확인 (고정이면 primary 트랜잭션에서 읽음)
+@Slf4j
+@Service
+public class TransactionExportService {
+
+    private static final String CSV_HEADER = "transaction_id,created_at,transaction_type,direction,amount,counterparty_account_id,current_balance";
+
+    private final AccountRepository accountRepository;
+    private final CheckingAccountResolver checkingAccountResolver;
+    private final TransactionExportJdbcRepository transactionExportJdbcRepository;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final TransactionTemplate primaryTransactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public TransactionExportService(AccountRepository accountRepository,
+                                    CheckingAccountResolver checkingAccountResolver,
+                                    TransactionExportJdbcRepository transactionExportJdbcRepository,
+                                    ReadYourWritesTracker readYourWritesTracker,
+                                    TransactionTemplate transactionTemplate,
+                                    ObjectMapper objectMapper,
+                                    @Value("${everybank.transaction-export.fetch-size:1000}") int fetchSize) {
+        this.accountRepository = accountRepository;
+        this.checkingAccountResolver = checkingAccountResolver;
+        this.transactionExportJdbcRepository = transactionExportJdbcRepository;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        // 읽기 전용이 아닌 트랜잭션은 항상 primary 로 라우팅됨
+        this.primaryTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    // 내보낼 계좌 확인 (지정하지 않으면 본인 입출금계좌)
+    public Integer resolveAccountId(Long userId, Integer accountId) {
+        if (accountId == null) {
+            return checkingAccountResolver.resolveId(userId);
+        }
+
+        Account account = accountRepository.findById(Long.valueOf(accountId))
+                .orElseThrow(() -> new NoSuchElementException("계좌를 찾을 수 없습니다: " + accountId));
+        if (!account.getUserId().equals(userId)) {
+            throw new IllegalArgumentException("본인 계좌의 거래내역만 내보낼 수 있습니다.");
+        }
+        return account.getId();
+    }
+
+    // 계좌 거래내역을 오래된 순으로 output 에 기록 (output 은 호출한 쪽에서 닫음)
+    public long export(Long userId, Integer accountId, TransactionExportFormat format, OutputStream output) throws IOException {
+        long startTime = System.nanoTime();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        RowWriter rowWriter = format == TransactionExportFormat.CSV
+                ? new CsvRowWriter(writer)
+                : new NdjsonRowWriter(objectMapper.getFactory().createGenerator(writer));
+
+        rowWriter.begin();
+        AtomicLong rows = new AtomicLong();
+        TransactionTemplate template = readYourWritesTracker.isPinned(userId)
+                ? primaryTransactionTemplate
+                : readOnlyTransactionTemplate;
+        try {
+            template.executeWithoutResult(status ->
+                    transactionExportJdbcRepository.streamByAccountId(accountId, fetchSize, rs -> {
+                        try {
+                            rowWriter.write(rs);
+                        } catch (IOException e) {
+                            // 클라이언트 연결 종료 등 - 커서를 닫고 중단
+                            throw new UncheckedIOException(e);
+                        }
+                        rows.incrementAndGet();
+                    }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        rowWriter.end();
+
+        log.info("거래내역 내보내기 완료 - 계좌: {}, 형식: {}, {}건 ({}ms)",
+                accountId, format, rows.get(), (System.nanoTime() - startTime) / 1_000_000);
+        return rows.get();
+    }
+
+    private interface RowWriter {
+        void begin() throws IOException;
+
+        void write(ResultSet rs) throws IOException, SQLException;
+
+        void end() throws IOException;
+    }
+
+    private static class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void begin() throws IOException {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        // 모든 값이 숫자/enum/시각이라 따옴표 처리 없음
+        @Override
+        public void write(ResultSet rs) throws IOException, SQLException {
+            long amount = rs.getLong("amount");
+            boolean outgoing = amount < 0;
+            Object counterparty = rs.getObject("counterparty_account_id");
+
+            writer.write(Long.toString(rs.getLong("transaction_id")));
+            writer.write(',');
+            writer.write(rs.getTimestamp("created_at").toLocalDateTime().toString());
+            writer.write(',');
+            writer.write(rs.getString("transaction_type"));
+            writer.write(',');
+            writer.write(outgoing ? "OUT" : "IN");
+            writer.write(',');
+            writer.write(Long.toString(Math.abs(amount)));
+            writer.write(',');
+            writer.write(counterparty != null ? counterparty.toString() : "");
+            writer.write(',');
+            writer.write(Long.toString(rs.getLong("balance_after")));
+            writer.write('\n');
+        }
+
+        @Override
+        public void end() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private static class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(JsonGenerator generator) {
+            // 루트 값 사이 기본 구분자(공백) 대신 줄바꿈만 직접 기록
+            generator.setRootValueSeparator(null);
+            this.generator = generator;
+        }
+
+        @Override
+        public void begin() {
+        }
+
+        @Override
+        public void write(ResultSet rs) throws IOException, SQLException {
+            long amount = rs.getLong("amount");
+            boolean outgoing = amount < 0;
+            Object counterparty = rs.getObject("counterparty_account_id");
+
+            generator.writeStartObject();
+            generator.writeNumberField("transactionId", rs.getLong("transaction_id"));
+            generator.writeStringField("createdAt", rs.getTimestamp("created_at").toLocalDateTime().toString());
+            generator.writeStringField("transactionType", rs.getString("transaction_type"));
+            generator.writeStringField("direction", outgoing ? "OUT" : "IN");
+            generator.writeNumberField("amount", Math.abs(amount));
+            if (counterparty != null) {
+                generator.writeNumberField("counterpartyAccountId", ((Number) counterparty).intValue());
+            } else {
+                generator.writeNullField("counterpartyAccountId");
+            }
+            generator.writeNumberField("currentBalance", rs.getLong("balance_after"));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void end() throws IOException {
+            generator.flush();
+        }
+    }
+}
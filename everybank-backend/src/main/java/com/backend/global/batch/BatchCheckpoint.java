@@ -0,0 +1,57 @@
+package com.backend.global.batch;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 배치 파티션별 진행 위치 (청크 커밋과 같은 트랜잭션에서 갱신 → 장애 후 마지막 커밋 지점부터 재개)
+@Data
+@Entity
+@Table(name = "batch_checkpoint", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_batch_checkpoint", columnNames = {"job_name", "run_key", "partition_no"})
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchCheckpoint {
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", length = 50, nullable = false)
+    private String jobName;
+
+    // 실행 구분값 (예: 기준일)
+    @Column(name = "run_key", length = 30, nullable = false)
+    private String runKey;
+
+    @Column(name = "partition_no", nullable = false)
+    private int partitionNo;
+
+    // 파티션 ID 범위 [rangeStart, rangeEnd)
+    @Column(name = "range_start", nullable = false)
+    private long rangeStart;
+
+    @Column(name = "range_end", nullable = false)
+    private long rangeEnd;
+
+    // 마지막으로 커밋된 ID (다음 청크는 이 ID 다음부터)
+    @Column(name = "last_id", nullable = false)
+    private long lastId;
+
+    @Column(name = "processed", nullable = false)
+    private long processed;
+
+    @Column(name = "status", length = 20, nullable = false)
+    private String status;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
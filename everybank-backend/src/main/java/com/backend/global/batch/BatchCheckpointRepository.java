@@ -0,0 +1,73 @@
+package com.backend.global.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 배치 체크포인트 JDBC 저장소
+@Repository
+@RequiredArgsConstructor
+public class BatchCheckpointRepository {
+
+    private static final String FIND_SQL = "SELECT id, job_name, run_key, partition_no, range_start, range_end, " +
+            "last_id, processed, status, updated_at FROM batch_checkpoint " +
+            "WHERE job_name = ? AND run_key = ? ORDER BY partition_no";
+
+    private static final String CREATE_SQL = "INSERT INTO batch_checkpoint " +
+            "(job_name, run_key, partition_no, range_start, range_end, last_id, processed, status, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, 0, '" + BatchCheckpoint.RUNNING + "', ?) " +
+            "ON CONFLICT (job_name, run_key, partition_no) DO NOTHING";
+
+    private static final String ADVANCE_SQL = "UPDATE batch_checkpoint " +
+            "SET last_id = ?, processed = processed + ?, updated_at = ? " +
+            "WHERE job_name = ? AND run_key = ? AND partition_no = ?";
+
+    private static final String COMPLETE_SQL = "UPDATE batch_checkpoint " +
+            "SET status = '" + BatchCheckpoint.COMPLETED + "', updated_at = ? " +
+            "WHERE job_name = ? AND run_key = ? AND partition_no = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<BatchCheckpoint> findAll(String jobName, String runKey) {
+        return jdbcTemplate.query(FIND_SQL, (rs, rowNum) -> BatchCheckpoint.builder()
+                .id(rs.getLong("id"))
+                .jobName(rs.getString("job_name"))
+                .runKey(rs.getString("run_key"))
+                .partitionNo(rs.getInt("partition_no"))
+                .rangeStart(rs.getLong("range_start"))
+                .rangeEnd(rs.getLong("range_end"))
+                .lastId(rs.getLong("last_id"))
+                .processed(rs.getLong("processed"))
+                .status(rs.getString("status"))
+                .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
+                .build(), jobName, runKey);
+    }
+
+    // 파티션 생성 (이미 있으면 유지 - 재시작 시 기존 범위/진행 위치 사용)
+    public List<BatchCheckpoint> createPartitions(String jobName, String runKey, List<long[]> ranges) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(ranges.size());
+        for (int i = 0; i < ranges.size(); i++) {
+            long[] range = ranges.get(i);
+            rows.add(new Object[]{jobName, runKey, i, range[0], range[1], range[0] - 1, now});
+        }
+        jdbcTemplate.batchUpdate(CREATE_SQL, rows);
+        return findAll(jobName, runKey);
+    }
+
+    // 청크 처리와 같은 트랜잭션에서 호출
+    public void advance(BatchCheckpoint checkpoint, long lastId, long processed) {
+        jdbcTemplate.update(ADVANCE_SQL, lastId, processed, Timestamp.valueOf(LocalDateTime.now()),
+                checkpoint.getJobName(), checkpoint.getRunKey(), checkpoint.getPartitionNo());
+    }
+
+    public void complete(BatchCheckpoint checkpoint) {
+        jdbcTemplate.update(COMPLETE_SQL, Timestamp.valueOf(LocalDateTime.now()),
+                checkpoint.getJobName(), checkpoint.getRunKey(), checkpoint.getPartitionNo());
+    }
+}
@@ -0,0 +1,31 @@
+package com.backend.global.batch;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+// 야간 배치 작업용 워커 풀
+// - 대기열이 차면 호출 스레드(청크를 읽는 스레드)가 직접 처리 → 읽기 속도가 처리 속도를 넘지 않음
+@Configuration
+public class BatchExecutorConfig {
+
+    public static final String BATCH_WORKER_EXECUTOR = "batchWorkerExecutor";
+
+    @Bean(name = BATCH_WORKER_EXECUTOR)
+    public ThreadPoolTaskExecutor batchWorkerExecutor(@Value("${everybank.batch.worker-count:4}") int workerCount,
+                                                      @Value("${everybank.batch.queue-capacity:8}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerCount);
+        executor.setMaxPoolSize(workerCount);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("batch-worker-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,8 +1,10 @@
 package com.backend.global.common;
 
+import com.backend.global.datasource.ReadYourWritesInterceptor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
@@ -20,4 +22,15 @@ public class WebConfig {
             }
         };
     }
+
+    // 쓰기 요청 직후 읽기를 primary 로 고정 (read-your-writes)
+    @Bean
+    public WebMvcConfigurer readYourWritesConfigurer(ReadYourWritesInterceptor readYourWritesInterceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(readYourWritesInterceptor).addPathPatterns("/**");
+            }
+        };
+    }
 }
@@ -13,6 +13,7 @@ public enum ErrorCode {
      * * 403 : Forbidden
      * * 404 : Not Found
      * * 409 : Conflict
+     * * 422 : Unprocessable Entity
      */
 
     // 잘못된 요청
@@ -29,7 +30,10 @@ public enum ErrorCode {
     NOT_FOUND_ERROR(404, "404", "Not Found Exception"),
 
     // 충돌
-    CONFLICT_ERROR(409, "409", "Conflict Exception");
+    CONFLICT_ERROR(409, "409", "Conflict Exception"),
+
+    // 처리할 수 없는 요청
+    UNPROCESSABLE_ENTITY_ERROR(422, "422", "Unprocessable Entity Exception");
 
     private final int status;
     private final String code;
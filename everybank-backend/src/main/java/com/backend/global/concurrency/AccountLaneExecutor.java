@@ -0,0 +1,119 @@
+package com.backend.global.concurrency;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// 계좌 ID 별 직렬 실행 레인
+// - 같은 계좌의 잔액 변경은 계좌별 공정 락으로 도착 순서대로 하나씩 실행 → 같은 row 에 대한 DB 락 대기가 생기지 않음
+// - 작업은 호출 스레드에서 바로 실행 (스레드 전환 없음 → 요청 하나가 커넥션을 두 개 잡지 않음)
+// - 레인은 계좌별로 만들고 대기자가 없으면 제거 → 서로 다른 계좌는 서로 막지 않음
+// - 노드 간 직렬화는 잔액 조건부 UPDATE 의 row 락이 담당
+@Slf4j
+@Component
+public class AccountLaneExecutor {
+
+    private final ConcurrentMap<Integer, Lane> lanes = new ConcurrentHashMap<>();
+    private final int queueCapacity;
+    private final Duration waitTimeout;
+
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private final AtomicLong completedTaskCount = new AtomicLong();
+    private final AtomicLong rejectedTaskCount = new AtomicLong();
+
+    public AccountLaneExecutor(@Value("${everybank.lane.queue-capacity:100}") int queueCapacity,
+                               @Value("${everybank.lane.wait-timeout-seconds:10}") long waitTimeoutSeconds) {
+        this.queueCapacity = queueCapacity;
+        this.waitTimeout = Duration.ofSeconds(waitTimeoutSeconds);
+        log.info("계좌 실행 레인 초기화 - 계좌별 대기열: {}, 대기 시간 상한: {}s", queueCapacity, waitTimeoutSeconds);
+    }
+
+    // 계좌의 레인에서 작업 실행 후 결과 반환 (같은 계좌의 앞선 작업이 끝날 때까지 대기)
+    public <T> T execute(Integer accountId, Supplier<T> task) {
+        Lane lane = join(accountId);
+        try {
+            ReentrantLock lock = lane.lock;
+            // 이미 같은 레인 안에서 호출된 경우 바로 실행 (재진입)
+            if (!lock.isHeldByCurrentThread()) {
+                int waiting = lock.getQueueLength();
+                maxQueueDepth.accumulateAndGet(waiting, Math::max);
+                if (waiting >= queueCapacity) {
+                    rejectedTaskCount.incrementAndGet();
+                    log.warn("계좌 레인 대기열 초과 - 계좌ID: {}, 대기: {}", accountId, waiting);
+                    throw new IllegalStateException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+                }
+            }
+
+            if (!lock.tryLock(waitTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                rejectedTaskCount.incrementAndGet();
+                log.warn("계좌 레인 대기 시간 초과 - 계좌ID: {}", accountId);
+                throw new IllegalStateException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+            try {
+                return task.get();
+            } finally {
+                lock.unlock();
+                completedTaskCount.incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("계좌 레인 대기 중 인터럽트 발생", e);
+        } finally {
+            leave(accountId);
+        }
+    }
+
+    // 작업 하나가 레인에서 기다릴 수 있는 최대 시간 (Idempotency PENDING 유지 시간 계산용)
+    public Duration getWaitTimeout() {
+        return waitTimeout;
+    }
+
+    // 레인 현황
+    public LaneStats getLaneStats() {
+        return LaneStats.builder()
+                .activeLanes(lanes.size())
+                .maxQueueDepth(maxQueueDepth.get())
+                .completedTaskCount(completedTaskCount.get())
+                .rejectedTaskCount(rejectedTaskCount.get())
+                .build();
+    }
+
+    // 레인 참조 수 증가 (없으면 생성) - compute 는 키 단위로 원자적
+    private Lane join(Integer accountId) {
+        return lanes.compute(accountId, (id, lane) -> {
+            Lane joined = lane != null ? lane : new Lane();
+            joined.references++;
+            return joined;
+        });
+    }
+
+    // 참조 수 감소, 마지막 참조면 레인 제거
+    private void leave(Integer accountId) {
+        lanes.computeIfPresent(accountId, (id, lane) -> --lane.references == 0 ? null : lane);
+    }
+
+    private static final class Lane {
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private int references;     // lanes.compute 안에서만 변경
+    }
+
+    @Getter
+    @Builder
+    public static class LaneStats {
+        private int activeLanes;            // 실행 중이거나 대기 작업이 있는 계좌 수
+        private int maxQueueDepth;          // 기동 이후 한 계좌의 최대 대기 작업 수
+        private long completedTaskCount;
+        private long rejectedTaskCount;     // 대기열 초과/대기 시간 초과로 거절된 작업 수
+    }
+}
@@ -0,0 +1,74 @@
+package com.backend.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// primary / replica 커넥션 풀 + 읽기 전용 트랜잭션 라우팅
+// - primary: spring.datasource.* (기존 설정 그대로)
+// - replica: everybank.datasource.replica.url 이 있을 때만 생성, 없으면 모든 요청이 primary 사용
+@Slf4j
+@Configuration
+public class DataSourceRoutingConfig {
+
+    public static final String PRIMARY_DATA_SOURCE = "primaryDataSource";
+    public static final String REPLICA_DATA_SOURCE = "replicaDataSource";
+
+    @Bean(name = PRIMARY_DATA_SOURCE)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary-pool");
+        return dataSource;
+    }
+
+    @Bean(name = REPLICA_DATA_SOURCE)
+    @ConditionalOnExpression("!'${everybank.datasource.replica.url:}'.isEmpty()")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${everybank.datasource.replica.url}") String url,
+                                              @Value("${everybank.datasource.replica.username:}") String username,
+                                              @Value("${everybank.datasource.replica.password:}") String password,
+                                              @Value("${everybank.datasource.replica.maximum-pool-size:10}") int maximumPoolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica-pool");
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(url);
+        // 계정을 따로 지정하지 않으면 primary 계정 사용
+        dataSource.setUsername(username.isEmpty() ? properties.determineUsername() : username);
+        dataSource.setPassword(password.isEmpty() ? properties.determinePassword() : password);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier(PRIMARY_DATA_SOURCE) DataSource primaryDataSource,
+                                 @Qualifier(REPLICA_DATA_SOURCE) ObjectProvider<DataSource> replicaDataSource,
+                                 ReadYourWritesTracker readYourWritesTracker,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        DataSource replica = replicaDataSource.getIfAvailable(() -> primaryDataSource);
+        log.info("DataSource 라우팅 - 읽기 전용 트랜잭션: {}", replica == primaryDataSource ? "primary (replica 미설정)" : "replica");
+
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource(readYourWritesTracker, replicaLagMonitor);
+        routing.setTargetDataSources(Map.of(
+                ReplicationRoutingDataSource.Route.PRIMARY, primaryDataSource,
+                ReplicationRoutingDataSource.Route.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,36 @@
+package com.backend.global.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Set;
+
+// 쓰기 요청(GET/HEAD/OPTIONS 외)을 보낸 사용자를 요청 시작/종료 시점에 primary 로 고정
+// - 서비스 계층이 아니라 요청 스레드에서 표시 → 어떤 쓰기 경로든 빠짐없이 고정
+@Component
+@RequiredArgsConstructor
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!READ_METHODS.contains(request.getMethod())) {
+            readYourWritesTracker.pinCurrentUser();
+        }
+        return true;
+    }
+
+    // 커밋이 끝난 뒤부터 고정 시간을 다시 계산
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!READ_METHODS.contains(request.getMethod())) {
+            readYourWritesTracker.pinCurrentUser();
+        }
+    }
+}
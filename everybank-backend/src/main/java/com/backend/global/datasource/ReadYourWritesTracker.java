@@ -0,0 +1,53 @@
+package com.backend.global.datasource;
+
+import com.backend.global.security.SecurityUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 쓰기 요청 직후 사용자 읽기를 primary 로 고정 (replica 복제 지연 동안 자기가 쓴 값을 못 보는 문제 방지)
+// - 쓰기 요청이 끝난 뒤 pin-seconds 동안 그 사용자의 읽기 전용 트랜잭션은 primary 에서 실행
+// - 노드 내 캐시라 다른 노드로 간 요청에는 적용되지 않음 (pin-seconds 를 복제 지연 상한보다 길게 설정)
+// - 보안 컨텍스트가 없는 스레드(스트리밍 응답 등)는 사용자 ID 를 직접 넘겨 isPinned 로 확인
+@Component
+public class ReadYourWritesTracker {
+
+    private final Cache<Long, Boolean> pinnedUsers;
+
+    public ReadYourWritesTracker(@Value("${everybank.datasource.read-your-writes-seconds:5}") long pinSeconds,
+                                 @Value("${everybank.datasource.read-your-writes-max-size:100000}") long maxSize) {
+        this.pinnedUsers = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(pinSeconds))
+                .build();
+    }
+
+    // 현재 요청 사용자를 primary 로 고정 (고정 시간은 마지막 호출부터 다시 계산)
+    public void pinCurrentUser() {
+        Long userId = currentUserId();
+        if (userId != null) {
+            pinnedUsers.put(userId, Boolean.TRUE);
+        }
+    }
+
+    public boolean isCurrentUserPinned() {
+        return isPinned(currentUserId());
+    }
+
+    public boolean isPinned(Long userId) {
+        return userId != null && pinnedUsers.getIfPresent(userId) != null;
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof SecurityUser securityUser) {
+            return securityUser.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,72 @@
+package com.backend.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+// replica 복제 지연 측정 (check-interval 마다 replica 에 직접 조회해 캐시)
+// - 지연 = 지금 - 마지막으로 재생한 트랜잭션 커밋 시각 (받은 WAL 을 모두 재생했으면 0 - primary 가 한가할 때 지연이 커 보이지 않도록)
+// - 지연이 max-lag 를 넘거나, 측정이 실패했거나, 마지막 측정이 오래되었으면 읽기 전용 트랜잭션도 primary 사용
+// - replica 가 설정되지 않았으면 측정하지 않음 (라우팅 대상이 어차피 primary)
+@Slf4j
+@Component
+public class ReplicaLagMonitor {
+
+    private static final String LAG_SQL = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE((EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000)::bigint, 0) END";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagMillis;
+    private final long staleAfterMillis;
+
+    private volatile long lagMillis;
+    private volatile long checkedAt;      // 마지막 측정 성공 시각 (ms), 0 이면 아직 측정 전 또는 실패
+
+    public ReplicaLagMonitor(@Qualifier(DataSourceRoutingConfig.REPLICA_DATA_SOURCE) ObjectProvider<DataSource> replicaDataSource,
+                             @Value("${everybank.datasource.replica-max-lag-ms:1000}") long maxLagMillis,
+                             @Value("${everybank.datasource.replica-lag-check-ms:2000}") long checkIntervalMillis) {
+        DataSource replica = replicaDataSource.getIfAvailable();
+        this.replicaJdbcTemplate = replica != null ? new JdbcTemplate(replica) : null;
+        this.maxLagMillis = maxLagMillis;
+        // 측정이 두 번 연속 밀리면 오래된 값으로 보고 사용하지 않음
+        this.staleAfterMillis = checkIntervalMillis * 3;
+    }
+
+    @Scheduled(fixedDelayString = "${everybank.datasource.replica-lag-check-ms:2000}")
+    public void check() {
+        if (replicaJdbcTemplate == null) {
+            return;
+        }
+
+        try {
+            Long lag = replicaJdbcTemplate.queryForObject(LAG_SQL, Long.class);
+            boolean wasUsable = isReplicaUsable();
+            lagMillis = lag != null ? lag : 0L;
+            checkedAt = System.currentTimeMillis();
+            if (wasUsable != isReplicaUsable()) {
+                log.warn("replica 복제 지연 {}ms - 읽기 전용 트랜잭션: {}", lagMillis, isReplicaUsable() ? "replica" : "primary");
+            }
+        } catch (DataAccessException e) {
+            checkedAt = 0L;
+            log.warn("replica 복제 지연 측정 실패 - 읽기 전용 트랜잭션도 primary 사용: {}", e.getMessage());
+        }
+    }
+
+    // replica 로 읽어도 되는지 (replica 미설정이면 항상 true)
+    public boolean isReplicaUsable() {
+        if (replicaJdbcTemplate == null) {
+            return true;
+        }
+        long measuredAt = checkedAt;
+        return measuredAt != 0L
+                && System.currentTimeMillis() - measuredAt <= staleAfterMillis
+                && lagMillis <= maxLagMillis;
+    }
+}
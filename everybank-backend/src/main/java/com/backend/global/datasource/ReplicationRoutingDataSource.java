@@ -0,0 +1,36 @@
+package com.backend.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 트랜잭션 성격에 따라 primary / replica 커넥션 풀 선택
+// - 읽기 전용 트랜잭션(@Transactional(readOnly = true), Spring Data 조회 메서드 등) → replica
+// - 그 외(쓰기 트랜잭션, 트랜잭션 밖 JDBC, 스키마 생성) → primary
+// - 방금 쓰기 요청을 보낸 사용자는 읽기 전용이어도 primary (ReadYourWritesTracker)
+// - replica 복제 지연이 상한을 넘었거나 측정할 수 없으면 읽기 전용이어도 primary (ReplicaLagMonitor)
+// LazyConnectionDataSourceProxy 뒤에 두어야 트랜잭션 속성이 정해진 뒤(첫 SQL 시점)에 풀이 선택됨
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReplicationRoutingDataSource(ReadYourWritesTracker readYourWritesTracker, ReplicaLagMonitor replicaLagMonitor) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Route.PRIMARY;
+        }
+        if (readYourWritesTracker.isCurrentUserPinned() || !replicaLagMonitor.isReplicaUsable()) {
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+}
@@ -0,0 +1,11 @@
+package com.backend.global.exception.exceptions;
+
+public class DuplicateRequestException extends RuntimeException {
+    public DuplicateRequestException(String message) {
+        super(message);
+    }
+
+    public DuplicateRequestException() {
+        super("같은 요청이 이미 처리 중입니다. 잠시 후 다시 시도해주세요.");
+    }
+}
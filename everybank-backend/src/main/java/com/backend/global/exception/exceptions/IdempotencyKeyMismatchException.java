@@ -0,0 +1,11 @@
+package com.backend.global.exception.exceptions;
+
+public class IdempotencyKeyMismatchException extends RuntimeException {
+    public IdempotencyKeyMismatchException(String message) {
+        super(message);
+    }
+
+    public IdempotencyKeyMismatchException() {
+        super("같은 Idempotency-Key 로 다른 요청이 들어왔습니다. 새 키를 사용해주세요.");
+    }
+}
@@ -2,6 +2,8 @@ package com.backend.global.exception.handler;
 
 import com.backend.global.common.BaseResponse;
 import com.backend.global.common.code.ErrorCode;
+import com.backend.global.exception.exceptions.DuplicateRequestException;
+import com.backend.global.exception.exceptions.IdempotencyKeyMismatchException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -81,6 +83,19 @@ public class GlobalExceptionHandler {
         return BaseResponse.error(ErrorCode.CONFLICT_ERROR, "중복된 데이터입니다.");
     }
 
+    @ExceptionHandler(DuplicateRequestException.class)
+    public ResponseEntity<BaseResponse<String>> handleDuplicateRequestException(DuplicateRequestException e) {
+        log.warn("Duplicate Request Exception: {}", e.getMessage());
+        return BaseResponse.error(ErrorCode.CONFLICT_ERROR, e.getMessage());
+    }
+
+    // 422 - 같은 Idempotency-Key 에 다른 요청 본문
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity<BaseResponse<String>> handleIdempotencyKeyMismatchException(IdempotencyKeyMismatchException e) {
+        log.warn("Idempotency Key Mismatch Exception: {}", e.getMessage());
+        return BaseResponse.error(ErrorCode.UNPROCESSABLE_ENTITY_ERROR, e.getMessage());
+    }
+
     // 500 - Internal Server Error (일반적인 예외)
     @ExceptionHandler(Exception.class)
     public ResponseEntity<BaseResponse<String>> handleGeneralException(Exception e) {
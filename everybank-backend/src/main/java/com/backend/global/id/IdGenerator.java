@@ -0,0 +1,7 @@
+package com.backend.global.id;
+
+// 엔티티 키 생성기 (DB 왕복 없이 ID 를 발급하는 구현을 엔티티별로 골라 쓰기 위한 공통 인터페이스)
+public interface IdGenerator {
+
+    long nextId();
+}
@@ -0,0 +1,31 @@
+package com.backend.global.id;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+// ID 생성 설정
+// - 시퀀스 기반 엔티티: @SequenceGenerator(allocationSize) + pooled-lo 로 노드별 블록 캐시 (application.yml)
+// - 시간순 ID 엔티티: @TimeOrderedId (노드 ID는 인스턴스마다 달라야 함)
+// - 노드 ID 미설정 시 local 프로필에서만 0 사용, 그 외에는 기동 실패 (여러 인스턴스가 같은 노드 ID로 ID 충돌하는 것 방지)
+@Slf4j
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public TimeOrderedIdGenerator timeOrderedIdGenerator(@Value("${everybank.id.node-id:}") String nodeId,
+                                                         Environment environment) {
+        if (!nodeId.isBlank()) {
+            return TimeOrderedIdGenerator.configure(Integer.parseInt(nodeId.trim()));
+        }
+        if (!environment.acceptsProfiles(Profiles.of("local"))) {
+            throw new IllegalStateException("everybank.id.node-id(EVERYBANK_NODE_ID)가 설정되지 않았습니다. "
+                    + "인스턴스마다 0~" + TimeOrderedIdGenerator.MAX_NODE_ID + " 중 다른 값을 지정하세요.");
+        }
+        log.warn("노드 ID 미설정 - local 프로필이므로 0 사용");
+        return TimeOrderedIdGenerator.configure(0);
+    }
+}
@@ -0,0 +1,78 @@
+package com.backend.global.id;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+
+// 시간순 ID 생성기 (DB 호출 없음)
+// - 구조: [밀리초 타임스탬프 41bit][노드 ID 5bit][순번 7bit] = 53bit
+//   → bigint 컬럼에 저장하고, JSON 숫자로 내려가도 JS 에서 정밀도 손실 없음
+// - 값이 시간순으로 증가하므로 PK btree 에는 항상 오른쪽 끝에만 추가됨
+// - 같은 밀리초에 순번(128개)을 다 쓰면 다음 밀리초 값을 미리 당겨 씀 (대기 없음, 단조 증가 유지)
+// - 시계가 뒤로 가도 마지막 타임스탬프를 기준으로 계속 증가
+@Slf4j
+public class TimeOrderedIdGenerator implements IdGenerator {
+
+    // 기준 시각: 2025-01-01T00:00:00Z (41bit 로 약 69년 사용 가능)
+    static final long EPOCH = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    static final int NODE_BITS = 5;
+    static final int SEQUENCE_BITS = 7;
+
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    // Hibernate 생성기와 저널이 같은 인스턴스를 써야 같은 노드 안에서 중복이 생기지 않음
+    private static volatile TimeOrderedIdGenerator shared;
+
+    private final long nodeId;
+
+    private long lastTimestamp = -1L;
+    private long sequence;
+
+    public TimeOrderedIdGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0~" + MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+    }
+
+    // 애플리케이션 공용 인스턴스 등록 (노드 ID는 한 번만 정해질 수 있음)
+    public static synchronized TimeOrderedIdGenerator configure(int nodeId) {
+        if (shared == null) {
+            shared = new TimeOrderedIdGenerator(nodeId);
+            log.info("시간순 ID 생성기 초기화 - 노드 ID: {}", nodeId);
+        } else if (shared.nodeId != nodeId) {
+            throw new IllegalStateException("시간순 ID 생성기가 이미 다른 노드 ID로 초기화되었습니다: " + shared.nodeId);
+        }
+        return shared;
+    }
+
+    public static TimeOrderedIdGenerator shared() {
+        TimeOrderedIdGenerator generator = shared;
+        if (generator == null) {
+            throw new IllegalStateException("시간순 ID 생성기가 초기화되지 않았습니다 (IdGeneratorConfig 확인)");
+        }
+        return generator;
+    }
+
+    @Override
+    public synchronized long nextId() {
+        long now = System.currentTimeMillis() - EPOCH;
+
+        if (now > lastTimestamp) {
+            lastTimestamp = now;
+            sequence = 0;
+        } else {
+            // 같은 밀리초이거나 시계가 뒤로 간 경우: 마지막 타임스탬프 기준으로 순번 증가
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                lastTimestamp++;
+            }
+        }
+
+        return (lastTimestamp << (NODE_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+}
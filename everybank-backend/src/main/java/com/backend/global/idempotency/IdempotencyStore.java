@@ -0,0 +1,242 @@
+package com.backend.global.idempotency;
+
+import com.backend.global.concurrency.AccountLaneExecutor;
+import com.backend.global.exception.exceptions.DuplicateRequestException;
+import com.backend.global.exception.exceptions.IdempotencyKeyMismatchException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+// Idempotency-Key 저장소
+// - 1단계: 노드 내 Caffeine 캐시 (완료된 응답)
+// - 2단계: Redis (idempotency:{userId}:{endpoint}:{key}) - 노드 간 공유, 처리 중이면 PENDING 표시
+// - 같은 노드에 동시에 들어온 중복 요청은 하나의 실행 결과를 같이 기다림
+// - 실행이 실패하면 키를 지워 같은 키로 다시 시도할 수 있게 함
+// - 값 앞에 요청 지문(메서드 + 경로 + 본문 SHA-256)을 함께 저장 → 같은 키에 다른 요청이면 422
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String PENDING = "PENDING";
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final int FINGERPRINT_LENGTH = 64;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration responseTtl;
+    private final Duration pendingTtl;
+
+    // 완료된 응답 캐시 (지문:JSON)
+    private final Cache<String, String> completed;
+    // 이 노드에서 실행 중인 요청
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    private record InFlight(String fingerprint, CompletableFuture<String> response) {
+    }
+
+    // Redis/로컬 캐시에 저장된 값 (지문:값) - 지문이 없으면 요청을 확인할 수 없으므로 불일치로 처리
+    private record Stored(String fingerprint, String value) {
+        static Stored parse(String raw) {
+            if (raw.length() <= FINGERPRINT_LENGTH || raw.charAt(FINGERPRINT_LENGTH) != ':') {
+                throw new IdempotencyKeyMismatchException();
+            }
+            return new Stored(raw.substring(0, FINGERPRINT_LENGTH), raw.substring(FINGERPRINT_LENGTH + 1));
+        }
+
+        void verify(String fingerprint) {
+            if (!this.fingerprint.equals(fingerprint)) {
+                throw new IdempotencyKeyMismatchException();
+            }
+        }
+    }
+
+    public IdempotencyStore(StringRedisTemplate redisTemplate,
+                            ObjectMapper objectMapper,
+                            AccountLaneExecutor accountLaneExecutor,
+                            @Value("${everybank.idempotency.response-ttl-hours:24}") long responseTtlHours,
+                            @Value("${everybank.idempotency.pending-ttl-seconds:30}") long pendingTtlSeconds,
+                            @Value("${everybank.idempotency.local-max-size:10000}") long localMaxSize,
+                            @Value("${everybank.idempotency.local-ttl-minutes:10}") long localTtlMinutes) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.responseTtl = Duration.ofHours(responseTtlHours);
+        // 처리 중 표시는 레인 대기 상한 + 실행 시간 동안 유지 (레인에서 기다리는 사이 만료되어 다른 노드가 다시 실행하지 않도록)
+        this.pendingTtl = accountLaneExecutor.getWaitTimeout().plusSeconds(pendingTtlSeconds);
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(localTtlMinutes))
+                .build();
+    }
+
+    // 키가 없으면 그대로 실행, 있으면 처음 한 번만 실행하고 이후에는 저장된 응답 반환
+    // request: 요청 본문 (지문 계산용)
+    public <T> T execute(Long userId, String endpoint, String idempotencyKey, Object request,
+                         Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        String cacheKey = KEY_PREFIX + userId + ":" + endpoint + ":" + idempotencyKey;
+        String fingerprint = fingerprint(endpoint, request);
+
+        // 1. 노드 내 캐시에 완료된 응답이 있으면 바로 반환
+        String cached = completed.getIfPresent(cacheKey);
+        if (cached != null) {
+            Stored stored = Stored.parse(cached);
+            stored.verify(fingerprint);
+            log.debug("중복 요청 응답 재사용 (local) - {}", cacheKey);
+            return read(stored.value(), responseType);
+        }
+
+        // 2. 같은 노드에서 실행 중이면 그 결과를 기다림
+        InFlight mine = new InFlight(fingerprint, new CompletableFuture<>());
+        InFlight running = inFlight.putIfAbsent(cacheKey, mine);
+        if (running != null) {
+            if (!running.fingerprint().equals(fingerprint)) {
+                throw new IdempotencyKeyMismatchException();
+            }
+            log.debug("동시 중복 요청 합류 - {}", cacheKey);
+            return read(await(running.response()), responseType);
+        }
+
+        try {
+            // 3. Redis 선점 (다른 노드에서 완료/처리 중인지 확인)
+            String raw = claim(cacheKey, fingerprint);
+            if (raw != null) {
+                Stored stored = Stored.parse(raw);
+                stored.verify(fingerprint);
+                if (PENDING.equals(stored.value())) {
+                    throw new DuplicateRequestException();
+                }
+                log.debug("중복 요청 응답 재사용 (redis) - {}", cacheKey);
+                completed.put(cacheKey, raw);
+                mine.response().complete(stored.value());
+                return read(stored.value(), responseType);
+            }
+
+            // 4. 실제 실행 후 응답 저장
+            T response;
+            try {
+                response = action.get();
+            } catch (RuntimeException e) {
+                release(cacheKey);
+                throw e;
+            }
+
+            String json = write(response);
+            save(cacheKey, fingerprint + ":" + json);
+            completed.put(cacheKey, fingerprint + ":" + json);
+            mine.response().complete(json);
+            return response;
+        } catch (RuntimeException e) {
+            mine.response().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, mine);
+        }
+    }
+
+    // PENDING 선점 성공 시 null, 이미 값이 있으면 그 값 반환
+    private String claim(String cacheKey, String fingerprint) {
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(cacheKey, fingerprint + ":" + PENDING, pendingTtl);
+            if (Boolean.TRUE.equals(acquired)) {
+                return null;
+            }
+            String stored = redisTemplate.opsForValue().get(cacheKey);
+            // 조회 사이에 키가 만료된 경우 처리 중으로 간주 (클라이언트 재시도 유도)
+            return stored != null ? stored : fingerprint + ":" + PENDING;
+        } catch (DataAccessException e) {
+            // Redis 장애 시 노드 내 중복 제거만 적용하고 요청은 처리
+            log.warn("Idempotency 저장소(Redis) 조회 실패 - 노드 내 중복 제거만 적용: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void save(String cacheKey, String json) {
+        try {
+            redisTemplate.opsForValue().set(cacheKey, json, responseTtl);
+        } catch (DataAccessException e) {
+            log.warn("Idempotency 응답 저장 실패 - {}: {}", cacheKey, e.getMessage());
+        }
+    }
+
+    private void release(String cacheKey) {
+        try {
+            redisTemplate.delete(cacheKey);
+        } catch (DataAccessException e) {
+            log.warn("Idempotency 키 해제 실패 - {}: {}", cacheKey, e.getMessage());
+        }
+    }
+
+    // 메서드 + 경로 + 요청 본문(JSON) SHA-256 (요청 컨텍스트가 없으면 endpoint 로 대신함)
+    private String fingerprint(String endpoint, Object request) {
+        String target = endpoint;
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            target = attributes.getRequest().getMethod() + " " + attributes.getRequest().getRequestURI();
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(target.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("요청 지문 계산 실패", e);
+        }
+    }
+
+    private String await(CompletableFuture<String> running) {
+        try {
+            return running.get(pendingTtl.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // 먼저 들어온 요청과 같은 결과(예외)를 그대로 전달
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new DuplicateRequestException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("요청 대기 중 인터럽트 발생", e);
+        }
+    }
+
+    private String write(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        }
+    }
+
+    private <T> T read(String json, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(json, responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답 역직렬화 실패", e);
+        }
+    }
+}
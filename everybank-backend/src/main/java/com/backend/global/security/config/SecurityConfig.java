@@ -29,6 +29,8 @@ public class SecurityConfig {
                         (auth) -> auth
                                 .requestMatchers("/", "/join", "/login","/email_check/*", "product/**").permitAll()
                                 .requestMatchers("/admin").hasRole("ADMIN")
+                                // 배치 수동 실행/파티션 분리 등 운영용 엔드포인트 (모든 사용자 데이터에 영향)
+                                .requestMatchers("/api/test/**").hasRole("ADMIN")
                                 .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class); // 필터 추가
@@ -0,0 +1,87 @@
+package com.backend.domain.contract.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 상수 시간 적금 이자 엔진이 기존 회차별 반복 계산과 원 단위까지 같은지 무작위 계약으로 검증
+class SavingInterestEngineTest {
+
+    private static final long SEED = 20250101L;
+    private static final int CASES = 200_000;
+
+    private final SavingInterestEngine engine = new SavingInterestEngine(new CompoundFactorCache(() -> 36));
+
+    @Test
+    void interestMatchesPerInstallmentLoop() {
+        Random random = new Random(SEED);
+
+        for (int n = 0; n < CASES; n++) {
+            LocalDate contractDate = randomContractDate(random);
+            int term = 1 + random.nextInt(36);
+            LocalDate maturityDate = contractDate.plusMonths(term);
+            LocalDate currentDate = randomCurrentDate(random, contractDate, maturityDate);
+            int paymentCount = random.nextInt(term + 1);
+            long monthlyPayment = 1_000L * (1 + random.nextInt(3_000));
+            BigDecimal yearlyRate = BigDecimal.valueOf(random.nextInt(1_000), 2);
+            char rateType = random.nextBoolean() ? 'S' : 'M';
+
+            long expected = referenceInterest(monthlyPayment, yearlyRate, rateType,
+                    contractDate, currentDate, maturityDate, paymentCount);
+            long actual = engine.interest(monthlyPayment, yearlyRate.movePointRight(3).intValueExact(), rateType,
+                    contractDate, currentDate, maturityDate, paymentCount);
+
+            assertEquals(expected, actual, () -> String.format(
+                    "계약일 %s, 기준일 %s, 만기일 %s, 납입 %d회, 월 %d원, %s%% %s",
+                    contractDate, currentDate, maturityDate, paymentCount, monthlyPayment, yearlyRate, rateType));
+        }
+    }
+
+    // 월말 계약일(29~31일)과 윤년 2월이 자주 나오도록 편향
+    private LocalDate randomContractDate(Random random) {
+        int year = 2020 + random.nextInt(12);
+        int month = 1 + random.nextInt(12);
+        LocalDate firstDay = LocalDate.of(year, month, 1);
+        int day = random.nextInt(3) == 0
+                ? firstDay.lengthOfMonth() - random.nextInt(3)
+                : 1 + random.nextInt(firstDay.lengthOfMonth());
+        return firstDay.withDayOfMonth(day);
+    }
+
+    private LocalDate randomCurrentDate(Random random, LocalDate contractDate, LocalDate maturityDate) {
+        long from = contractDate.toEpochDay() - 10;
+        long to = maturityDate.toEpochDay() + 40;
+        return LocalDate.ofEpochDay(from + random.nextInt((int) (to - from + 1)));
+    }
+
+    // 기존 ContractInterestCalculator.calculateSavingInterestByActualPayments (회차별 반복)
+    private long referenceInterest(Long monthlyPayment, BigDecimal yearlyRate, char rateType,
+                                   LocalDate contractDate, LocalDate currentDate, LocalDate maturityDate,
+                                   Integer currentPaymentCount) {
+        double rate = yearlyRate.doubleValue() / 100.0;
+        double dailyRate = rate / 365.0;
+        long totalInterest = 0;
+
+        for (int i = 1; i <= currentPaymentCount; i++) {
+            LocalDate paymentDate = contractDate.plusMonths(i);
+            LocalDate endDate = currentDate.isBefore(maturityDate) ? currentDate : maturityDate;
+            long daysFromPayment = paymentDate.until(endDate).getDays();
+
+            if (daysFromPayment <= 0) continue;
+
+            long monthlyInterest;
+            if (rateType == 'S') {
+                monthlyInterest = Math.round(monthlyPayment * dailyRate * daysFromPayment);
+            } else {
+                double compound = Math.pow(1 + dailyRate, daysFromPayment);
+                monthlyInterest = Math.round(monthlyPayment * (compound - 1));
+            }
+            totalInterest += monthlyInterest;
+        }
+        return totalInterest;
+    }
+}
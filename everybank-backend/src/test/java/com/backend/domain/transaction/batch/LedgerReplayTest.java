@@ -0,0 +1,83 @@
+package com.backend.domain.transaction.batch;
+
+import com.backend.domain.transaction.domain.ReconciliationDrift;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 잔액 대사 판정 - 잔액 불일치와 거래 후 잔액 연결 끊김을 계좌 단위로 찾는지 검증
+class LedgerReplayTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 15, 4, 0);
+
+    private final LedgerReplay replay = new LedgerReplay(1L, NOW);
+
+    @Test
+    void matchingAccountsHaveNoDrift() {
+        replay.accept(1, 7_000L, 10_000L, 10_000L);
+        replay.accept(1, 7_000L, -3_000L, 7_000L);
+        replay.accept(2, 0L, null, null);
+        replay.finish();
+
+        assertEquals(2, replay.getAccounts());
+        assertTrue(replay.getDrifts().isEmpty());
+    }
+
+    @Test
+    void balanceDifferentFromPostingsIsDrift() {
+        replay.accept(1, 8_000L, 10_000L, 10_000L);
+        replay.accept(1, 8_000L, -3_000L, 7_000L);
+        replay.finish();
+
+        assertEquals(1, replay.getDrifts().size());
+        ReconciliationDrift drift = replay.getDrifts().get(0);
+        assertEquals(1, drift.getAccountId());
+        assertEquals(8_000L, drift.getAccountBalance());
+        assertEquals(7_000L, drift.getLedgerBalance());
+        assertEquals(7_000L, drift.getLastBalanceAfter());
+        assertEquals(2, drift.getPostingCount());
+        assertEquals(0, drift.getChainBreaks());
+        assertEquals(1L, drift.getRunId());
+        assertEquals(NOW, drift.getDetectedAt());
+    }
+
+    @Test
+    void brokenBalanceChainIsDriftEvenWhenTotalsMatch() {
+        // 두 번째 분개의 거래 후 잔액이 직전 잔액 + 금액과 다르고, 세 번째가 다시 맞춰 합계는 같음
+        replay.accept(1, 12_000L, 10_000L, 10_000L);
+        replay.accept(1, 12_000L, 1_000L, 12_000L);
+        replay.accept(1, 12_000L, 1_000L, 12_000L);
+        replay.finish();
+
+        assertEquals(1, replay.getDrifts().size());
+        ReconciliationDrift drift = replay.getDrifts().get(0);
+        assertEquals(12_000L, drift.getLedgerBalance());
+        assertEquals(2, drift.getChainBreaks());
+    }
+
+    @Test
+    void accountWithoutPostingsDriftsWhenBalanceIsNotZero() {
+        replay.accept(3, 5_000L, null, null);
+        replay.accept(4, 0L, null, null);
+        replay.finish();
+
+        assertEquals(2, replay.getAccounts());
+        assertEquals(1, replay.getDrifts().size());
+        ReconciliationDrift drift = replay.getDrifts().get(0);
+        assertEquals(3, drift.getAccountId());
+        assertEquals(0L, drift.getLedgerBalance());
+        assertEquals(0, drift.getPostingCount());
+    }
+
+    @Test
+    void finishIsIdempotent() {
+        replay.accept(1, 1_000L, 1_000L, 1_000L);
+        replay.finish();
+        replay.finish();
+
+        assertEquals(1, replay.getAccounts());
+    }
+}
@@ -0,0 +1,53 @@
+package com.backend.domain.transaction.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// 거래내역 keyset 커서 - encode/parse 왕복과 잘못된 입력 처리 검증
+class TransactionCursorTest {
+
+    @Test
+    void encodeAndParseRoundTrip() {
+        TransactionCursor cursor = new TransactionCursor(LocalDateTime.of(2025, 6, 15, 9, 30, 12, 345_000_000), 123_456_789L);
+
+        TransactionCursor parsed = TransactionCursor.parse(cursor.encode());
+
+        assertEquals(cursor.getCreatedAt(), parsed.getCreatedAt());
+        assertEquals(cursor.getTransactionId(), parsed.getTransactionId());
+    }
+
+    @Test
+    void roundTripKeepsWholeSecondsAndNanos() {
+        for (LocalDateTime createdAt : new LocalDateTime[]{
+                LocalDateTime.of(2025, 1, 1, 0, 0),
+                LocalDateTime.of(2025, 1, 1, 0, 0, 1),
+                LocalDateTime.of(2025, 12, 31, 23, 59, 59, 999_999_999)}) {
+            TransactionCursor parsed = TransactionCursor.parse(new TransactionCursor(createdAt, 1L).encode());
+            assertEquals(createdAt, parsed.getCreatedAt());
+        }
+    }
+
+    @Test
+    void missingCursorMeansFirstPage() {
+        assertSame(TransactionCursor.FIRST, TransactionCursor.parse(null));
+        assertSame(TransactionCursor.FIRST, TransactionCursor.parse(""));
+        assertSame(TransactionCursor.FIRST, TransactionCursor.parse("  "));
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        for (String cursor : new String[]{
+                "2025-06-15T09:30:12",
+                ",123",
+                "2025-06-15T09:30:12,",
+                "2025-06-15T09:30:12,abc",
+                "not-a-date,123"}) {
+            assertThrows(IllegalArgumentException.class, () -> TransactionCursor.parse(cursor), cursor);
+        }
+    }
+}
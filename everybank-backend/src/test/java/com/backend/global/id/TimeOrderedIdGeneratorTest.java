@@ -0,0 +1,61 @@
+package com.backend.global.id;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 시간순 ID - 한 밀리초에 순번을 다 써도 단조 증가하는지, 노드 ID 가 정해진 비트에 들어가는지 검증
+class TimeOrderedIdGeneratorTest {
+
+    private static final int IDS = 200_000;
+
+    @Test
+    void idsAreStrictlyIncreasing() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(3);
+
+        // 밀리초당 순번(128개)보다 훨씬 많이 발급 → 다음 밀리초를 당겨 쓰는 경로 포함
+        long previous = generator.nextId();
+        for (int i = 0; i < IDS; i++) {
+            long id = generator.nextId();
+            assertTrue(id > previous, () -> "ID 가 감소함: " + previous + " → " + id);
+            previous = id;
+        }
+    }
+
+    @Test
+    void nodeIdIsStoredAboveSequenceBits() {
+        for (int nodeId : new int[]{0, 1, 17, TimeOrderedIdGenerator.MAX_NODE_ID}) {
+            TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(nodeId);
+            for (int i = 0; i < 1_000; i++) {
+                long id = generator.nextId();
+                assertEquals(nodeId, (id >>> TimeOrderedIdGenerator.SEQUENCE_BITS) & TimeOrderedIdGenerator.MAX_NODE_ID);
+            }
+        }
+    }
+
+    @Test
+    void timestampBitsFollowTheClock() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(0);
+
+        long before = System.currentTimeMillis() - TimeOrderedIdGenerator.EPOCH;
+        long id = generator.nextId();
+        long after = System.currentTimeMillis() - TimeOrderedIdGenerator.EPOCH;
+
+        long timestamp = id >>> (TimeOrderedIdGenerator.NODE_BITS + TimeOrderedIdGenerator.SEQUENCE_BITS);
+        assertTrue(timestamp >= before && timestamp <= after, () -> "타임스탬프 " + timestamp + " ∉ [" + before + ", " + after + "]");
+    }
+
+    @Test
+    void idsFitInJavaScriptSafeIntegers() {
+        long id = new TimeOrderedIdGenerator(TimeOrderedIdGenerator.MAX_NODE_ID).nextId();
+        assertTrue(id < (1L << 53));
+    }
+
+    @Test
+    void rejectsNodeIdOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new TimeOrderedIdGenerator(-1));
+        assertThrows(IllegalArgumentException.class, () -> new TimeOrderedIdGenerator(TimeOrderedIdGenerator.MAX_NODE_ID + 1));
+    }
+}
@@ -0,0 +1,152 @@
+package com.backend.global.idempotency;
+
+import com.backend.global.concurrency.AccountLaneExecutor;
+import com.backend.global.exception.exceptions.DuplicateRequestException;
+import com.backend.global.exception.exceptions.IdempotencyKeyMismatchException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Idempotency-Key 저장소 - 요청 지문으로 같은 요청만 응답을 재사용하고 다른 요청은 거절하는지 검증 (Redis 는 mock)
+class IdempotencyStoreTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String ENDPOINT = "deposit";
+    private static final String KEY = "key-1";
+
+    private static final Map<String, Object> REQUEST = Map.of("accountId", 10, "amount", 1_000);
+    private static final Map<String, Object> OTHER_REQUEST = Map.of("accountId", 10, "amount", 2_000);
+
+    record Response(String value) {
+    }
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+    }
+
+    private IdempotencyStore newStore() {
+        return new IdempotencyStore(redisTemplate, objectMapper, new AccountLaneExecutor(100, 10), 24, 30, 1_000, 10);
+    }
+
+    private Response execute(IdempotencyStore store, Object request) {
+        return store.execute(USER_ID, ENDPOINT, KEY, request, Response.class,
+                () -> new Response("run-" + executions.incrementAndGet()));
+    }
+
+    // 한 번 실행해서 Redis 에 저장된 값 (지문:JSON)
+    private String storedValueOf(Object request) {
+        execute(newStore(), request);
+        ArgumentCaptor<String> value = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(anyString(), value.capture(), eq(Duration.ofHours(24)));
+        return value.getValue();
+    }
+
+    @Test
+    void sameRequestReusesFirstResponse() {
+        IdempotencyStore store = newStore();
+
+        Response first = execute(store, REQUEST);
+        Response second = execute(store, REQUEST);
+
+        assertEquals("run-1", first.value());
+        assertEquals(first, second);
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void differentRequestWithSameKeyIsRejected() {
+        IdempotencyStore store = newStore();
+        execute(store, REQUEST);
+
+        assertThrows(IdempotencyKeyMismatchException.class, () -> execute(store, OTHER_REQUEST));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void responseStoredByAnotherNodeIsReusedForSameRequest() {
+        String stored = storedValueOf(REQUEST);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get(anyString())).thenReturn(stored);
+
+        Response response = execute(newStore(), REQUEST);
+
+        assertEquals("run-1", response.value());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void responseStoredByAnotherNodeIsRejectedForDifferentRequest() {
+        String stored = storedValueOf(REQUEST);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get(anyString())).thenReturn(stored);
+
+        assertThrows(IdempotencyKeyMismatchException.class, () -> execute(newStore(), OTHER_REQUEST));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void valueWithoutFingerprintIsRejected() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get(anyString())).thenReturn("{\"value\":\"legacy\"}");
+
+        assertThrows(IdempotencyKeyMismatchException.class, () -> execute(newStore(), REQUEST));
+        assertEquals(0, executions.get());
+    }
+
+    @Test
+    void pendingOnAnotherNodeIsDuplicate() {
+        String fingerprint = storedValueOf(REQUEST).substring(0, 64);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get(anyString())).thenReturn(fingerprint + ":PENDING");
+
+        assertThrows(DuplicateRequestException.class, () -> execute(newStore(), REQUEST));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void failedActionReleasesKeyForRetry() {
+        IdempotencyStore store = newStore();
+
+        assertThrows(IllegalStateException.class, () -> store.execute(USER_ID, ENDPOINT, KEY, REQUEST, Response.class,
+                () -> {
+                    throw new IllegalStateException("실패");
+                }));
+        verify(redisTemplate).delete(anyString());
+
+        assertEquals("run-1", execute(store, REQUEST).value());
+    }
+
+    @Test
+    void pendingMarkerOutlivesLaneWait() {
+        execute(newStore(), REQUEST);
+
+        // 레인 대기 상한(10s) + 처리 시간(30s)
+        verify(valueOperations).setIfAbsent(anyString(), anyString(), eq(Duration.ofSeconds(40)));
+    }
+}